@@ -8,16 +8,23 @@ import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSDeclarationType;
 import com.blueveery.springrest2ts.tsmodel.TSDecorator;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
 import com.blueveery.springrest2ts.tsmodel.TSField;
 import com.blueveery.springrest2ts.tsmodel.TSFunction;
 import com.blueveery.springrest2ts.tsmodel.TSJsonLiteral;
 import com.blueveery.springrest2ts.tsmodel.TSLiteral;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
 import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
 import com.blueveery.springrest2ts.tsmodel.TSVariable;
 import com.blueveery.springrest2ts.tsmodel.generics.TSClassReference;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * Created by tomaszw on 10.01.2020.
@@ -37,6 +44,12 @@ public class ModelClassesToTsAngular2JsonApiConverter
 
     TSVariable modelsVariable;
 
+    private boolean generateQueryParamsHelpers;
+    private final TSType tsNever = new TSSimpleType("never");
+    private final TSType queryParamsType = new TSSimpleType("{ [param: string]: string }");
+    private final Map<TSClass, TSElementAlias> fieldNamesAliasMap = new IdentityHashMap<>();
+    private final Map<TSClass, TSElementAlias> relationshipNamesAliasMap = new IdentityHashMap<>();
+
     public ModelClassesToTsAngular2JsonApiConverter(ObjectMapper objectMapper) {
         this(objectMapper, new NoChangeClassNameMapper());
     }
@@ -62,6 +75,26 @@ public class ModelClassesToTsAngular2JsonApiConverter
         this.modelsVariable = modelsVariable;
     }
 
+    public boolean isGenerateQueryParamsHelpers() {
+        return generateQueryParamsHelpers;
+    }
+
+    /**
+     * When set, for each model class there are generated unions of its field and relationship names
+     * and functions which create JSON:API sparse fieldset (fields[type]) and include query params
+     */
+    public void setGenerateQueryParamsHelpers(boolean generateQueryParamsHelpers) {
+        this.generateQueryParamsHelpers = generateQueryParamsHelpers;
+    }
+
+    public TSElementAlias getFieldNamesAlias(TSClass tsClass) {
+        return fieldNamesAliasMap.get(tsClass);
+    }
+
+    public TSElementAlias getRelationshipNamesAlias(TSClass tsClass) {
+        return relationshipNamesAliasMap.get(tsClass);
+    }
+
     public void createModelsVariable(String modelsVariableName, TSModule tsModuleForModelsVariable) {
         TSVariable modelsVariable = new TSVariable(modelsVariableName, tsModuleForModelsVariable, TSDeclarationType.CONST, TypeMapper.tsObject, new TSJsonLiteral());
         tsModuleForModelsVariable.addScopedElement(modelsVariable);
@@ -75,6 +108,9 @@ public class ModelClassesToTsAngular2JsonApiConverter
             TSDecorator jsonApiModelConfigDecorator = createJsonApiModelConfigDecorator(javaType, tsClass);
             tsClass.getTsDecoratorList().add(jsonApiModelConfigDecorator);
             tsClass.addScopedTypeUsage(jsonApiModelConfigFunction);
+            if (generateQueryParamsHelpers) {
+                addQueryParamsHelpers(tsClass, jsonApiModelConfigDecorator);
+            }
         }
     }
 
@@ -87,6 +123,66 @@ public class ModelClassesToTsAngular2JsonApiConverter
         addAngular2JsonApiDecorators(property, tsField);
     }
 
+    private void addQueryParamsHelpers(TSClass tsClass, TSDecorator jsonApiModelConfigDecorator) {
+        TSElementAlias fieldNamesAlias = getOrCreateNamesAlias(fieldNamesAliasMap, tsClass, "Field");
+        TSElementAlias relationshipNamesAlias = getOrCreateNamesAlias(relationshipNamesAliasMap, tsClass, "Relationship");
+        TSUnion fieldNames = (TSUnion) fieldNamesAlias.getAliasedType();
+        TSUnion relationshipNames = (TSUnion) relationshipNamesAlias.getAliasedType();
+
+        TSClass parentClass = tsClass.getExtendsClass() != null ? tsClass.getExtendsClass().getReferencedType() : null;
+        if (parentClass != null && parentClass != jsonApiModelClass && !parentClass.getModule().isExternal()) {
+            TSElementAlias parentFieldNamesAlias = getOrCreateNamesAlias(fieldNamesAliasMap, parentClass, "Field");
+            TSElementAlias parentRelationshipNamesAlias = getOrCreateNamesAlias(relationshipNamesAliasMap, parentClass, "Relationship");
+            fieldNames.getJoinedTsElementList().add(new TSSimpleType(parentFieldNamesAlias.getName()));
+            relationshipNames.getJoinedTsElementList().add(new TSSimpleType(parentRelationshipNamesAlias.getName()));
+            tsClass.getModule().scopedTypeUsage(parentFieldNamesAlias);
+            tsClass.getModule().scopedTypeUsage(parentRelationshipNamesAlias);
+        }
+        for (TSField tsField : tsClass.getTsFields()) {
+            if (tsField.getName().startsWith("\"")) {
+                continue;
+            }
+            TSLiteral fieldName = new TSLiteral("", TypeMapper.tsString, tsField.getName());
+            fieldNames.getJoinedTsElementList().add(fieldName);
+            if (tsField.getTsDecoratorList().stream().anyMatch(d -> d == hasManyDecorator || d == belongsToDecorator)) {
+                relationshipNames.getJoinedTsElementList().add(fieldName);
+            }
+        }
+        if (fieldNames.getJoinedTsElementList().isEmpty()) {
+            fieldNames.getJoinedTsElementList().add(tsNever);
+        }
+        if (relationshipNames.getJoinedTsElementList().isEmpty()) {
+            relationshipNames.getJoinedTsElementList().add(tsNever);
+        }
+
+        String functionPrefix = Character.toLowerCase(tsClass.getName().charAt(0)) + tsClass.getName().substring(1);
+        TSJsonLiteral jsonApiModelConfigParam = (TSJsonLiteral) jsonApiModelConfigDecorator.getTsLiteralList().get(0);
+        String typeName = ((TSLiteral) jsonApiModelConfigParam.getFieldMap().get("type")).getValue();
+        addQueryParamsFunction(tsClass, functionPrefix + "Fields", "fields", fieldNamesAlias,
+                "{'fields[" + typeName + "]': fields.join(',')}");
+        addQueryParamsFunction(tsClass, functionPrefix + "Includes", "relationships", relationshipNamesAlias,
+                "{include: relationships.join(',')}");
+    }
+
+    private TSElementAlias getOrCreateNamesAlias(Map<TSClass, TSElementAlias> aliasMap, TSClass tsClass, String suffix) {
+        TSElementAlias namesAlias = aliasMap.get(tsClass);
+        if (namesAlias == null) {
+            namesAlias = new TSElementAlias(tsClass.getName() + suffix, tsClass.getModule(), new TSUnion());
+            aliasMap.put(tsClass, namesAlias);
+            tsClass.getModule().addScopedElement(namesAlias);
+        }
+        return namesAlias;
+    }
+
+    private void addQueryParamsFunction(TSClass tsClass, String name, String parameterName, TSElementAlias namesAlias, String queryParams) {
+        TSFunction queryParamsFunction = new TSFunction(name, tsClass.getModule(), queryParamsType,
+                (writer, tsFunction) -> writer.write("    return " + queryParams + ";"));
+        queryParamsFunction.getParameterList().add(
+                new TSParameter("..." + parameterName, new TSArray(new TSSimpleType(namesAlias.getName())), null, null)
+        );
+        tsClass.getModule().addScopedElement(queryParamsFunction);
+    }
+
     private TSDecorator createJsonApiModelConfigDecorator(Class javaClass, TSClass tsClass) {
         TSDecorator jsonApiModelConfigDecorator = new TSDecorator(jsonApiModelConfigFunction);
         TSJsonLiteral jsonApiModelConfigParam = new TSJsonLiteral();
@@ -7,6 +7,7 @@ import com.blueveery.springrest2ts.tests.model.KeyboardInterface;
 import com.blueveery.springrest2ts.tests.model.Product;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSDecorator;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
 import com.blueveery.springrest2ts.tsmodel.TSField;
 import com.blueveery.springrest2ts.tsmodel.TSInterface;
 import com.blueveery.springrest2ts.tsmodel.TSJsonLiteral;
@@ -16,7 +17,9 @@ import com.blueveery.springrest2ts.tsmodel.TSVariable;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import org.junit.Test;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.stream.Collectors;
@@ -123,4 +126,36 @@ public class ModelClassesToTsAngular2JsonApiConverterTest extends BaseTest<Jacks
         TSVariable modelsVariable = modelClassesToTsAngular2JsonApiConverter.getModelsVariable();
         assertThat(((TSJsonLiteral) modelsVariable.getValue()).getFieldMap().keySet()).containsAll(classNames);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void queryParamsHelpersShouldUseFieldAndRelationshipNames() throws IOException {
+        objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+        objectMapper.setAllAccessMethodsVisibility(JsonAutoDetect.Visibility.NONE);
+        ModelClassesToTsAngular2JsonApiConverter converter = (ModelClassesToTsAngular2JsonApiConverter) this.modelClassesConverter;
+        converter.setGenerateQueryParamsHelpers(true);
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        TSClass product = (TSClass) findTSComplexElement(tsModules, Product.class.getSimpleName());
+
+        TSElementAlias relationshipNames = converter.getRelationshipNamesAlias(product);
+        assertThat(relationshipNames.getAliasedType().getName()).isEqualTo("'extendedKeyboards' | 'keyboard'");
+        assertThat(converter.getFieldNamesAlias(product).getAliasedType().getName()).contains("'name'", "'keyboard'");
+
+        StringWriter stringWriter = new StringWriter();
+        BufferedWriter writer = new BufferedWriter(stringWriter);
+        product.getModule().write(writer);
+        writer.flush();
+        assertThat(stringWriter.toString())
+                .contains("export function productFields(...fields: ProductField[]): { [param: string]: string } {\n    return {'fields[products]': fields.join(',')};")
+                .contains("export function productIncludes(...relationships: ProductRelationship[]): { [param: string]: string } {\n    return {include: relationships.join(',')};");
+    }
+
+    @Test
+    public void subclassFieldNamesShouldIncludeParentFieldNames() throws IOException {
+        ModelClassesToTsAngular2JsonApiConverter converter = (ModelClassesToTsAngular2JsonApiConverter) this.modelClassesConverter;
+        converter.setGenerateQueryParamsHelpers(true);
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        TSClass extendedKeyboard = (TSClass) findTSComplexElement(tsModules, ExtendedKeyboard.class.getSimpleName());
+        assertThat(converter.getFieldNamesAlias(extendedKeyboard).getAliasedType().getName()).startsWith("KeyboardField");
+        assertThat(converter.getRelationshipNamesAlias(extendedKeyboard).getAliasedType().getName()).startsWith("KeyboardRelationship");
+    }
+}
@@ -0,0 +1,99 @@
+package com.blueveery.springrest2ts.benchmarks;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.benchmarks.ctrls.OrderController;
+import com.blueveery.springrest2ts.benchmarks.model.Order;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypePackageFilter;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing of single REST method by implementation generator, TypeScript model is converted once in setup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodEmissionBenchmark {
+
+    @Param({"fetch", "angular"})
+    public String implementationGeneratorName;
+
+    @Param({"getOrder", "findOrders", "createOrder", "updateOrder", "deleteOrder"})
+    public String methodName;
+
+    private TSMethod tsMethod;
+
+    @Setup
+    public void setUp() throws IOException {
+        ImplementationGenerator implementationGenerator = "angular".equals(implementationGeneratorName)
+                ? new Angular4ImplementationGenerator() : new FetchBasedImplementationGenerator();
+        Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+        tsGenerator.setModelClassesCondition(new JavaTypePackageFilter(Order.class.getPackage()));
+        tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+        tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(OrderController.class));
+        tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+        Set<String> javaPackageSet = new HashSet<>();
+        javaPackageSet.add(Order.class.getPackage().getName());
+        javaPackageSet.add(OrderController.class.getPackage().getName());
+        for (TSModule tsModule : tsGenerator.convert(javaPackageSet)) {
+            for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                if (tsScopedElement instanceof TSComplexElement && tsScopedElement.getMappedFromJavaTypeSet().contains(OrderController.class)) {
+                    for (TSMethod nextTsMethod : ((TSComplexElement) tsScopedElement).getTsMethods()) {
+                        if (nextTsMethod.getName().equals(methodName)) {
+                            tsMethod = nextTsMethod;
+                        }
+                    }
+                }
+            }
+        }
+        if (tsMethod == null) {
+            throw new IllegalStateException("Method " + methodName + " was not generated");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        TypeMapper.resetTypeMapping();
+    }
+
+    @Benchmark
+    public String writeMethod() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        BufferedWriter writer = new BufferedWriter(stringWriter);
+        tsMethod.write(writer);
+        writer.flush();
+        return stringWriter.toString();
+    }
+}
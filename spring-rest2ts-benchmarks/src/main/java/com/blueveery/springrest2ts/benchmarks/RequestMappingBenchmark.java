@@ -0,0 +1,54 @@
+package com.blueveery.springrest2ts.benchmarks;
+
+import com.blueveery.springrest2ts.benchmarks.ctrls.OrderController;
+import com.blueveery.springrest2ts.spring.RequestMappingUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMappingBenchmark {
+
+    private List<Annotation> classAnnotations;
+    private final List<List<Annotation>> methodsAnnotations = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        classAnnotations = Arrays.asList(OrderController.class.getAnnotations());
+        for (Method method : OrderController.class.getDeclaredMethods()) {
+            methodsAnnotations.add(Arrays.asList(method.getAnnotations()));
+        }
+    }
+
+    @Benchmark
+    public void classRequestMapping(Blackhole blackhole) {
+        blackhole.consume(RequestMappingUtility.getRequestMapping(classAnnotations));
+    }
+
+    @Benchmark
+    public void methodsRequestMapping(Blackhole blackhole) {
+        for (List<Annotation> methodAnnotations : methodsAnnotations) {
+            blackhole.consume(RequestMappingUtility.getRequestMapping(methodAnnotations));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.blueveery.springrest2ts.benchmarks;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.benchmarks.corpus.CorpusGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.HasAnnotationJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.NotJavaTypeFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.report.GenerationPhase;
+import com.blueveery.springrest2ts.report.GenerationReport;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end benchmark which runs Rest2tsGenerator.generate over synthetic corpora of growing size and reports
+ * wall time, peak heap and allocated bytes. Scaling exponent is log(time ratio) / log(size ratio) between
+ * consecutive sizes, values close to 1 mean linear scaling.
+ * Arguments: comma separated sizes (default 1000,10000,50000) and optional CSV result file,
+ * system property measuredRuns sets number of measured runs for each size (default 3)
+ */
+public class ScalingBenchmark {
+
+    public static class Result {
+        public final int typeCount;
+        public final long classCount;
+        public final long wallTimeNanos;
+        public final long peakHeapBytes;
+        public final long allocatedBytes;
+
+        public Result(int typeCount, long classCount, long wallTimeNanos, long peakHeapBytes, long allocatedBytes) {
+            this.typeCount = typeCount;
+            this.classCount = classCount;
+            this.wallTimeNanos = wallTimeNanos;
+            this.peakHeapBytes = peakHeapBytes;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = Arrays.stream((args.length > 0 ? args[0] : "1000,10000,50000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        int measuredRuns = Integer.getInteger("measuredRuns", 3);
+        Path workDir = Files.createTempDirectory("rest2ts-corpus");
+
+        List<Result> results = new ArrayList<>();
+        try {
+            for (int size : sizes) {
+                results.add(run(size, measuredRuns, workDir.resolve("corpus-" + size)));
+            }
+        } finally {
+            tearDown(workDir);
+        }
+        printResults(results, System.out);
+        if (args.length > 1) {
+            writeCsv(results, Paths.get(args[1]));
+        }
+    }
+
+    public static Result run(int typeCount, int measuredRuns, Path corpusDir) throws IOException {
+        CorpusGenerator corpusGenerator = new CorpusGenerator();
+        corpusGenerator.setTypeCount(typeCount);
+        Path classesDir = corpusGenerator.create(corpusDir);
+        Path outputDir = corpusDir.resolve("ts");
+        try (URLClassLoader corpusClassLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, ScalingBenchmark.class.getClassLoader())) {
+            generate(typeCount, corpusClassLoader, outputDir);
+            List<Result> runs = new ArrayList<>();
+            for (int i = 0; i < measuredRuns; i++) {
+                runs.add(generate(typeCount, corpusClassLoader, outputDir));
+            }
+            runs.sort((r1, r2) -> Long.compare(r1.wallTimeNanos, r2.wallTimeNanos));
+            return runs.get(runs.size() / 2);
+        }
+    }
+
+    /**
+     * removes generated sources, classes and TypeScript output, corpus of 50k types takes hundreds of MB
+     */
+    public static void tearDown(Path workDir) throws IOException {
+        if (!Files.exists(workDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static Result generate(int typeCount, ClassLoader corpusClassLoader, Path outputDir) throws IOException {
+        TypeMapper.resetTypeMapping();
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+                heapPools.add(memoryPool);
+            }
+        }
+
+        JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+        objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+        Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+        tsGenerator.setClassLoader(corpusClassLoader);
+        tsGenerator.setModelClassesCondition(new NotJavaTypeFilter(new HasAnnotationJavaTypeFilter(RestController.class)));
+        tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+        tsGenerator.setRestClassesCondition(new HasAnnotationJavaTypeFilter(RestController.class));
+        tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new FetchBasedImplementationGenerator()));
+
+        long start = System.nanoTime();
+        tsGenerator.generate(Collections.singleton(CorpusGenerator.ROOT_PACKAGE), outputDir);
+        long wallTimeNanos = System.nanoTime() - start;
+
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean heapPool : heapPools) {
+            peakHeapBytes += heapPool.getPeakUsage().getUsed();
+        }
+        GenerationReport report = tsGenerator.getGenerationReport();
+        long allocatedBytes = 0;
+        for (GenerationPhase phase : report.getPhases()) {
+            allocatedBytes += Math.max(0, phase.getAllocatedBytes());
+        }
+        return new Result(typeCount, report.getCounter(GenerationReport.CLASSES_SCANNED), wallTimeNanos, peakHeapBytes, allocatedBytes);
+    }
+
+    public static void printResults(List<Result> results, PrintStream out) {
+        out.println(String.format("%10s %10s %12s %14s %14s %16s %10s",
+                "types", "classes", "time [ms]", "ms/1k types", "peak heap [MB]", "allocated [MB]", "exponent"));
+        Result previous = null;
+        for (Result result : results) {
+            String exponent = previous == null ? "-" : String.format("%.2f",
+                    Math.log((double) result.wallTimeNanos / previous.wallTimeNanos) / Math.log((double) result.typeCount / previous.typeCount));
+            out.println(String.format("%10d %10d %12d %14.2f %14d %16d %10s",
+                    result.typeCount, result.classCount, result.wallTimeNanos / 1_000_000,
+                    result.wallTimeNanos / 1_000_000.0 / result.typeCount * 1000,
+                    result.peakHeapBytes >> 20, result.allocatedBytes >> 20, exponent));
+            previous = result;
+        }
+    }
+
+    public static void writeCsv(List<Result> results, Path csvFile) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("types,classes,wallTimeNanos,peakHeapBytes,allocatedBytes");
+        for (Result result : results) {
+            lines.add(result.typeCount + "," + result.classCount + "," + result.wallTimeNanos + ","
+                    + result.peakHeapBytes + "," + result.allocatedBytes);
+        }
+        Files.write(csvFile, lines);
+    }
+}
@@ -0,0 +1,79 @@
+package com.blueveery.springrest2ts.benchmarks;
+
+import com.blueveery.springrest2ts.benchmarks.model.BaseEntity;
+import com.blueveery.springrest2ts.benchmarks.model.Customer;
+import com.blueveery.springrest2ts.benchmarks.model.Order;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeMapperBenchmark {
+
+    @SuppressWarnings("unused")
+    static class TypesHolder {
+        List<String> genericType;
+        Map<String, List<Set<Order>>> nestedType;
+    }
+
+    private Type genericType;
+    private Type nestedType;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        TSModule tsModule = new TSModule("model", Paths.get(""), false);
+        TypeMapper.registerTsType(Order.class, new TSInterface("Order", tsModule));
+        TypeMapper.complexTypeMapForClassHierarchy.put(BaseEntity.class, new TSInterface("BaseEntity", tsModule));
+        genericType = TypesHolder.class.getDeclaredField("genericType").getGenericType();
+        nestedType = TypesHolder.class.getDeclaredField("nestedType").getGenericType();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TypeMapper.resetTypeMapping();
+    }
+
+    @Benchmark
+    public TSType mapSimpleType() {
+        return TypeMapper.map(String.class);
+    }
+
+    @Benchmark
+    public TSType mapGenericType() {
+        return TypeMapper.map(genericType);
+    }
+
+    @Benchmark
+    public TSType mapNestedType() {
+        return TypeMapper.map(nestedType);
+    }
+
+    @Benchmark
+    public TSType mapHierarchyType() {
+        return TypeMapper.map(Customer.class);
+    }
+}
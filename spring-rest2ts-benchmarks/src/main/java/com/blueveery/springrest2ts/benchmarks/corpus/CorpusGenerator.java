@@ -0,0 +1,236 @@
+package com.blueveery.springrest2ts.benchmarks.corpus;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates and compiles synthetic code base: DTOs, enums, generic wrappers, deep class hierarchies, polymorphic
+ * Jackson @JsonSubTypes trees and Spring REST controllers. Model types are split into packages with typesPerPackage
+ * types, controllers are generated in addition to model types. Packages are compiled in order, DTOs reference
+ * DTO from previous package so generated TypeScript modules import each other
+ */
+public class CorpusGenerator {
+    public static final String ROOT_PACKAGE = "corpus";
+
+    private int typeCount = 1000;
+    private int typesPerPackage = 500;
+    private int hierarchyDepth = 5;
+    private int subTypesCount = 4;
+    private int dtosPerController = 20;
+
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    public void setTypeCount(int typeCount) {
+        this.typeCount = typeCount;
+    }
+
+    public int getTypesPerPackage() {
+        return typesPerPackage;
+    }
+
+    public void setTypesPerPackage(int typesPerPackage) {
+        this.typesPerPackage = typesPerPackage;
+    }
+
+    public int getHierarchyDepth() {
+        return hierarchyDepth;
+    }
+
+    public void setHierarchyDepth(int hierarchyDepth) {
+        this.hierarchyDepth = hierarchyDepth;
+    }
+
+    public int getSubTypesCount() {
+        return subTypesCount;
+    }
+
+    public void setSubTypesCount(int subTypesCount) {
+        this.subTypesCount = subTypesCount;
+    }
+
+    public int getDtosPerController() {
+        return dtosPerController;
+    }
+
+    public void setDtosPerController(int dtosPerController) {
+        this.dtosPerController = dtosPerController;
+    }
+
+    /**
+     * Generates and compiles corpus in given directory, returns directory with compiled classes
+     */
+    public Path create(Path corpusDir) throws IOException {
+        Path sourceDir = corpusDir.resolve("src");
+        Path classesDir = corpusDir.resolve("classes");
+        List<String> packageNames = generateSources(sourceDir);
+        compile(sourceDir, classesDir, packageNames);
+        return classesDir;
+    }
+
+    public List<String> generateSources(Path sourceDir) throws IOException {
+        List<String> packageNames = new ArrayList<>();
+        int remainingTypes = typeCount;
+        for (int packageIndex = 0; remainingTypes > 0; packageIndex++) {
+            int packageTypes = Math.min(typesPerPackage, remainingTypes);
+            generatePackage(sourceDir, packageIndex, packageTypes);
+            packageNames.add(packageName(packageIndex));
+            remainingTypes -= packageTypes;
+        }
+        return packageNames;
+    }
+
+    public void compile(Path sourceDir, Path classesDir, List<String> packageNames) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Java compiler is not available, corpus has to be generated on JDK");
+        }
+        Files.createDirectories(classesDir);
+        String classPath = classesDir + File.pathSeparator + System.getProperty("java.class.path");
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            for (String packageName : packageNames) {
+                List<File> sourceFiles;
+                try (Stream<Path> paths = Files.walk(sourceDir.resolve(packageName.replace('.', File.separatorChar)))) {
+                    sourceFiles = paths.filter(p -> p.toString().endsWith(".java")).map(Path::toFile).collect(Collectors.toList());
+                }
+                Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sourceFiles);
+                List<String> options = Arrays.asList("-d", classesDir.toString(), "-classpath", classPath, "-nowarn", "-parameters");
+                if (!compiler.getTask(null, fileManager, null, options, null, compilationUnits).call()) {
+                    throw new IllegalStateException("Compilation of corpus package " + packageName + " failed");
+                }
+            }
+        }
+    }
+
+    private String packageName(int packageIndex) {
+        return ROOT_PACKAGE + ".p" + packageIndex;
+    }
+
+    private void generatePackage(Path sourceDir, int packageIndex, int packageTypes) throws IOException {
+        String packageName = packageName(packageIndex);
+        Path modelDir = sourceDir.resolve(packageName.replace('.', File.separatorChar)).resolve("model");
+        Path ctrlsDir = modelDir.resolveSibling("ctrls");
+        Files.createDirectories(modelDir);
+        Files.createDirectories(ctrlsDir);
+
+        int enumsCount = Math.max(1, packageTypes / 10);
+        int wrappersCount = Math.max(1, packageTypes / 20);
+        int chainsCount = Math.max(1, packageTypes / 5 / hierarchyDepth);
+        int treesCount = Math.max(1, packageTypes * 15 / 100 / (subTypesCount + 1));
+        int dtosCount = Math.max(1, packageTypes - enumsCount - wrappersCount - chainsCount * hierarchyDepth - treesCount * (subTypesCount + 1));
+
+        String modelPackage = packageName + ".model";
+        for (int i = 0; i < enumsCount; i++) {
+            writeSource(modelDir, "Status" + i, "package " + modelPackage + ";\n\n"
+                    + "public enum Status" + i + " {\n    NEW, ACTIVE, SUSPENDED, CLOSED, ARCHIVED\n}\n");
+        }
+        for (int i = 0; i < wrappersCount; i++) {
+            writeSource(modelDir, "Wrapper" + i, "package " + modelPackage + ";\n\n"
+                    + "import java.util.List;\nimport java.util.Map;\n\n"
+                    + "public class Wrapper" + i + "<T> {\n"
+                    + "    public T value;\n"
+                    + "    public List<T> values;\n"
+                    + "    public Map<String, T> index;\n"
+                    + "    public long total;\n"
+                    + "}\n");
+        }
+        for (int chain = 0; chain < chainsCount; chain++) {
+            for (int level = 0; level < hierarchyDepth; level++) {
+                String className = "Level" + chain + "x" + level;
+                String extendsClause = level == 0 ? "" : " extends Level" + chain + "x" + (level - 1);
+                writeSource(modelDir, className, "package " + modelPackage + ";\n\n"
+                        + "public class " + className + extendsClause + " {\n"
+                        + "    public String level" + level + "Name;\n"
+                        + "    public int level" + level + "Value;\n"
+                        + "}\n");
+            }
+        }
+        for (int tree = 0; tree < treesCount; tree++) {
+            StringBuilder subTypes = new StringBuilder();
+            for (int subType = 1; subType <= subTypesCount; subType++) {
+                String subTypeName = "Shape" + tree + "x" + subType;
+                subTypes.append(subType == 1 ? "" : ",\n")
+                        .append("        @JsonSubTypes.Type(value = ").append(subTypeName).append(".class, name = \"")
+                        .append(subTypeName).append("\")");
+                writeSource(modelDir, subTypeName, "package " + modelPackage + ";\n\n"
+                        + "public class " + subTypeName + " extends Shape" + tree + " {\n"
+                        + "    public double size" + subType + ";\n"
+                        + "}\n");
+            }
+            writeSource(modelDir, "Shape" + tree, "package " + modelPackage + ";\n\n"
+                    + "import com.fasterxml.jackson.annotation.JsonSubTypes;\n"
+                    + "import com.fasterxml.jackson.annotation.JsonTypeInfo;\n\n"
+                    + "@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = \"type\")\n"
+                    + "@JsonSubTypes({\n" + subTypes + "\n})\n"
+                    + "public abstract class Shape" + tree + " {\n"
+                    + "    public String id;\n"
+                    + "}\n");
+        }
+        for (int i = 0; i < dtosCount; i++) {
+            String previousDto = "Dto" + Math.max(0, i - 1);
+            String previousPackageDto = packageIndex == 0 ? "" : "    public " + packageName(packageIndex - 1) + ".model.Dto0 previousPackageDto;\n";
+            writeSource(modelDir, "Dto" + i, "package " + modelPackage + ";\n\n"
+                    + "import java.util.Date;\nimport java.util.List;\nimport java.util.Map;\n\n"
+                    + "public class Dto" + i + " {\n"
+                    + "    public String name;\n"
+                    + "    public int count;\n"
+                    + "    public Date createdAt;\n"
+                    + "    public Status" + (i % enumsCount) + " status;\n"
+                    + "    public Wrapper" + (i % wrappersCount) + "<" + previousDto + "> wrapped;\n"
+                    + "    public List<Level" + (i % chainsCount) + "x" + (hierarchyDepth - 1) + "> levels;\n"
+                    + "    public Shape" + (i % treesCount) + " shape;\n"
+                    + "    public Map<String, " + previousDto + "> related;\n"
+                    + previousPackageDto
+                    + "}\n");
+        }
+
+        String ctrlsPackage = packageName + ".ctrls";
+        for (int controller = 0; controller * dtosPerController < dtosCount; controller++) {
+            StringBuilder methods = new StringBuilder();
+            int lastDto = Math.min(dtosCount, (controller + 1) * dtosPerController);
+            for (int dto = controller * dtosPerController; dto < lastDto; dto++) {
+                String dtoName = "Dto" + dto;
+                methods.append("    @GetMapping(\"dto").append(dto).append("/{id}\")\n")
+                        .append("    public ").append(dtoName).append(" get").append(dtoName).append("(@PathVariable Long id) {\n")
+                        .append("        return null;\n    }\n\n")
+                        .append("    @GetMapping(\"dto").append(dto).append("\")\n")
+                        .append("    public List<").append(dtoName).append("> find").append(dtoName)
+                        .append("(@RequestParam(required = false) Status").append(dto % enumsCount)
+                        .append(" status, @RequestParam int page) {\n")
+                        .append("        return null;\n    }\n\n")
+                        .append("    @PostMapping(\"dto").append(dto).append("\")\n")
+                        .append("    public Wrapper").append(dto % wrappersCount).append("<").append(dtoName).append("> save").append(dtoName)
+                        .append("(@RequestBody ").append(dtoName).append(" entity) {\n")
+                        .append("        return null;\n    }\n\n")
+                        .append("    @DeleteMapping(\"dto").append(dto).append("/{id}\")\n")
+                        .append("    public void delete").append(dtoName).append("(@PathVariable Long id) {\n    }\n\n");
+            }
+            writeSource(ctrlsDir, "Controller" + controller, "package " + ctrlsPackage + ";\n\n"
+                    + "import " + modelPackage + ".*;\n"
+                    + "import org.springframework.web.bind.annotation.*;\n\n"
+                    + "import java.util.List;\n\n"
+                    + "@RestController\n"
+                    + "@RequestMapping(\"api/p" + packageIndex + "/c" + controller + "\")\n"
+                    + "public class Controller" + controller + " {\n\n"
+                    + methods
+                    + "}\n");
+        }
+    }
+
+    private void writeSource(Path dir, String className, String source) throws IOException {
+        Files.write(dir.resolve(className + ".java"), source.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package com.blueveery.springrest2ts.benchmarks.ctrls;
+
+import com.blueveery.springrest2ts.benchmarks.model.Order;
+import com.blueveery.springrest2ts.benchmarks.model.OrderStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/orders")
+public class OrderController {
+
+    @GetMapping("{id}")
+    public Order getOrder(@PathVariable Long id) {
+        return null;
+    }
+
+    @GetMapping
+    public List<Order> findOrders(@RequestParam(required = false) OrderStatus status, @RequestParam int page, @RequestParam int size) {
+        return null;
+    }
+
+    @PostMapping
+    public Order createOrder(@RequestBody Order order) {
+        return order;
+    }
+
+    @PutMapping("{id}")
+    public Order updateOrder(@PathVariable Long id, @RequestBody Order order) {
+        return order;
+    }
+
+    @DeleteMapping("{id}")
+    public void deleteOrder(@PathVariable Long id) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.blueveery.springrest2ts.benchmarks.gate;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.report.GenerationPhase;
+import com.blueveery.springrest2ts.report.GenerationReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Wall time and allocated bytes of each generation phase and size of generated code. Phases writing single modules
+ * are summed into one "write" phase. After one warm-up run generation is repeated and minimum of each phase is taken,
+ * since minimum is the least noisy estimate of cost
+ */
+public class GenerationMeasurement {
+    public static final String TOTAL = "total";
+    private static final String WRITE_PHASE_PREFIX = "write:";
+
+    public interface GeneratorFactory {
+        Rest2tsGenerator create();
+    }
+
+    private final String scenario;
+    private final Map<String, Long> wallTimeNanos = new LinkedHashMap<>();
+    private final Map<String, Long> allocatedBytes = new LinkedHashMap<>();
+    private long outputBytes;
+
+    public GenerationMeasurement(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public static GenerationMeasurement measure(
+            String scenario, GeneratorFactory generatorFactory, Set<String> packagesNames, Path outputDir, int runs
+    ) throws IOException {
+        GenerationMeasurement measurement = new GenerationMeasurement(scenario);
+        for (int i = 0; i <= runs; i++) {
+            TypeMapper.resetTypeMapping();
+            Rest2tsGenerator tsGenerator = generatorFactory.create();
+            tsGenerator.generate(packagesNames, outputDir);
+            if (i > 0) {
+                measurement.addRun(tsGenerator.getGenerationReport());
+            }
+        }
+        TypeMapper.resetTypeMapping();
+        measurement.outputBytes = countBytes(outputDir);
+        return measurement;
+    }
+
+    private void addRun(GenerationReport report) {
+        Map<String, Long> runWallTimeNanos = new LinkedHashMap<>();
+        Map<String, Long> runAllocatedBytes = new LinkedHashMap<>();
+        for (GenerationPhase phase : report.getPhases()) {
+            String phaseName = phase.getName().startsWith(WRITE_PHASE_PREFIX) ? "write" : phase.getName();
+            runWallTimeNanos.merge(phaseName, phase.getWallTimeNanos(), Long::sum);
+            runAllocatedBytes.merge(phaseName, Math.max(0, phase.getAllocatedBytes()), Long::sum);
+        }
+        runWallTimeNanos.put(TOTAL, runWallTimeNanos.values().stream().mapToLong(Long::longValue).sum());
+        runAllocatedBytes.put(TOTAL, runAllocatedBytes.values().stream().mapToLong(Long::longValue).sum());
+        runWallTimeNanos.forEach((phase, value) -> wallTimeNanos.merge(phase, value, Math::min));
+        runAllocatedBytes.forEach((phase, value) -> allocatedBytes.merge(phase, value, Math::min));
+    }
+
+    private static long countBytes(Path outputDir) throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            return paths.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        }
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public Map<String, Long> getWallTimeNanos() {
+        return Collections.unmodifiableMap(wallTimeNanos);
+    }
+
+    public Map<String, Long> getAllocatedBytes() {
+        return Collections.unmodifiableMap(allocatedBytes);
+    }
+
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    public void setOutputBytes(long outputBytes) {
+        this.outputBytes = outputBytes;
+    }
+
+    public void setPhase(String phase, long phaseWallTimeNanos, long phaseAllocatedBytes) {
+        wallTimeNanos.put(phase, phaseWallTimeNanos);
+        allocatedBytes.put(phase, phaseAllocatedBytes);
+    }
+}
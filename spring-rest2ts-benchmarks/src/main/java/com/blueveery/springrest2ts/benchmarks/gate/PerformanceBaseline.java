@@ -0,0 +1,170 @@
+package com.blueveery.springrest2ts.benchmarks.gate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Recorded measurements of generation scenarios with tolerances. Phase regresses if it allocates more than baseline
+ * by more than relative tolerance and absolute slack, which skips noise of very short phases, generated code regresses
+ * if it is bigger than baseline by more than its tolerance. Wall time depends on machine and its load, so slower phases
+ * are only reported as warnings unless wall time check is enabled, which makes sense only for baseline recorded
+ * on the same machine. Settings could be overridden by system properties with "performance." prefix, for example
+ * -Dperformance.check.wallTime=true -Dperformance.tolerance.wallTime=1.0
+ */
+public class PerformanceBaseline {
+    public static final String CHECK_WALL_TIME = "check.wallTime";
+    public static final String WALL_TIME_TOLERANCE = "tolerance.wallTime";
+    public static final String ALLOCATED_BYTES_TOLERANCE = "tolerance.allocatedBytes";
+    public static final String OUTPUT_BYTES_TOLERANCE = "tolerance.outputBytes";
+    public static final String WALL_TIME_SLACK = "slack.wallTimeNanos";
+    public static final String ALLOCATED_BYTES_SLACK = "slack.allocatedBytes";
+
+    private final Properties properties = new Properties();
+
+    public PerformanceBaseline() {
+        properties.setProperty(CHECK_WALL_TIME, "false");
+        properties.setProperty(WALL_TIME_TOLERANCE, "0.5");
+        properties.setProperty(ALLOCATED_BYTES_TOLERANCE, "0.2");
+        properties.setProperty(OUTPUT_BYTES_TOLERANCE, "0.02");
+        properties.setProperty(WALL_TIME_SLACK, "20000000");
+        properties.setProperty(ALLOCATED_BYTES_SLACK, "4194304");
+    }
+
+    public static PerformanceBaseline load(Path baselineFile) throws IOException {
+        PerformanceBaseline baseline = new PerformanceBaseline();
+        if (Files.exists(baselineFile)) {
+            try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+                baseline.properties.load(reader);
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Entries are sorted and timestamp comment is skipped to keep diffs of baseline file readable
+     */
+    public void store(Path baselineFile) throws IOException {
+        StringWriter writer = new StringWriter();
+        properties.store(writer, null);
+        List<String> lines = new ArrayList<>();
+        for (String line : writer.toString().split("\\R")) {
+            if (!line.startsWith("#")) {
+                lines.add(line);
+            }
+        }
+        Collections.sort(lines);
+        lines.add(0, "# Generation performance baseline, update with -DupdatePerformanceBaseline=true");
+        Files.write(baselineFile, lines, StandardCharsets.UTF_8);
+    }
+
+    public boolean contains(String scenario) {
+        return properties.containsKey(scenario + ".outputBytes");
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    public void setProperty(String key, String value) {
+        properties.setProperty(key, value);
+    }
+
+    public void record(GenerationMeasurement measurement) {
+        String scenario = measurement.getScenario();
+        properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(scenario + ".phase."))
+                .forEach(properties::remove);
+        for (Map.Entry<String, Long> phaseTime : measurement.getWallTimeNanos().entrySet()) {
+            properties.setProperty(phaseKey(scenario, phaseTime.getKey(), "wallTimeNanos"), phaseTime.getValue().toString());
+        }
+        for (Map.Entry<String, Long> phaseAllocation : measurement.getAllocatedBytes().entrySet()) {
+            properties.setProperty(phaseKey(scenario, phaseAllocation.getKey(), "allocatedBytes"), phaseAllocation.getValue().toString());
+        }
+        properties.setProperty(scenario + ".outputBytes", Long.toString(measurement.getOutputBytes()));
+    }
+
+    /**
+     * Returns regressions of given measurement, diff table of all phases and wall time warnings are appended to the report
+     */
+    public List<String> compare(GenerationMeasurement measurement, StringBuilder report) {
+        String scenario = measurement.getScenario();
+        double wallTimeTolerance = getTolerance(WALL_TIME_TOLERANCE);
+        double allocatedBytesTolerance = getTolerance(ALLOCATED_BYTES_TOLERANCE);
+        double outputBytesTolerance = getTolerance(OUTPUT_BYTES_TOLERANCE);
+        long wallTimeSlack = (long) getTolerance(WALL_TIME_SLACK);
+        long allocatedBytesSlack = (long) getTolerance(ALLOCATED_BYTES_SLACK);
+        boolean checkWallTime = Boolean.parseBoolean(getSetting(CHECK_WALL_TIME));
+
+        List<String> regressions = new ArrayList<>();
+        List<String> wallTimeRegressions = new ArrayList<>();
+        report.append(String.format("Scenario %s compared to baseline:%n", scenario));
+        report.append(String.format("%-28s %12s %12s %8s %14s %14s %8s%n",
+                "phase", "time [ms]", "base [ms]", "change", "alloc [KB]", "base [KB]", "change"));
+        for (Map.Entry<String, Long> phaseTime : measurement.getWallTimeNanos().entrySet()) {
+            String phase = phaseTime.getKey();
+            long wallTime = phaseTime.getValue();
+            long allocated = measurement.getAllocatedBytes().getOrDefault(phase, 0L);
+            long baselineWallTime = getLong(phaseKey(scenario, phase, "wallTimeNanos"));
+            long baselineAllocated = getLong(phaseKey(scenario, phase, "allocatedBytes"));
+            report.append(String.format("%-28s %12.1f %12.1f %8s %14d %14d %8s%n",
+                    phase, wallTime / 1e6, baselineWallTime / 1e6, change(wallTime, baselineWallTime),
+                    allocated >> 10, baselineAllocated >> 10, change(allocated, baselineAllocated)));
+            if (isRegression(wallTime, baselineWallTime, wallTimeTolerance, wallTimeSlack)) {
+                wallTimeRegressions.add(String.format("phase %s takes %.1f ms, baseline %.1f ms", phase, wallTime / 1e6, baselineWallTime / 1e6));
+            }
+            if (isRegression(allocated, baselineAllocated, allocatedBytesTolerance, allocatedBytesSlack)) {
+                regressions.add(String.format("phase %s allocates %d KB, baseline %d KB", phase, allocated >> 10, baselineAllocated >> 10));
+            }
+        }
+        if (checkWallTime) {
+            regressions.addAll(wallTimeRegressions);
+        } else {
+            for (String wallTimeRegression : wallTimeRegressions) {
+                report.append(String.format("warning: %s%n", wallTimeRegression));
+            }
+        }
+        long baselineOutputBytes = getLong(scenario + ".outputBytes");
+        report.append(String.format("generated code: %d bytes, baseline %d bytes, change %s%n",
+                measurement.getOutputBytes(), baselineOutputBytes, change(measurement.getOutputBytes(), baselineOutputBytes)));
+        if (isRegression(measurement.getOutputBytes(), baselineOutputBytes, outputBytesTolerance, 0)) {
+            regressions.add(String.format("generated code has %d bytes, baseline %d bytes", measurement.getOutputBytes(), baselineOutputBytes));
+        }
+        return regressions;
+    }
+
+    private boolean isRegression(long value, long baselineValue, double tolerance, long slack) {
+        return value > baselineValue * (1 + tolerance) && value - baselineValue > slack;
+    }
+
+    private String change(long value, long baselineValue) {
+        if (baselineValue == 0) {
+            return "new";
+        }
+        return String.format("%+.0f%%", (value - baselineValue) * 100.0 / baselineValue);
+    }
+
+    private double getTolerance(String key) {
+        return Double.parseDouble(getSetting(key));
+    }
+
+    private String getSetting(String key) {
+        return System.getProperty("performance." + key, properties.getProperty(key));
+    }
+
+    private long getLong(String key) {
+        return Long.parseLong(properties.getProperty(key, "0"));
+    }
+
+    private String phaseKey(String scenario, String phase, String metric) {
+        return scenario + ".phase." + phase + "." + metric;
+    }
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+public class Address {
+    public String street;
+    public String city;
+    public String zipCode;
+    public String country;
+}
@@ -0,0 +1,22 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+public abstract class BaseEntity<ID> {
+    private ID id;
+    private long version;
+
+    public ID getId() {
+        return id;
+    }
+
+    public void setId(ID id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
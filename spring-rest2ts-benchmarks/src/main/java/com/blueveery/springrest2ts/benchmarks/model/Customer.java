@@ -0,0 +1,12 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+import java.util.List;
+import java.util.Map;
+
+public class Customer extends BaseEntity<Long> {
+    public String firstName;
+    public String lastName;
+    public String email;
+    public List<Address> addresses;
+    public Map<String, String> attributes;
+}
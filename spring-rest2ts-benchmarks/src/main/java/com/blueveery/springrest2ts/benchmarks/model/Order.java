@@ -0,0 +1,63 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class Order extends BaseEntity<Long> {
+    private Customer customer;
+    private List<OrderLine> lines;
+    private Set<String> tags;
+    private OrderStatus status;
+    private Date createdAt;
+    private Optional<String> comment;
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+        this.customer = customer;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLine> lines) {
+        this.lines = lines;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Optional<String> getComment() {
+        return comment;
+    }
+
+    public void setComment(Optional<String> comment) {
+        this.comment = comment;
+    }
+}
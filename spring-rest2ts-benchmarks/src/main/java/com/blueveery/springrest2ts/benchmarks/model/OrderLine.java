@@ -0,0 +1,9 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+import java.math.BigDecimal;
+
+public class OrderLine {
+    public String productCode;
+    public int quantity;
+    public BigDecimal price;
+}
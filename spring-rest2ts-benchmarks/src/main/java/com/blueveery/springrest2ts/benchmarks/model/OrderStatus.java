@@ -0,0 +1,5 @@
+package com.blueveery.springrest2ts.benchmarks.model;
+
+public enum OrderStatus {
+    NEW, PAID, SHIPPED, CANCELLED
+}
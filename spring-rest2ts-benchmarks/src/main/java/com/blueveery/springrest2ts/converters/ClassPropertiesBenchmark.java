@@ -0,0 +1,52 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.benchmarks.model.Customer;
+import com.blueveery.springrest2ts.benchmarks.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placed in converters package to access protected ModelClassesAbstractConverter.getClassProperties
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassPropertiesBenchmark {
+
+    @Param({"jackson", "gson"})
+    public String objectMapperName;
+
+    private ObjectMapper objectMapper;
+    private ModelClassesAbstractConverter modelClassesConverter;
+
+    @Setup
+    public void setUp() {
+        objectMapper = "gson".equals(objectMapperName) ? new GsonObjectMapper() : new JacksonObjectMapper();
+        modelClassesConverter = new ModelClassesToTsInterfacesConverter(objectMapper);
+    }
+
+    @Benchmark
+    public SortedSet<Property> orderProperties() {
+        return modelClassesConverter.getClassProperties(Order.class, objectMapper);
+    }
+
+    @Benchmark
+    public SortedSet<Property> customerProperties() {
+        return modelClassesConverter.getClassProperties(Customer.class, objectMapper);
+    }
+}
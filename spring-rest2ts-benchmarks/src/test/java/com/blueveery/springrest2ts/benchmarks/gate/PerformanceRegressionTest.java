@@ -0,0 +1,131 @@
+package com.blueveery.springrest2ts.benchmarks.gate;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.benchmarks.corpus.CorpusGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.examples.ctrls.spring.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.model.core.ParametrizedBaseDTO;
+import com.blueveery.springrest2ts.filters.ExtendsJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.HasAnnotationJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.NotJavaTypeFilter;
+import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares generation of synthetic corpus and of examples module with checked-in baseline, allocations and size
+ * of generated code are checked, wall time only with -Dperformance.check.wallTime=true.
+ * Run with -DupdatePerformanceBaseline=true to record new baseline
+ */
+public class PerformanceRegressionTest {
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceRegressionTest.class);
+    private static final Path BASELINE_FILE = Paths.get("src/test/resources/performance-baseline.properties");
+    private static final int CORPUS_TYPE_COUNT = 2000;
+    private static final int MEASURED_RUNS = 3;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void corpusGenerationDoesNotRegress() throws IOException {
+        CorpusGenerator corpusGenerator = new CorpusGenerator();
+        corpusGenerator.setTypeCount(CORPUS_TYPE_COUNT);
+        Path corpusDir = temporaryFolder.getRoot().toPath();
+        Path classesDir = corpusGenerator.create(corpusDir);
+        try (URLClassLoader corpusClassLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, getClass().getClassLoader())) {
+            GenerationMeasurement measurement = GenerationMeasurement.measure("corpus", () -> {
+                JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+                objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+                Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+                tsGenerator.setClassLoader(corpusClassLoader);
+                tsGenerator.setModelClassesCondition(new NotJavaTypeFilter(new HasAnnotationJavaTypeFilter(RestController.class)));
+                tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+                tsGenerator.setRestClassesCondition(new HasAnnotationJavaTypeFilter(RestController.class));
+                tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new FetchBasedImplementationGenerator()));
+                return tsGenerator;
+            }, Collections.singleton(CorpusGenerator.ROOT_PACKAGE), corpusDir.resolve("ts"), MEASURED_RUNS);
+            checkRegressions(measurement);
+        }
+    }
+
+    @Test
+    public void examplesGenerationDoesNotRegress() throws IOException {
+        GenerationMeasurement measurement = GenerationMeasurement.measure("examples", () -> {
+            JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+            objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+            Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+            tsGenerator.setModelClassesCondition(new ExtendsJavaTypeFilter(ParametrizedBaseDTO.class));
+            tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+            tsGenerator.setRestClassesCondition(new ExtendsJavaTypeFilter(BaseCtrl.class));
+            tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new Angular4ImplementationGenerator()));
+            return tsGenerator;
+        }, Collections.singleton("com.blueveery.springrest2ts.examples"), temporaryFolder.newFolder("ts").toPath(), MEASURED_RUNS);
+        checkRegressions(measurement);
+    }
+
+    @Test
+    public void regressionsAreReportedPerPhase() {
+        PerformanceBaseline baseline = new PerformanceBaseline();
+        GenerationMeasurement recorded = new GenerationMeasurement("test");
+        recorded.setPhase("filtering", 100_000_000L, 10_000_000L);
+        recorded.setPhase("convert:model", 5_000_000L, 1_000_000L);
+        recorded.setOutputBytes(1000);
+        baseline.record(recorded);
+
+        GenerationMeasurement current = new GenerationMeasurement("test");
+        current.setPhase("filtering", 200_000_000L, 10_000_000L);
+        current.setPhase("convert:model", 9_000_000L, 50_000_000L);
+        current.setOutputBytes(1010);
+        StringBuilder report = new StringBuilder();
+        List<String> regressions = baseline.compare(current, report);
+
+        assertThat(regressions).containsExactly("phase convert:model allocates 48828 KB, baseline 976 KB");
+        assertThat(report.toString()).contains("filtering").contains("convert:model").contains("+100%")
+                .contains("warning: phase filtering takes 200.0 ms, baseline 100.0 ms");
+
+        baseline.setProperty(PerformanceBaseline.CHECK_WALL_TIME, "true");
+        assertThat(baseline.compare(current, new StringBuilder())).containsExactlyInAnyOrder(
+                "phase filtering takes 200.0 ms, baseline 100.0 ms",
+                "phase convert:model allocates 48828 KB, baseline 976 KB"
+        );
+        baseline.setProperty(PerformanceBaseline.CHECK_WALL_TIME, "false");
+
+        current.setOutputBytes(1100);
+        assertThat(baseline.compare(current, new StringBuilder()))
+                .contains("generated code has 1100 bytes, baseline 1000 bytes");
+    }
+
+    private void checkRegressions(GenerationMeasurement measurement) throws IOException {
+        PerformanceBaseline baseline = PerformanceBaseline.load(BASELINE_FILE);
+        if (Boolean.getBoolean("updatePerformanceBaseline")) {
+            baseline.record(measurement);
+            baseline.store(BASELINE_FILE);
+            return;
+        }
+        Assume.assumeTrue("No baseline for scenario " + measurement.getScenario() + ", record it with -DupdatePerformanceBaseline=true",
+                baseline.contains(measurement.getScenario()));
+        StringBuilder report = new StringBuilder();
+        List<String> regressions = baseline.compare(measurement, report);
+        logger.info(report.toString());
+        assertThat(regressions).as(report.toString()).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.blueveery.springrest2ts.examples.ctrls.jaxrs;
+
+import com.blueveery.springrest2ts.examples.ctrls.jaxrs.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.ctrls.jaxrs.core.ResponsePayload;
+import com.blueveery.springrest2ts.examples.model.OrderDTO;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+
+@Path("api/order-report")
+public class OrderReportCtrl implements BaseCtrl<OrderDTO> {
+
+    @GET
+    @Path("/{id}/async")
+    @Produces(MediaType.APPLICATION_JSON)
+    public CompletionStage<OrderDTO> getOrderAsync(@PathParam("id") int id) {
+        return CompletableFuture.completedFuture(new OrderDTO());
+    }
+
+    @GET
+    @Path("/{id}/suspended")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ResponsePayload(OrderDTO.class)
+    public void getOrderSuspended(@PathParam("id") int id, @Suspended AsyncResponse asyncResponse) {
+        asyncResponse.resume(new OrderDTO());
+    }
+
+    @GET
+    @Path("/{id}/response")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ResponsePayload(OrderDTO.class)
+    public Response getOrderResponse(@PathParam("id") int id) {
+        return Response.ok(new OrderDTO()).build();
+    }
+
+    @GET
+    @Path("/{id}/raw-response")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getRawOrderResponse(@PathParam("id") int id) {
+        return Response.ok(new OrderDTO()).build();
+    }
+
+    @GET
+    @Path("/export")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public StreamingOutput exportOrders() {
+        return output -> output.write(new byte[0]);
+    }
+}
@@ -0,0 +1,15 @@
+package com.blueveery.springrest2ts.examples.ctrls.jaxrs.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares payload type of methods which return Response or resume AsyncResponse
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ResponsePayload {
+    Class<?> value();
+}
@@ -0,0 +1,26 @@
+package com.blueveery.springrest2ts.examples.ctrls.spring;
+
+
+import com.blueveery.springrest2ts.examples.ctrls.spring.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.model.ManufacturerDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * endpoint param named readAhead clashes with read ahead param of generated page iterable method
+ */
+@Controller
+@RequestMapping("api/manufacturer-search")
+public class ManufacturerSearchCtrl implements BaseCtrl<ManufacturerDTO> {
+
+    @RequestMapping(method = RequestMethod.GET, produces = {"application/json"})
+    @ResponseBody
+    public Page<ManufacturerDTO> searchManufacturers(@RequestParam String name, @RequestParam int readAhead, Pageable pageable) {
+        return Page.empty(pageable);
+    }
+}
@@ -6,6 +6,7 @@ import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
 import com.blueveery.springrest2ts.converters.JaxRsRestToTsConverter;
 import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
 import com.blueveery.springrest2ts.examples.ctrls.jaxrs.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.ctrls.jaxrs.core.ResponsePayload;
 import com.blueveery.springrest2ts.examples.model.core.ParametrizedBaseDTO;
 import com.blueveery.springrest2ts.filters.ExtendsJavaTypeFilter;
 import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
@@ -13,10 +14,14 @@ import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
 import com.blueveery.springrest2ts.naming.SubstringClassNameMapper;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 public class JaxRsGenerationTest extends TsCodeGenerationsTest {
@@ -33,7 +38,50 @@ public class JaxRsGenerationTest extends TsCodeGenerationsTest {
         jaxRsConverterTest(implementationGenerator);
     }
 
+    @Test
+    public void completionStageIsUnwrapped() throws IOException {
+        createJaxRsGenerator(new FetchBasedImplementationGenerator());
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "OrderReportCtrl");
+        assertThat(serviceModule).contains("getOrderAsync(id: number): Promise<OrderDTO>");
+    }
+
+    @Test
+    public void payloadOfResponseAndAsyncResponseIsTakenFromAnnotation() throws IOException {
+        JaxRsRestToTsConverter jaxRsRestToTsConverter = createJaxRsGenerator(new FetchBasedImplementationGenerator());
+        jaxRsRestToTsConverter.setPayloadTypeAnnotation(ResponsePayload.class, "value");
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "OrderReportCtrl");
+        assertThat(serviceModule).contains("getOrderSuspended(id: number): Promise<OrderDTO>");
+        assertThat(serviceModule).contains("getOrderResponse(id: number): Promise<OrderDTO>");
+        assertThat(serviceModule).contains("getRawOrderResponse(id: number): Promise<any>");
+        assertThat(serviceModule).doesNotContain("asyncResponse");
+    }
+
+    @Test
+    public void payloadOfResponseIsAnyWithoutAnnotation() throws IOException {
+        createJaxRsGenerator(new FetchBasedImplementationGenerator());
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "OrderReportCtrl");
+        assertThat(serviceModule).contains("getOrderSuspended(id: number): Promise<any>");
+        assertThat(serviceModule).contains("getOrderResponse(id: number): Promise<any>");
+    }
+
+    @Test
+    public void streamingOutputIsReadAsBlob() throws IOException {
+        createJaxRsGenerator(new FetchBasedImplementationGenerator());
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "OrderReportCtrl");
+        assertThat(serviceModule).contains("exportOrders(): Promise<Blob>");
+        assertThat(serviceModule).contains(".then(res => res.blob())");
+    }
+
     private void jaxRsConverterTest(ImplementationGenerator implementationGenerator) throws IOException {
+        createJaxRsGenerator(implementationGenerator);
+        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+    }
+
+    private JaxRsRestToTsConverter createJaxRsGenerator(ImplementationGenerator implementationGenerator) {
         tsGenerator = new Rest2tsGenerator();
 
         //set java type filters
@@ -49,8 +97,6 @@ public class JaxRsGenerationTest extends TsCodeGenerationsTest {
         ClassNameMapper classNameMapper = new SubstringClassNameMapper("ResourceImpl", "Service");
         JaxRsRestToTsConverter jaxRsRestToTsConverter = new JaxRsRestToTsConverter(implementationGenerator, classNameMapper);
         tsGenerator.setRestClassesConverter(jaxRsRestToTsConverter);
-
-
-        tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
+        return jaxRsRestToTsConverter;
     }
 }
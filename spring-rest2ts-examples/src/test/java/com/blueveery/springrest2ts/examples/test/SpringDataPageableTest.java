@@ -3,9 +3,14 @@ package com.blueveery.springrest2ts.examples.test;
 
 import com.blueveery.springrest2ts.converters.SpringDataRestConversionExtension;
 import com.blueveery.springrest2ts.naming.SubstringClassNameMapper;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 public class SpringDataPageableTest extends TsCodeGenerationsTest {
@@ -19,4 +24,79 @@ public class SpringDataPageableTest extends TsCodeGenerationsTest {
 
         tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
     }
+
+    @Test
+    public void pageIterablesAreNotGeneratedByDefault() throws IOException {
+        modelClassesConverter.setClassNameMapper(new SubstringClassNameMapper("DTO", ""));
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        restClassesConverter.getConversionExtensionList().add(new SpringDataRestConversionExtension());
+
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "ManufacturerService");
+        assertThat(serviceModule).contains("findManufacturers(");
+        assertThat(serviceModule).doesNotContain("findManufacturersIterable").doesNotContain("iteratePages");
+    }
+
+    @Test
+    public void pageIterablesWalkPagesOfPagedMethods() throws IOException {
+        modelClassesConverter.setClassNameMapper(new SubstringClassNameMapper("DTO", ""));
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        SpringDataRestConversionExtension springDataRestConversionExtension = new SpringDataRestConversionExtension();
+        springDataRestConversionExtension.setGeneratePageIterables(true);
+        restClassesConverter.getConversionExtensionList().add(springDataRestConversionExtension);
+
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String pageableModule = writeModuleContaining(tsModules, "Pageable");
+        assertThat(pageableModule).contains("export function iteratePages<T>(pageable: Pageable, fetchPage: (pageable: Pageable) => any, readAhead: number = 1): AsyncIterable<T>");
+        assertThat(pageableModule).contains("pendingPages.push(toPromise(fetchPage({...pageable, pageNumber: nextPageNumber++})));");
+
+        String serviceModule = writeModuleContaining(tsModules, "ManufacturerService");
+        assertThat(serviceModule).contains("findManufacturersIterable(pageable: Pageable, readAhead: number = 1): AsyncIterable<Manufacturer>");
+        assertThat(serviceModule).contains("return iteratePages<Manufacturer>(pageable, (pageable: Pageable) => this.findManufacturers(pageable), readAhead);");
+    }
+
+    @Test
+    public void readAheadParamOfPageIterableDoesNotClashWithEndpointParam() throws IOException {
+        modelClassesConverter.setClassNameMapper(new SubstringClassNameMapper("DTO", ""));
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        SpringDataRestConversionExtension springDataRestConversionExtension = new SpringDataRestConversionExtension();
+        springDataRestConversionExtension.setGeneratePageIterables(true);
+        restClassesConverter.getConversionExtensionList().add(springDataRestConversionExtension);
+
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String serviceModule = writeModuleContaining(tsModules, "ManufacturerSearchService");
+        assertThat(serviceModule).contains("searchManufacturersIterable(name: string, readAhead: number, pageable: Pageable, readAhead2: number = 1)");
+        assertThat(serviceModule).contains("(pageable: Pageable) => this.searchManufacturers(name, readAhead, pageable), readAhead2);");
+    }
+
+    /**
+     * ManufacturerScrollCtrl is compiled by spring-data-3 profile (java 17+)
+     */
+    @Test
+    public void controllerReturningWindow() throws IOException {
+        Assume.assumeTrue("scroll API requires spring data 3.1+", isClassPresent("org.springframework.data.domain.Window"));
+        modelClassesConverter.setClassNameMapper(new SubstringClassNameMapper("DTO", ""));
+        restClassesConverter.setClassNameMapper(new SubstringClassNameMapper("Ctrl", "Service"));
+        restClassesConverter.getConversionExtensionList().add(new SpringDataRestConversionExtension());
+
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String windowModule = writeModuleContaining(tsModules, "Window");
+        assertThat(windowModule).contains("export interface Window <T>");
+        assertThat(windowModule).contains("content: T[];").contains("last: boolean;");
+        assertThat(windowModule).contains("export interface ScrollPosition");
+        assertThat(windowModule).contains("export function nextKeysetPosition<T>(window: Window<T>, ...keys: (keyof T)[]): KeysetScrollPosition | undefined");
+
+        String serviceModule = writeModuleContaining(tsModules, "ManufacturerScrollService");
+        assertThat(serviceModule).contains("scrollManufacturers(position?: ScrollPosition, limit: number = 10): Observable<Window<Manufacturer>");
+        assertThat(serviceModule).contains("'keyset.' + key").contains("'keysetDirection'").contains("'limit'");
+    }
+
+    protected boolean isClassPresent(String className) {
+        try {
+            Class.forName(className);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
 }
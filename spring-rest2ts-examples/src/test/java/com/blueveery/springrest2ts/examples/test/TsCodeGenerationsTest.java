@@ -11,12 +11,16 @@ import com.blueveery.springrest2ts.examples.model.core.ParametrizedBaseDTO;
 import com.blueveery.springrest2ts.filters.ExtendsJavaTypeFilter;
 import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
 import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.util.FileSystemUtils;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -24,6 +28,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.UUID;
 
 public class TsCodeGenerationsTest {
@@ -38,6 +43,7 @@ public class TsCodeGenerationsTest {
     @Before
     public void setUp() throws IOException {
         FileSystemUtils.deleteRecursively(OUTPUT_DIR_PATH.resolve("OUTPUT_DIR_PATH").toFile());
+        TypeMapper.resetTypeMapping();
 
         tsGenerator = new Rest2tsGenerator();
 
@@ -67,4 +73,19 @@ public class TsCodeGenerationsTest {
         tsGenerator.getCustomTypeMapping().put(LocalDate.class, new TSArray(TypeMapper.tsNumber));
         tsGenerator.generate(javaPackageSet, OUTPUT_DIR_PATH);
     }
+
+    protected String writeModuleContaining(SortedSet<TSModule> tsModules, String scopedElementName) throws IOException {
+        for (TSModule tsModule : tsModules) {
+            for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                if (scopedElementName.equals(tsScopedElement.getName())) {
+                    StringWriter stringWriter = new StringWriter();
+                    BufferedWriter writer = new BufferedWriter(stringWriter);
+                    tsModule.write(writer);
+                    writer.flush();
+                    return stringWriter.toString();
+                }
+            }
+        }
+        throw new IllegalStateException("There is no module with " + scopedElementName);
+    }
 }
@@ -0,0 +1,29 @@
+package com.blueveery.springrest2ts.examples.ctrls.spring;
+
+
+import com.blueveery.springrest2ts.examples.ctrls.spring.core.BaseCtrl;
+import com.blueveery.springrest2ts.examples.model.ManufacturerDTO;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Collections;
+
+/**
+ * compiled only with spring-data-3 profile, Window is available since spring data 3.1,
+ * ScrollPosition is resolved from request params by application argument resolver
+ */
+@Controller
+@RequestMapping("api/manufacturer-scroll")
+public class ManufacturerScrollCtrl implements BaseCtrl<ManufacturerDTO> {
+
+    @RequestMapping(method = RequestMethod.GET, produces = {"application/json"})
+    @ResponseBody
+    public Window<ManufacturerDTO> scrollManufacturers(ScrollPosition position, @RequestParam(defaultValue = "10") int limit) {
+        return Window.from(Collections.singletonList(new ManufacturerDTO()), index -> ScrollPosition.forward(Collections.singletonMap("id", index)));
+    }
+}
@@ -10,12 +10,18 @@ import com.blueveery.springrest2ts.converters.NullableTypesStrategy;
 import com.blueveery.springrest2ts.converters.RestClassConverter;
 import com.blueveery.springrest2ts.converters.TsModuleCreatorConverter;
 import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+import com.blueveery.springrest2ts.events.GeneratorEvents;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
+import com.blueveery.springrest2ts.filters.FilterDecision;
+import com.blueveery.springrest2ts.filters.FilterEvaluationContext;
 import com.blueveery.springrest2ts.filters.JavaTypeFilter;
 import com.blueveery.springrest2ts.filters.OrFilterOperator;
 import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.report.GenerationPhase;
+import com.blueveery.springrest2ts.report.GenerationReport;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.blueveery.springrest2ts.tsmodel.TSType;
@@ -39,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 
 /**
  * Created by tomaszw on 30.07.2017.
@@ -62,6 +70,16 @@ public class Rest2tsGenerator {
     private ModelClassesAbstractConverter modelClassesConverter;
     private RestClassConverter restClassesConverter;
 
+    private ClassLoader classLoader = this.getClass().getClassLoader();
+    private Predicate<TSModule> conversionScope = tsModule -> true;
+
+    private boolean filterTracingEnabled;
+    private FilterEvaluationContext modelClassesFilterContext;
+    private FilterEvaluationContext restClassesFilterContext;
+
+    private GenerationReport generationReport;
+    private String generationReportFileName;
+
     public Map<Class<?>, TSType> getCustomTypeMapping() {
         return customTypeMapping;
     }
@@ -114,58 +132,152 @@ public class Rest2tsGenerator {
         this.nullableTypesStrategy = nullableTypesStrategy;
     }
 
+    /**
+     * Report of the last conversion, it contains timings of generation phases and counters of classes and created elements
+     */
+    public GenerationReport getGenerationReport() {
+        return generationReport;
+    }
+
+    public String getGenerationReportFileName() {
+        return generationReportFileName;
+    }
+
+    /**
+     * If set, generation report is written as JSON file with given name into output directory
+     */
+    public void setGenerationReportFileName(String generationReportFileName) {
+        this.generationReportFileName = generationReportFileName;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Class loader used to scan java packages, by default it is class loader which loaded generator
+     */
+    public void setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public Predicate<TSModule> getConversionScope() {
+        return conversionScope;
+    }
+
+    /**
+     * Only types from modules in conversion scope are fully converted, types from other modules are only registered
+     * (preConverted) so they could be referenced and imported. Only modules in scope are written by generate
+     */
+    public void setConversionScope(Predicate<TSModule> conversionScope) {
+        this.conversionScope = conversionScope;
+    }
+
+    public boolean isFilterTracingEnabled() {
+        return filterTracingEnabled;
+    }
+
+    /**
+     * If enabled, decisions of model and REST classes filters (with nested filters) are logged and collected
+     * in filter contexts, counters of accepted and rejected classes for each filter are collected always
+     */
+    public void setFilterTracingEnabled(boolean filterTracingEnabled) {
+        this.filterTracingEnabled = filterTracingEnabled;
+    }
+
+    public FilterEvaluationContext getModelClassesFilterContext() {
+        return modelClassesFilterContext;
+    }
+
+    public FilterEvaluationContext getRestClassesFilterContext() {
+        return restClassesFilterContext;
+    }
+
     public SortedSet<TSModule> convert(Set<String> inputPackagesNames) throws IOException {
+        generationReport = new GenerationReport();
         Set<Class> modelClasses = new HashSet<>();
         Set<Class> restClasses = new HashSet<>();
         Set<Class> enumClasses = new HashSet<>();
         Set<String> packagesNames = new HashSet<>(inputPackagesNames);
+        GenerationPhase phase = generationReport.startPhase("extensionsSetup");
         applyConversionExtension(packagesNames);
+        generationReport.endPhase(phase);
 
         logger.info("Scanning model classes");
+        phase = generationReport.startPhase("classLoading");
         List<Class> loadedClasses= loadClasses(packagesNames);
-        searchClasses(loadedClasses, modelClassesCondition, modelClasses, enumClasses, logger);
+        generationReport.endPhase(phase);
+        phase = generationReport.startPhase("filtering");
+        modelClassesFilterContext = new FilterEvaluationContext(filterTracingEnabled);
+        searchClasses(loadedClasses, modelClassesCondition, modelClassesFilterContext, modelClasses, enumClasses, logger);
         logger.info("Scanning rest controllers classes");
-        searchClasses(loadedClasses, restClassesCondition, restClasses, enumClasses, logger);
+        restClassesFilterContext = new FilterEvaluationContext(filterTracingEnabled);
+        searchClasses(loadedClasses, restClassesCondition, restClassesFilterContext, restClasses, enumClasses, logger);
+        generationReport.endPhase(phase);
+        generationReport.setCounter(GenerationReport.CLASSES_SCANNED, loadedClasses.size());
+        generationReport.setCounter(GenerationReport.MODEL_CLASSES_ACCEPTED, modelClasses.size());
+        generationReport.setCounter(GenerationReport.REST_CLASSES_ACCEPTED, restClasses.size());
+        generationReport.setCounter(GenerationReport.ENUM_CLASSES_FOUND, enumClasses.size());
 
 
+        phase = generationReport.startPhase("typeMappingSetup");
         registerCustomTypesMapping(customTypeMapping);
         registerCustomTypesMappingActions(customTypeMappingActions);
         TypeMapper.complexTypeMapForClassHierarchy.putAll(customTypeMappingForClassHierarchy);
+        generationReport.endPhase(phase);
 
+        phase = generationReport.startPhase("exploration");
         exploreRestClasses(restClasses, modelClassesCondition, modelClasses);
         exploreModelClasses(modelClasses, restClassesCondition);
+        generationReport.endPhase(phase);
 
+        phase = generationReport.startPhase("modulesMapping");
         convertModules(enumClasses, javaPackageToTsModuleConverter);
         convertModules(modelClasses, javaPackageToTsModuleConverter);
         convertModules(restClasses, javaPackageToTsModuleConverter);
+        generationReport.endPhase(phase);
 
-        convertTypes(enumClasses, javaPackageToTsModuleConverter, enumConverter);
+        convertTypes(enumClasses, javaPackageToTsModuleConverter, enumConverter, "enum");
         if (!modelClasses.isEmpty()) {
             if (modelClassesConverter == null) {
                 throw new IllegalStateException("Model classes converter is not set");
             }
-            convertTypes(modelClasses, javaPackageToTsModuleConverter, modelClassesConverter);
+            convertTypes(modelClasses, javaPackageToTsModuleConverter, modelClassesConverter, "model");
         }
 
         if (!restClasses.isEmpty()) {
             if (restClassesConverter == null) {
                 throw new IllegalStateException("Rest classes converter is not set");
             }
-            convertTypes(restClasses, javaPackageToTsModuleConverter, restClassesConverter);
+            convertTypes(restClasses, javaPackageToTsModuleConverter, restClassesConverter, "rest");
         }
 
+        generationReport.countTsElements(javaPackageToTsModuleConverter.getTsModules());
         return javaPackageToTsModuleConverter.getTsModules();
     }
 
     public SortedSet<TSModule> generate(Set<String> inputPackagesNames, Path outputDir) throws IOException {
         SortedSet<TSModule> tsModules = convert(inputPackagesNames);
-        writeTSModules(javaPackageToTsModuleConverter.getTsModules(), outputDir, logger);
+        SortedSet<TSModule> tsModulesInScope = new TreeSet<>();
+        for (TSModule tsModule : tsModules) {
+            if (conversionScope.test(tsModule)) {
+                tsModulesInScope.add(tsModule);
+            }
+        }
+        writeTSModules(tsModulesInScope, outputDir, logger);
+        if (generationReportFileName != null) {
+            generationReport.writeJson(outputDir.resolve(generationReportFileName));
+        }
         return tsModules;
     }
 
     public void writeTSModules(SortedSet<TSModule> tsModuleSortedSet, Path outputDir, Logger logger) throws IOException {
         for (TSModule tsModule : tsModuleSortedSet) {
+            GenerationPhase phase = generationReport != null ? generationReport.startPhase("write:" + tsModule.getName()) : null;
             tsModule.writeModule(outputDir, logger);
+            if (phase != null) {
+                generationReport.endPhase(phase);
+            }
         }
     }
 
@@ -250,21 +362,32 @@ public class Rest2tsGenerator {
         }
     }
 
-    private void convertTypes(Set<Class> javaTypes, JavaPackageToTsModuleConverter tsModuleSortedMap, ComplexTypeConverter complexTypeConverter) {
+    private void convertTypes(Set<Class> javaTypes, JavaPackageToTsModuleConverter tsModuleSortedMap, ComplexTypeConverter complexTypeConverter, String kind) {
+        GenerationPhase phase = generationReport.startPhase("preConverted:" + kind);
         Set<Class> preConvertedTypes = new HashSet<>();
         for (Class javaType : javaTypes) {
             if (complexTypeConverter.preConverted(tsModuleSortedMap, javaType)) {
                 preConvertedTypes.add(javaType);
             }
         }
+        generationReport.endPhase(phase);
 
+        phase = generationReport.startPhase("convertInheritance:" + kind);
         for (Class javaType : preConvertedTypes) {
             complexTypeConverter.convertInheritance(javaType);
         }
+        generationReport.endPhase(phase);
 
+        phase = generationReport.startPhase("convert:" + kind);
         for (Class javaType : preConvertedTypes) {
+            if (!conversionScope.test(tsModuleSortedMap.getTsModule(javaType))) {
+                continue;
+            }
+            GeneratorEvent conversionEvent = GeneratorEvents.beginTypeConversion();
             complexTypeConverter.convert(javaType, nullableTypesStrategy);
+            GeneratorEvents.endTypeConversion(conversionEvent, javaType, complexTypeConverter);
         }
+        generationReport.endPhase(phase);
 
     }
 
@@ -276,28 +399,40 @@ public class Rest2tsGenerator {
 
     }
 
-    private void searchClasses(List<Class> loadedClasses, JavaTypeFilter javaTypeFilter, Set<Class> classSet, Set<Class> enumClassSet, Logger logger) throws IOException {
+    private void searchClasses(
+            List<Class> loadedClasses, JavaTypeFilter javaTypeFilter, FilterEvaluationContext filterContext,
+            Set<Class> classSet, Set<Class> enumClassSet, Logger logger
+    ) {
         for (Class foundClass : loadedClasses) {
-            logger.info(String.format("Found class : %s", foundClass.getName()));
             if (Enum.class.isAssignableFrom(foundClass)) {
-                logger.info(String.format("Found enum class : %s", foundClass.getName()));
+                logger.debug("Found enum class : {}", foundClass.getName());
                 enumClassSet.add(foundClass);
                 continue;
             }
 
-            if (javaTypeFilter.accept(foundClass)) {
+            GeneratorEvent filterEvent = GeneratorEvents.beginFilterEvaluation();
+            boolean accepted = javaTypeFilter.accept(foundClass, filterContext);
+            GeneratorEvents.endFilterEvaluation(filterEvent, foundClass, javaTypeFilter, accepted);
+            if (accepted) {
+                logger.debug("Class accepted : {}", foundClass.getName());
                 classSet.add(foundClass);
-            }else{
-                logger.warn(String.format("Class filtered out : %s", foundClass.getSimpleName()));
+            } else {
+                logger.debug("Class filtered out : {}", foundClass.getSimpleName());
+            }
+            if (logger.isDebugEnabled()) {
+                javaTypeFilter.explain(foundClass, logger, "");
+            }
+        }
+        if (filterContext.isTracingEnabled()) {
+            for (FilterDecision decision : filterContext.getDecisions()) {
+                logger.info(decision.describe());
             }
-            javaTypeFilter.explain(foundClass, logger, "");
         }
+        logger.info(String.format("Accepted %d of %d classes", classSet.size(), loadedClasses.size()));
     }
 
 
     private List<Class> loadClasses(Set<String> packageSet) throws IOException {
-        ClassLoader classLoader = this.getClass().getClassLoader();
-
         List<Class> classList = new ArrayList<>();
         for (String packageName : packageSet) {
             Enumeration<URL> urlEnumeration = classLoader.getResources(packageName.replace(".", "/"));
@@ -312,7 +447,10 @@ public class Rest2tsGenerator {
                 try {
                     FileSystems.newFileSystem(uri, Collections.emptyMap());} catch (Exception ignore) {}
                     Path path = Paths.get(uri);
+                    GeneratorEvent scanEvent = GeneratorEvents.beginClassScan();
+                    int scannedClassesCount = classList.size();
                     scanPackagesRecursively(classLoader, path, packageName, classList);
+                    GeneratorEvents.endClassScan(scanEvent, packageName, classList.size() - scannedClassesCount);
             }
         }
         return classList;
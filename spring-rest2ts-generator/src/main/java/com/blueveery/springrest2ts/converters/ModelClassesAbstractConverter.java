@@ -1,5 +1,7 @@
 package com.blueveery.springrest2ts.converters;
 
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+import com.blueveery.springrest2ts.events.GeneratorEvents;
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
@@ -65,18 +67,24 @@ public abstract class ModelClassesAbstractConverter extends ClassConverter<Model
 
         for (Field field : javaClass.getDeclaredFields()) {
             if (!Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+                GeneratorEvent resolutionEvent = GeneratorEvents.beginPropertyResolution();
+                String propertyName = null;
                 if(objectMapper.filter(field)) {
                     Property property = new Property(objectMapper.getPropertyName(field), currentIndex++, field);
                     propertyMap.put(property.getName(), property);
                     objectMapper.setIfIsIgnored(property, field);
+                    propertyName = property.getName();
                 }
+                GeneratorEvents.endPropertyResolution(resolutionEvent, field, propertyName, objectMapper);
             }
         }
 
         for (Method method : javaClass.getDeclaredMethods()) {
             if (!Modifier.isStatic(method.getModifiers())) {
+                GeneratorEvent resolutionEvent = GeneratorEvents.beginPropertyResolution();
+                String propertyName = null;
                 if(couldBeGetter(method) && objectMapper.filter(method, true)){
-                    String propertyName = objectMapper.getPropertyName(method, true);
+                    propertyName = objectMapper.getPropertyName(method, true);
                     final int newIndex = currentIndex++;
                     Property property = propertyMap.computeIfAbsent(propertyName, (key) -> new Property(key, newIndex));
                     property.setGetter(method);
@@ -84,12 +92,13 @@ public abstract class ModelClassesAbstractConverter extends ClassConverter<Model
                 }
 
                 if(couldBeSetter(method) && objectMapper.filter(method, false)){
-                    String propertyName = objectMapper.getPropertyName(method, false);
+                    propertyName = objectMapper.getPropertyName(method, false);
                     final int newIndex = currentIndex++;
                     Property property = propertyMap.computeIfAbsent(propertyName, (key) -> new Property(key, newIndex));
                     property.setSetter(method);
                     objectMapper.setIfIsIgnored(property, method);
                 }
+                GeneratorEvents.endPropertyResolution(resolutionEvent, method, propertyName, objectMapper);
 
             }
         }
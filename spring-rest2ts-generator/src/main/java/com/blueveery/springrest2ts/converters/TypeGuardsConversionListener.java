@@ -0,0 +1,326 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
+import com.blueveery.springrest2ts.tsmodel.TSEnum;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSImport;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSMap;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.actualTypeParameters;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.canDeclareFunctionsIn;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.createModelFunction;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.fieldAccess;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.formalTypeParameterName;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.referencedComplexElement;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.typeReferenceName;
+
+/**
+ * Generates for each converted model type, enum and enum union a type guard function isX(value): value is X,
+ * it should be added to conversion listeners of model classes and enums converters
+ */
+public class TypeGuardsConversionListener implements ConversionListener {
+    protected static final String VALUE_VARIABLE = "value";
+    protected static final String GUARD_PREFIX = "is";
+
+    protected final Map<TSScopedElement, TSFunction> typeGuardMap = new IdentityHashMap<>();
+    private boolean acceptDateStrings = true;
+
+    public boolean isAcceptDateStrings() {
+        return acceptDateStrings;
+    }
+
+    public void setAcceptDateStrings(boolean acceptDateStrings) {
+        this.acceptDateStrings = acceptDateStrings;
+    }
+
+    public TSFunction getTypeGuard(TSScopedElement tsScopedElement) {
+        return typeGuardMap.get(tsScopedElement);
+    }
+
+    @Override
+    public void tsScopedTypeCreated(Class javaType, TSScopedElement tsScopedElement) {
+        if (isGuardedType(tsScopedElement)) {
+            getOrCreateTypeGuard(tsScopedElement);
+            if (tsScopedElement instanceof TSComplexElement) {
+                TSComplexElement tsComplexElement = (TSComplexElement) tsScopedElement;
+                for (TSType parentType : parentTypes(tsComplexElement)) {
+                    registerReferencedTypeGuards(parentType, tsComplexElement.getModule());
+                }
+                for (TSField tsField : tsComplexElement.getTsFields()) {
+                    registerReferencedTypeGuards(tsField.getType(), tsComplexElement.getModule());
+                }
+            }
+        }
+    }
+
+    protected boolean isGuardedType(TSType tsType) {
+        boolean guardedType = tsType instanceof TSComplexElement || tsType instanceof TSEnum || tsType instanceof TSElementAlias;
+        return guardedType && canDeclareFunctionsIn(((TSScopedElement) tsType).getModule());
+    }
+
+    protected TSFunction getOrCreateTypeGuard(TSScopedElement tsScopedElement) {
+        TSFunction typeGuard = typeGuardMap.get(tsScopedElement);
+        if (typeGuard == null) {
+            String guardName = GUARD_PREFIX + tsScopedElement.getName();
+            if (tsScopedElement instanceof TSComplexElement) {
+                TSComplexElement tsComplexElement = (TSComplexElement) tsScopedElement;
+                TSType returnType = new TSSimpleType(VALUE_VARIABLE + " is " + typeReferenceName(tsComplexElement));
+                typeGuard = createModelFunction(guardName, tsComplexElement, VALUE_VARIABLE, returnType, GUARD_PREFIX, TypeMapper.tsBoolean);
+            } else {
+                TSType returnType = new TSSimpleType(VALUE_VARIABLE + " is " + tsScopedElement.getName());
+                typeGuard = new TSFunction(guardName, tsScopedElement.getModule(), returnType, null);
+                typeGuard.getParameterList().add(new TSParameter(VALUE_VARIABLE, TypeMapper.tsAny, null, null));
+            }
+            typeGuard.setImplementationGenerator((writer, tsFunction) -> writer.write(generateTypeGuardBody(tsScopedElement)));
+            typeGuardMap.put(tsScopedElement, typeGuard);
+            tsScopedElement.getModule().addScopedElement(typeGuard);
+        }
+        return typeGuard;
+    }
+
+    private void registerReferencedTypeGuards(TSType tsType, TSModule usingModule) {
+        if (tsType instanceof TSUnion) {
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType) {
+                    registerReferencedTypeGuards((TSType) tsElement, usingModule);
+                }
+            }
+            return;
+        }
+        if (tsType instanceof TSArray) {
+            registerReferencedTypeGuards(((TSArray) tsType).getElementType(), usingModule);
+            return;
+        }
+        if (tsType instanceof TSMap) {
+            registerReferencedTypeGuards(((TSMap) tsType).getValueType(), usingModule);
+            return;
+        }
+        for (TSType actualTypeParameter : actualTypeParameters(tsType)) {
+            registerReferencedTypeGuards(actualTypeParameter, usingModule);
+        }
+        TSScopedElement referencedType = referencedComplexElement(tsType);
+        if (referencedType == null && tsType instanceof TSScopedElement) {
+            referencedType = (TSScopedElement) tsType;
+        }
+        if (referencedType != null && isGuardedType(referencedType)) {
+            usingModule.scopedTypeUsage(getOrCreateTypeGuard(referencedType));
+        }
+    }
+
+    protected String generateTypeGuardBody(TSScopedElement tsScopedElement) {
+        TSModule tsModule = tsScopedElement.getModule();
+        if (tsScopedElement instanceof TSEnum) {
+            // numeric enums have also reverse mapping entries (value to name), names of enum members are never numeric
+            String enumName = tsScopedElement.getName();
+            return "    return (typeof " + VALUE_VARIABLE + " === 'number' || typeof " + VALUE_VARIABLE + " === 'string')"
+                    + " && Object.keys(" + enumName + ").some(key => isNaN(Number(key)) && (" + enumName + " as any)[key] === " + VALUE_VARIABLE + ");";
+        }
+        if (tsScopedElement instanceof TSElementAlias) {
+            String check = checkExpression(((TSElementAlias) tsScopedElement).getAliasedType(), VALUE_VARIABLE, tsModule, new HashSet<>(), 0);
+            return "    return " + (check != null ? check : "true") + ";";
+        }
+        TSComplexElement tsComplexElement = (TSComplexElement) tsScopedElement;
+        Set<String> typeParameters = new HashSet<>();
+        for (TSFormalTypeParameter formalTypeParameter : tsComplexElement.getTsTypeParameterList()) {
+            typeParameters.add(formalTypeParameterName(formalTypeParameter));
+        }
+        List<String> conditions = new ArrayList<>();
+        conditions.add("typeof " + VALUE_VARIABLE + " === 'object' && " + VALUE_VARIABLE + " !== null");
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            String parentCheck = checkExpression(parentType, VALUE_VARIABLE, tsModule, typeParameters, 0);
+            if (parentCheck != null) {
+                conditions.add(parentCheck);
+            }
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            String field = fieldAccess(VALUE_VARIABLE, tsField);
+            String fieldCheck = checkExpression(tsField.getType(), field, tsModule, typeParameters, 0);
+            if (fieldCheck != null) {
+                if (tsField.isOptional()) {
+                    fieldCheck = "(" + field + " === undefined || " + fieldCheck + ")";
+                }
+                conditions.add(fieldCheck);
+            }
+        }
+        return "    return " + String.join("\n        && ", conditions) + ";";
+    }
+
+    protected String checkExpression(TSType tsType, String value, TSModule usingModule, Set<String> typeParameters, int depth) {
+        if (tsType == TypeMapper.tsString || tsType == TypeMapper.tsObjectString) {
+            return "typeof " + value + " === 'string'";
+        }
+        if (tsType == TypeMapper.tsNumber || tsType == TypeMapper.tsObjectNumber) {
+            return "typeof " + value + " === 'number'";
+        }
+        if (tsType == TypeMapper.tsBoolean || tsType == TypeMapper.tsObjectBoolean) {
+            return "typeof " + value + " === 'boolean'";
+        }
+        if (tsType == TypeMapper.tsNull) {
+            return value + " === null";
+        }
+        if (tsType == TypeMapper.tsUndefined || tsType == TypeMapper.tsVoid) {
+            return value + " === undefined";
+        }
+        if (tsType == TypeMapper.tsObject) {
+            return "typeof " + value + " === 'object'";
+        }
+        if (tsType instanceof TSUnion) {
+            return checkUnion((TSUnion) tsType, value, usingModule, typeParameters, depth);
+        }
+        if (tsType instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) tsType);
+            if (!typeParameters.contains(typeParameterName)) {
+                return null;
+            }
+            String callback = GUARD_PREFIX + typeParameterName;
+            return "(!" + callback + " || " + callback + "(" + value + "))";
+        }
+        String element = "e" + depth;
+        if (tsType instanceof TSArray) {
+            return checkArray(((TSArray) tsType).getElementType(), value, usingModule, typeParameters, depth);
+        }
+        if (tsType instanceof TSMap) {
+            String valueCheck = checkExpression(((TSMap) tsType).getValueType(), element, usingModule, typeParameters, depth + 1);
+            String objectCheck = "typeof " + value + " === 'object' && " + value + " !== null";
+            if (valueCheck == null) {
+                return "(" + objectCheck + ")";
+            }
+            return "(" + objectCheck + " && Object.values(" + value + ").every((" + element + ": any) => " + valueCheck + "))";
+        }
+        if (tsType instanceof TSEnum || tsType instanceof TSElementAlias) {
+            String typeGuardCall = typeGuardCall((TSScopedElement) tsType, new ArrayList<>(), value, usingModule, typeParameters, depth);
+            if (typeGuardCall != null) {
+                return typeGuardCall;
+            }
+            if (tsType instanceof TSElementAlias) {
+                return checkExpression(((TSElementAlias) tsType).getAliasedType(), value, usingModule, typeParameters, depth);
+            }
+            return null;
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null) {
+            return null;
+        }
+        List<TSType> actualTypeParameters = actualTypeParameters(tsType);
+        if (tsComplexElement == TypeMapper.tsDate) {
+            if (acceptDateStrings) {
+                return "(" + value + " instanceof Date || typeof " + value + " === 'string')";
+            }
+            return value + " instanceof Date";
+        }
+        if (tsComplexElement == TypeMapper.tsArrayCollection) {
+            return checkArray(actualTypeParameters.isEmpty() ? TypeMapper.tsAny : actualTypeParameters.get(0), value, usingModule, typeParameters, depth);
+        }
+        if (tsComplexElement == TypeMapper.tsSet) {
+            return "(" + value + " instanceof Set || Array.isArray(" + value + "))";
+        }
+        if (tsComplexElement == TypeMapper.tsMap) {
+            return "(" + value + " instanceof Map || (typeof " + value + " === 'object' && " + value + " !== null))";
+        }
+        String typeGuardCall = typeGuardCall(tsComplexElement, actualTypeParameters, value, usingModule, typeParameters, depth);
+        if (typeGuardCall != null) {
+            return typeGuardCall;
+        }
+        return "(typeof " + value + " === 'object' && " + value + " !== null)";
+    }
+
+    private String checkUnion(TSUnion tsUnion, String value, TSModule usingModule, Set<String> typeParameters, int depth) {
+        List<String> alternatives = new ArrayList<>();
+        for (TSElement tsElement : tsUnion.getJoinedTsElementList()) {
+            if (tsElement instanceof TSLiteral) {
+                alternatives.add(value + " === " + ((TSLiteral) tsElement).toTsValue());
+                continue;
+            }
+            String check = tsElement instanceof TSType ? checkExpression((TSType) tsElement, value, usingModule, typeParameters, depth) : null;
+            if (check == null) {
+                return null;
+            }
+            alternatives.add(check);
+        }
+        if (alternatives.isEmpty()) {
+            return null;
+        }
+        return "(" + String.join(" || ", alternatives) + ")";
+    }
+
+    private String checkArray(TSType elementType, String value, TSModule usingModule, Set<String> typeParameters, int depth) {
+        String element = "e" + depth;
+        String elementCheck = checkExpression(elementType, element, usingModule, typeParameters, depth + 1);
+        if (elementCheck == null) {
+            return "Array.isArray(" + value + ")";
+        }
+        return "(Array.isArray(" + value + ") && " + value + ".every((" + element + ": any) => " + elementCheck + "))";
+    }
+
+    private String typeGuardCall(
+            TSScopedElement tsScopedElement, List<TSType> actualTypeParameters, String value, TSModule usingModule,
+            Set<String> typeParameters, int depth
+    ) {
+        TSFunction typeGuard = typeGuardMap.get(tsScopedElement);
+        if (typeGuard == null || !isAccessible(typeGuard, usingModule)) {
+            return null;
+        }
+        List<String> arguments = new ArrayList<>();
+        arguments.add(value);
+        if (tsScopedElement instanceof TSComplexElement) {
+            int typeParametersCount = Math.min(actualTypeParameters.size(), ((TSComplexElement) tsScopedElement).getTsTypeParameterList().size());
+            for (int i = 0; i < typeParametersCount; i++) {
+                arguments.add(typeParameterCallback(actualTypeParameters.get(i), usingModule, typeParameters, depth));
+            }
+            while (arguments.size() > 1 && "undefined".equals(arguments.get(arguments.size() - 1))) {
+                arguments.remove(arguments.size() - 1);
+            }
+        }
+        return typeGuard.getName() + "(" + String.join(", ", arguments) + ")";
+    }
+
+    private String typeParameterCallback(TSType actualTypeParameter, TSModule usingModule, Set<String> typeParameters, int depth) {
+        if (actualTypeParameter instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) actualTypeParameter);
+            return typeParameters.contains(typeParameterName) ? GUARD_PREFIX + typeParameterName : "undefined";
+        }
+        String element = "e" + depth;
+        String check = checkExpression(actualTypeParameter, element, usingModule, typeParameters, depth + 1);
+        return check != null ? "(" + element + ": any) => " + check : "undefined";
+    }
+
+    private boolean isAccessible(TSFunction typeGuard, TSModule usingModule) {
+        if (typeGuard.getModule() == usingModule) {
+            return true;
+        }
+        TSImport tsImport = usingModule.getImportMap().get(typeGuard.getModule());
+        return tsImport != null && tsImport.getWhat().contains(typeGuard);
+    }
+
+    protected List<TSType> parentTypes(TSComplexElement tsComplexElement) {
+        List<TSType> parentTypes = new ArrayList<>();
+        if (tsComplexElement instanceof TSClass && ((TSClass) tsComplexElement).getExtendsClass() != null) {
+            parentTypes.add(((TSClass) tsComplexElement).getExtendsClass());
+        }
+        if (tsComplexElement instanceof TSInterface) {
+            parentTypes.addAll(((TSInterface) tsComplexElement).getExtendsInterfaces());
+        }
+        return parentTypes;
+    }
+}
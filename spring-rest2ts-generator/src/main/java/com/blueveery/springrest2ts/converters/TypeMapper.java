@@ -1,6 +1,8 @@
 package com.blueveery.springrest2ts.converters;
 
 import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+import com.blueveery.springrest2ts.events.GeneratorEvents;
 import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
@@ -51,6 +53,7 @@ public class TypeMapper {
     public static TSClass tsSet;
     public static TSClass tsMap;
     public static TSClass tsDate;
+    public static TSClass tsBlob;
     static {
         tsArrayCollection = new TSClass("Array", systemModule, new EmptyImplementationGenerator(), new TSFormalTypeParameter("T"));
         tsArrayCollection.getMappedFromJavaTypeSet().add(Collection.class);
@@ -64,6 +67,7 @@ public class TypeMapper {
         );
         tsMap.getMappedFromJavaTypeSet().add(Map.class);
         tsDate = new TSClass("Date", systemModule, new EmptyImplementationGenerator());
+        tsBlob = new TSClass("Blob", systemModule, new EmptyImplementationGenerator());
     }
 
     private static Map<Class, TSType> complexTypeMap = new HashMap<>();
@@ -108,6 +112,16 @@ public class TypeMapper {
             return wrapTypeInTypeReference(tsType, actualParameterList);
         }
 
+        GeneratorEvent mappingMissEvent = GeneratorEvents.beginTypeMappingMiss();
+        TSType tsType = mapNotRegisteredType(javaType, javaRawType, actualParameterList, fallbackType, typeParametersMap);
+        GeneratorEvents.endTypeMappingMiss(mappingMissEvent, javaType, tsType);
+        return tsType;
+    }
+
+    private static TSType mapNotRegisteredType(
+        Type javaType, Type javaRawType, List<TSType> actualParameterList, TSType fallbackType,
+        Map<TypeVariable, Type> typeParametersMap
+    ) {
         Optional<Class> hierarchyRoot = findNearestHierarchyRoot(complexTypeMapForClassHierarchy.keySet(), javaRawType);
         if (hierarchyRoot.isPresent()) {
             TSComplexElement tsType = complexTypeMapForClassHierarchy.get(hierarchyRoot.get());
@@ -219,6 +233,13 @@ public class TypeMapper {
         return tsType;
     }
 
+    public static boolean isBlob(TSType tsType) {
+        if (tsType instanceof TSClassReference) {
+            return ((TSClassReference) tsType).getReferencedType() == tsBlob;
+        }
+        return tsType == tsBlob;
+    }
+
     public static TSType getTypeObjectTypeVersion(TSType tsType) {
         if (tsType instanceof TSSimpleType) {
             if (tsType == tsNumber) {
@@ -0,0 +1,67 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.extensions.JsonDecodersSerializerExtension;
+import com.blueveery.springrest2ts.extensions.ModelSerializerExtension;
+import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opt-in mapping of Java primitive arrays. By default they are mapped to number[], after configuration byte[] is mapped
+ * to base64 string (as Jackson serializes it) or to Uint8Array, and numeric primitive arrays are mapped to typed arrays.
+ * JSON contains plain arrays and base64 strings, only JsonDecodersSerializerExtension generates decoding and encoding
+ * of typed arrays, so it must be set as serializer of REST classes implementation generator before configuration
+ */
+public class TypedArraysConfigurator {
+    public static final TSClass tsUint8Array = createTypedArray("Uint8Array");
+    public static final TSClass tsInt16Array = createTypedArray("Int16Array");
+    public static final TSClass tsInt32Array = createTypedArray("Int32Array");
+    public static final TSClass tsFloat32Array = createTypedArray("Float32Array");
+    public static final TSClass tsFloat64Array = createTypedArray("Float64Array");
+
+    private static final Map<Class<?>, TSClass> primitiveArraysMap = new HashMap<>();
+
+    static {
+        primitiveArraysMap.put(short[].class, tsInt16Array);
+        primitiveArraysMap.put(int[].class, tsInt32Array);
+        // JavaScript numbers could not represent all long values anyway, BigInt64Array can't be filled from numbers
+        primitiveArraysMap.put(long[].class, tsFloat64Array);
+        primitiveArraysMap.put(float[].class, tsFloat32Array);
+        primitiveArraysMap.put(double[].class, tsFloat64Array);
+    }
+
+    /**
+     * @param byteArraysAsUint8Array if true byte[] is mapped to Uint8Array, otherwise to base64 string
+     */
+    public static void configure(Rest2tsGenerator tsGenerator, boolean byteArraysAsUint8Array) {
+        RestClassConverter restClassesConverter = tsGenerator.getRestClassesConverter();
+        if (restClassesConverter == null || restClassesConverter.getImplementationGenerator() == null) {
+            throw new IllegalStateException("Rest classes converter is not set");
+        }
+        ModelSerializerExtension serializationExtension = restClassesConverter.getImplementationGenerator().getSerializationExtension();
+        if (!(serializationExtension instanceof JsonDecodersSerializerExtension)) {
+            throw new IllegalStateException("Typed arrays are decoded only by JsonDecodersSerializerExtension, "
+                    + "it is required as serializer of REST classes implementation generator");
+        }
+        if (byteArraysAsUint8Array) {
+            tsGenerator.getCustomTypeMapping().put(byte[].class, tsUint8Array);
+        } else {
+            tsGenerator.getCustomTypeMapping().put(byte[].class, TypeMapper.tsString);
+        }
+        // Jackson serializes char[] as string
+        tsGenerator.getCustomTypeMapping().put(char[].class, TypeMapper.tsString);
+        tsGenerator.getCustomTypeMapping().putAll(primitiveArraysMap);
+    }
+
+    public static boolean isTypedArray(TSComplexElement tsComplexElement) {
+        return tsComplexElement == tsUint8Array || primitiveArraysMap.containsValue(tsComplexElement);
+    }
+
+    private static TSClass createTypedArray(String name) {
+        return new TSClass(name, TypeMapper.systemModule, new EmptyImplementationGenerator());
+    }
+}
@@ -0,0 +1,51 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Maps wrapper types like CompletableFuture&lt;T&gt; to the TS type of their payload T
+ */
+public class UnwrappingMappingAction implements MappingAction {
+    private final Class wrapperClass;
+    private final int payloadTypeArgumentIndex;
+
+    public UnwrappingMappingAction(Class wrapperClass) {
+        this(wrapperClass, 0);
+    }
+
+    public UnwrappingMappingAction(Class wrapperClass, int payloadTypeArgumentIndex) {
+        this.wrapperClass = wrapperClass;
+        this.payloadTypeArgumentIndex = payloadTypeArgumentIndex;
+    }
+
+    public Class getWrapperClass() {
+        return wrapperClass;
+    }
+
+    @Override
+    public TSType map(Type javaType) {
+        if (javaType == wrapperClass) {
+            return TypeMapper.tsAny;
+        }
+        if (!(javaType instanceof ParameterizedType) || ((ParameterizedType) javaType).getRawType() != wrapperClass) {
+            throw new IllegalArgumentException("Mapping action dedicated only for " + wrapperClass.getSimpleName());
+        }
+        Type[] typeParameters = ((ParameterizedType) javaType).getActualTypeArguments();
+        if (typeParameters.length <= payloadTypeArgumentIndex) {
+            return TypeMapper.tsVoid;
+        }
+        Type payloadType = typeParameters[payloadTypeArgumentIndex];
+        if (payloadType instanceof WildcardType) {
+            Type[] upperBounds = ((WildcardType) payloadType).getUpperBounds();
+            payloadType = upperBounds.length > 0 ? upperBounds[0] : Object.class;
+            if (payloadType == Object.class) {
+                return TypeMapper.tsAny;
+            }
+        }
+        return TypeMapper.map(payloadType);
+    }
+}
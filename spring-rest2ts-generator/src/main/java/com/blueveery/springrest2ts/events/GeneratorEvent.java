@@ -0,0 +1,7 @@
+package com.blueveery.springrest2ts.events;
+
+/**
+ * Event created by GeneratorEventsRecorder at the beginning of generation step and committed at its end
+ */
+public interface GeneratorEvent {
+}
@@ -0,0 +1,95 @@
+package com.blueveery.springrest2ts.events;
+
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point of generator events. Recorder is loaded once with ServiceLoader, without recorder on class path
+ * (or when it can't be loaded in current JVM) begin methods return null and end methods ignore null events,
+ * so event fields are not computed
+ */
+public final class GeneratorEvents {
+    private static final GeneratorEventsRecorder recorder = loadRecorder();
+
+    private GeneratorEvents() {
+    }
+
+    public static boolean isRecorderAvailable() {
+        return recorder != null;
+    }
+
+    private static GeneratorEventsRecorder loadRecorder() {
+        try {
+            for (GeneratorEventsRecorder eventsRecorder : ServiceLoader.load(GeneratorEventsRecorder.class, GeneratorEvents.class.getClassLoader())) {
+                return eventsRecorder;
+            }
+        } catch (ServiceConfigurationError | LinkageError e) {
+            // recorder requires classes which are not available in this JVM, like jdk.jfr on java 8
+        }
+        return null;
+    }
+
+    public static GeneratorEvent beginClassScan() {
+        return recorder != null ? recorder.beginClassScan() : null;
+    }
+
+    public static void endClassScan(GeneratorEvent event, String packageName, int classCount) {
+        if (event != null) {
+            recorder.endClassScan(event, packageName, classCount);
+        }
+    }
+
+    public static GeneratorEvent beginFilterEvaluation() {
+        return recorder != null ? recorder.beginFilterEvaluation() : null;
+    }
+
+    public static void endFilterEvaluation(GeneratorEvent event, Class javaClass, Object filter, boolean accepted) {
+        if (event != null) {
+            recorder.endFilterEvaluation(event, javaClass, filter, accepted);
+        }
+    }
+
+    public static GeneratorEvent beginTypeMappingMiss() {
+        return recorder != null ? recorder.beginTypeMappingMiss() : null;
+    }
+
+    public static void endTypeMappingMiss(GeneratorEvent event, Type javaType, TSType tsType) {
+        if (event != null) {
+            recorder.endTypeMappingMiss(event, javaType, tsType);
+        }
+    }
+
+    public static GeneratorEvent beginTypeConversion() {
+        return recorder != null ? recorder.beginTypeConversion() : null;
+    }
+
+    public static void endTypeConversion(GeneratorEvent event, Class javaClass, Object converter) {
+        if (event != null) {
+            recorder.endTypeConversion(event, javaClass, converter);
+        }
+    }
+
+    public static GeneratorEvent beginPropertyResolution() {
+        return recorder != null ? recorder.beginPropertyResolution() : null;
+    }
+
+    public static void endPropertyResolution(GeneratorEvent event, Member member, String propertyName, Object objectMapper) {
+        if (event != null) {
+            recorder.endPropertyResolution(event, member, propertyName, objectMapper);
+        }
+    }
+
+    public static GeneratorEvent beginModuleWrite() {
+        return recorder != null ? recorder.beginModuleWrite() : null;
+    }
+
+    public static void endModuleWrite(GeneratorEvent event, String moduleName, Object modulePath) {
+        if (event != null) {
+            recorder.endModuleWrite(event, moduleName, modulePath);
+        }
+    }
+}
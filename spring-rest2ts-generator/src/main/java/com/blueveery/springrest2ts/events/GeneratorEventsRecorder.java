@@ -0,0 +1,37 @@
+package com.blueveery.springrest2ts.events;
+
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+
+/**
+ * Records events of generation steps, implementation is found with ServiceLoader (for example JDK Flight Recorder
+ * events from spring-rest2ts-jfr module). Begin methods return null if event is not enabled, end methods are called
+ * only for not null events
+ */
+public interface GeneratorEventsRecorder {
+    GeneratorEvent beginClassScan();
+
+    void endClassScan(GeneratorEvent event, String packageName, int classCount);
+
+    GeneratorEvent beginFilterEvaluation();
+
+    void endFilterEvaluation(GeneratorEvent event, Class javaClass, Object filter, boolean accepted);
+
+    GeneratorEvent beginTypeMappingMiss();
+
+    void endTypeMappingMiss(GeneratorEvent event, Type javaType, TSType tsType);
+
+    GeneratorEvent beginTypeConversion();
+
+    void endTypeConversion(GeneratorEvent event, Class javaClass, Object converter);
+
+    GeneratorEvent beginPropertyResolution();
+
+    void endPropertyResolution(GeneratorEvent event, Member member, String propertyName, Object objectMapper);
+
+    GeneratorEvent beginModuleWrite();
+
+    void endModuleWrite(GeneratorEvent event, String moduleName, Object modulePath);
+}
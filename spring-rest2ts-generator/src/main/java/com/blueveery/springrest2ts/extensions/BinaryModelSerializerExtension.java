@@ -0,0 +1,51 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+
+/**
+ * Serializes models into binary format with codec which exports encode and decode functions,
+ * generated code sends body as Blob and reads response with res.arrayBuffer()
+ */
+public class BinaryModelSerializerExtension implements ModelSerializerExtension {
+    protected final String mediaType;
+    protected final TSFunction encodeFunction;
+    protected final TSFunction decodeFunction;
+
+    public BinaryModelSerializerExtension(String mediaType, TSModule codecModule, String encodeFunctionName, String decodeFunctionName) {
+        this.mediaType = mediaType;
+        this.encodeFunction = new TSFunction(encodeFunctionName, codecModule);
+        this.decodeFunction = new TSFunction(decodeFunctionName, codecModule);
+    }
+
+    public BinaryModelSerializerExtension(String mediaType, String codecModuleName, String encodeFunctionName, String decodeFunctionName) {
+        this(mediaType, new TSModule(codecModuleName, null, true), encodeFunctionName, decodeFunctionName);
+    }
+
+    @Override
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    @Override
+    public boolean isBinary() {
+        return true;
+    }
+
+    @Override
+    public void addComplexTypeUsage(TSComplexElement tsComplexElement) {
+        tsComplexElement.addScopedTypeUsage(encodeFunction);
+        tsComplexElement.addScopedTypeUsage(decodeFunction);
+    }
+
+    @Override
+    public String generateSerializationCode(String modelVariableName) {
+        return "new Blob([" + encodeFunction.getName() + "(" + modelVariableName + ")])";
+    }
+
+    @Override
+    public String generateDeserializationCode(String modelVariableName) {
+        return decodeFunction.getName() + "(new Uint8Array(" + modelVariableName + "))";
+    }
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.extensions;
+
+public class CborModelSerializerExtension extends BinaryModelSerializerExtension {
+
+    public CborModelSerializerExtension() {
+        super("application/cbor", "cbor-x", "encode", "decode");
+    }
+}
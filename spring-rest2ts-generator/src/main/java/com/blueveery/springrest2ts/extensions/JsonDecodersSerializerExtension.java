@@ -0,0 +1,492 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.converters.TypedArraysConfigurator;
+import com.blueveery.springrest2ts.tsmodel.IPickedType;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSDeclarationType;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSJsonLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSMap;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.blueveery.springrest2ts.tsmodel.TSVariable;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.actualTypeParameters;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.canDeclareFunctionsIn;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.createModelFunction;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.fieldAccess;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.formalTypeParameterName;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.referencedComplexElement;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.typeReferenceName;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.unwrapNullableType;
+
+/**
+ * JSON serializer which decodes responses with generated per type decode functions, decoders convert only fields
+ * which require it (dates, maps, sets, typed arrays and nested types containing such fields) instead of generic reviving
+ * of whole object
+ */
+public class JsonDecodersSerializerExtension extends StandardJsonSerializerExtension {
+    protected static final String JSON_VARIABLE = "json";
+    protected static final String DECODER_PREFIX = "decode";
+    protected static final String DECODERS_TABLE_SUFFIX = "Decoders";
+    protected static final String TYPED_ARRAYS_REPLACER = "(key: string, value: any) => value instanceof Uint8Array"
+            + " ? btoa(Array.from(value, (b: number) => String.fromCharCode(b)).join(''))"
+            + " : ArrayBuffer.isView(value) ? Array.from(value as any) : value";
+
+    protected final Map<TSComplexElement, TSFunction> decoderMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, Boolean> decodingRequiredMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSVariable> decodersTableMap = new IdentityHashMap<>();
+    protected final Set<TSMethod> decodedMethodSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    @Override
+    public void addComplexTypeUsage(TSComplexElement tsComplexElement) {
+        TSModule tsModule = tsComplexElement.getModule();
+        TSJsonLiteral decodersLiteral = new TSJsonLiteral();
+        for (TSMethod tsMethod : tsComplexElement.getTsMethods()) {
+            if (tsMethod.isConstructor() || tsMethod.getType() == null) {
+                continue;
+            }
+            String decodeExpression = decodeExpression(tsMethod.getType(), JSON_VARIABLE, tsModule, Collections.emptySet(), 0);
+            if (decodeExpression != null) {
+                String decoder = "(" + JSON_VARIABLE + ": any) => " + decodeExpression;
+                decodersLiteral.getFieldMap().put(tsMethod.getName(), new TSLiteral("", TypeMapper.tsAny, decoder));
+                decodedMethodSet.add(tsMethod);
+            }
+        }
+        if (!decodersLiteral.getFieldMap().isEmpty()) {
+            String tableName = tsComplexElement.getName() + DECODERS_TABLE_SUFFIX;
+            TSVariable decodersTable = new TSVariable(tableName, tsModule, TSDeclarationType.CONST, TypeMapper.tsAny, decodersLiteral);
+            tsModule.addScopedElement(decodersTable);
+            decodersTableMap.put(tsComplexElement, decodersTable);
+        }
+    }
+
+    @Override
+    public String generateSerializationCode(String modelVariableName, TSParameter tsParameter) {
+        if (containsTypedArray(tsParameter.getType(), Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            return "JSON.stringify(" + modelVariableName + ", " + TYPED_ARRAYS_REPLACER + ")";
+        }
+        return generateSerializationCode(modelVariableName);
+    }
+
+    @Override
+    public String generateDeserializationCode(String modelVariableName, TSMethod tsMethod) {
+        return generateDeserializationCodeFromParsedObject(generateDeserializationCode(modelVariableName), tsMethod);
+    }
+
+    @Override
+    public String generateDeserializationCodeFromParsedObject(String parsedObjectVariableName, TSMethod tsMethod) {
+        if (decodedMethodSet.contains(tsMethod)) {
+            TSVariable decodersTable = decodersTableMap.get(tsMethod.getOwner());
+            return decodersTable.getName() + "." + tsMethod.getName() + "(" + parsedObjectVariableName + ")";
+        }
+        return parsedObjectVariableName;
+    }
+
+    public TSFunction getDecoder(TSComplexElement tsComplexElement) {
+        return decoderMap.get(tsComplexElement);
+    }
+
+    protected String decodeExpression(TSType tsType, String value, TSModule usingModule, Set<String> typeParameters, int depth) {
+        tsType = unwrapNullableType(tsType);
+        if (tsType instanceof TSUnion) {
+            return null;
+        }
+        if (tsType instanceof TSElementAlias) {
+            return decodeExpression(aliasedType((TSElementAlias) tsType), value, usingModule, typeParameters, depth);
+        }
+        if (tsType instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) tsType);
+            if (!typeParameters.contains(typeParameterName)) {
+                return null;
+            }
+            String callback = DECODER_PREFIX + typeParameterName;
+            return "(" + callback + " ? " + callback + "(" + value + ") : " + value + ")";
+        }
+        if (tsType instanceof TSArray) {
+            return decodeArray(((TSArray) tsType).getElementType(), value, usingModule, typeParameters, depth);
+        }
+        String element = "e" + depth;
+        if (tsType instanceof TSMap) {
+            String valueDecoder = decodeExpression(((TSMap) tsType).getValueType(), element, usingModule, typeParameters, depth + 1);
+            if (valueDecoder == null) {
+                return null;
+            }
+            String key = "k" + depth;
+            return "Object.fromEntries(Object.entries(" + value + ").map(([" + key + ", " + element + "]: [string, any]) => [" + key + ", " + valueDecoder + "]))";
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null) {
+            return null;
+        }
+        List<TSType> actualTypeParameters = actualTypeParameters(tsType);
+        if (tsComplexElement == TypeMapper.tsDate) {
+            return "new Date(" + value + ")";
+        }
+        if (tsComplexElement == TypedArraysConfigurator.tsUint8Array) {
+            return "Uint8Array.from(atob(" + value + "), (c: string) => c.charCodeAt(0))";
+        }
+        if (TypedArraysConfigurator.isTypedArray(tsComplexElement)) {
+            return "new " + tsComplexElement.getName() + "(" + value + ")";
+        }
+        if (tsComplexElement == TypeMapper.tsArrayCollection) {
+            if (actualTypeParameters.isEmpty()) {
+                return null;
+            }
+            return decodeArray(actualTypeParameters.get(0), value, usingModule, typeParameters, depth);
+        }
+        if (tsComplexElement == TypeMapper.tsSet) {
+            String elements = actualTypeParameters.isEmpty() ? null : decodeArray(actualTypeParameters.get(0), value, usingModule, typeParameters, depth);
+            return "new Set(" + (elements != null ? elements : value) + ")";
+        }
+        if (tsComplexElement == TypeMapper.tsMap) {
+            String valueDecoder = actualTypeParameters.size() < 2 ? null : decodeExpression(actualTypeParameters.get(1), element, usingModule, typeParameters, depth + 1);
+            if (valueDecoder == null) {
+                return "new Map(Object.entries(" + value + "))";
+            }
+            String key = "k" + depth;
+            return "new Map(Object.entries(" + value + ").map(([" + key + ", " + element + "]: [string, any]) => [" + key + ", " + valueDecoder + "]))";
+        }
+        return decodeComplexElement(tsComplexElement, actualTypeParameters, value, usingModule, typeParameters, depth);
+    }
+
+    private String decodeArray(TSType elementType, String value, TSModule usingModule, Set<String> typeParameters, int depth) {
+        String element = "e" + depth;
+        String elementDecoder = decodeExpression(elementType, element, usingModule, typeParameters, depth + 1);
+        if (elementDecoder == null) {
+            return null;
+        }
+        return value + ".map((" + element + ": any) => " + elementDecoder + ")";
+    }
+
+    // picked types (like JsonView aliases) are decoded with decoder of the picked element, absent fields are skipped
+    private TSType aliasedType(TSElementAlias tsElementAlias) {
+        TSType aliasedType = tsElementAlias.getAliasedType();
+        if (aliasedType instanceof IPickedType) {
+            return ((IPickedType) aliasedType).getPickedElement();
+        }
+        return aliasedType;
+    }
+
+    private String decodeComplexElement(
+            TSComplexElement tsComplexElement, List<TSType> actualTypeParameters, String value, TSModule usingModule,
+            Set<String> typeParameters, int depth
+    ) {
+        if (!canDeclareFunctionsIn(tsComplexElement.getModule())) {
+            return null;
+        }
+        boolean decodingRequired = isDecodingRequired(tsComplexElement);
+        List<String> callbacks = new ArrayList<>();
+        if (usesTypeParameters(tsComplexElement)) {
+            int typeParametersCount = Math.min(actualTypeParameters.size(), tsComplexElement.getTsTypeParameterList().size());
+            for (int i = 0; i < typeParametersCount; i++) {
+                String callback = typeParameterCallback(actualTypeParameters.get(i), usingModule, typeParameters, depth);
+                decodingRequired |= callback != null;
+                callbacks.add(callback != null ? callback : "undefined");
+            }
+        }
+        if (!decodingRequired) {
+            return null;
+        }
+        while (!callbacks.isEmpty() && "undefined".equals(callbacks.get(callbacks.size() - 1))) {
+            callbacks.remove(callbacks.size() - 1);
+        }
+        TSFunction decoder = getOrCreateDecoder(tsComplexElement);
+        usingModule.scopedTypeUsage(decoder);
+        List<String> arguments = new ArrayList<>();
+        arguments.add(value);
+        arguments.addAll(callbacks);
+        return decoder.getName() + "(" + String.join(", ", arguments) + ")";
+    }
+
+    private String typeParameterCallback(TSType actualTypeParameter, TSModule usingModule, Set<String> typeParameters, int depth) {
+        if (actualTypeParameter instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) actualTypeParameter);
+            return typeParameters.contains(typeParameterName) ? DECODER_PREFIX + typeParameterName : null;
+        }
+        String element = "e" + depth;
+        String decoder = decodeExpression(actualTypeParameter, element, usingModule, typeParameters, depth + 1);
+        return decoder != null ? "(" + element + ": any) => " + decoder : null;
+    }
+
+    protected TSFunction getOrCreateDecoder(TSComplexElement tsComplexElement) {
+        TSFunction decoder = decoderMap.get(tsComplexElement);
+        if (decoder == null) {
+            String returnType = typeReferenceName(tsComplexElement);
+            decoder = createModelFunction(
+                    DECODER_PREFIX + tsComplexElement.getName(), tsComplexElement, JSON_VARIABLE,
+                    new TSSimpleType(returnType), DECODER_PREFIX, null
+            );
+            decoderMap.put(tsComplexElement, decoder);
+            tsComplexElement.getModule().addScopedElement(decoder);
+            String body = generateDecoderBody(tsComplexElement);
+            decoder.setImplementationGenerator((writer, tsFunction) -> writer.write(body));
+        }
+        return decoder;
+    }
+
+    private String generateDecoderBody(TSComplexElement tsComplexElement) {
+        TSModule tsModule = tsComplexElement.getModule();
+        Set<String> typeParameters = new HashSet<>();
+        for (TSFormalTypeParameter formalTypeParameter : tsComplexElement.getTsTypeParameterList()) {
+            typeParameters.add(formalTypeParameterName(formalTypeParameter));
+        }
+        StringBuilder body = new StringBuilder();
+        body.append("    if (").append(JSON_VARIABLE).append(" == null) {\n");
+        body.append("        return ").append(JSON_VARIABLE).append(";\n");
+        body.append("    }\n");
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            String parentDecoder = decodeExpression(parentType, JSON_VARIABLE, tsModule, typeParameters, 0);
+            if (parentDecoder != null) {
+                body.append("    ").append(parentDecoder).append(";\n");
+            }
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            String field = fieldAccess(JSON_VARIABLE, tsField);
+            String fieldDecoder = decodeExpression(tsField.getType(), field, tsModule, typeParameters, 0);
+            if (fieldDecoder != null) {
+                body.append("    if (").append(field).append(" != null) {\n");
+                body.append("        ").append(field).append(" = ").append(fieldDecoder).append(";\n");
+                body.append("    }\n");
+            }
+        }
+        body.append("    return ").append(JSON_VARIABLE).append(";");
+        return body.toString();
+    }
+
+    protected boolean isDecodingRequired(TSComplexElement tsComplexElement) {
+        Boolean decodingRequired = decodingRequiredMap.get(tsComplexElement);
+        if (decodingRequired != null) {
+            return decodingRequired;
+        }
+        Set<TSComplexElement> reachableElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectReachableElements(tsComplexElement, reachableElements);
+        Set<TSComplexElement> requiringElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (TSComplexElement reachableElement : reachableElements) {
+                if (!requiringElements.contains(reachableElement) && hasFieldsRequiringDecoding(reachableElement, requiringElements)) {
+                    requiringElements.add(reachableElement);
+                    changed = true;
+                }
+            }
+        }
+        for (TSComplexElement reachableElement : reachableElements) {
+            decodingRequiredMap.put(reachableElement, requiringElements.contains(reachableElement));
+        }
+        return requiringElements.contains(tsComplexElement);
+    }
+
+    private boolean hasFieldsRequiringDecoding(TSComplexElement tsComplexElement, Set<TSComplexElement> requiringElements) {
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            if (requiresDecoding(parentType, requiringElements)) {
+                return true;
+            }
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            if (requiresDecoding(tsField.getType(), requiringElements)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean requiresDecoding(TSType tsType, Set<TSComplexElement> requiringElements) {
+        tsType = unwrapNullableType(tsType);
+        if (tsType instanceof TSElementAlias) {
+            return requiresDecoding(aliasedType((TSElementAlias) tsType), requiringElements);
+        }
+        if (tsType instanceof TSArray) {
+            return requiresDecoding(((TSArray) tsType).getElementType(), requiringElements);
+        }
+        if (tsType instanceof TSMap) {
+            return requiresDecoding(((TSMap) tsType).getValueType(), requiringElements);
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null) {
+            return false;
+        }
+        List<TSType> actualTypeParameters = actualTypeParameters(tsType);
+        if (tsComplexElement == TypeMapper.tsDate || tsComplexElement == TypeMapper.tsSet || tsComplexElement == TypeMapper.tsMap
+                || TypedArraysConfigurator.isTypedArray(tsComplexElement)) {
+            return true;
+        }
+        if (tsComplexElement == TypeMapper.tsArrayCollection) {
+            return !actualTypeParameters.isEmpty() && requiresDecoding(actualTypeParameters.get(0), requiringElements);
+        }
+        if (!canDeclareFunctionsIn(tsComplexElement.getModule())) {
+            return false;
+        }
+        if (requiringElements.contains(tsComplexElement) || Boolean.TRUE.equals(decodingRequiredMap.get(tsComplexElement))) {
+            return true;
+        }
+        if (usesTypeParameters(tsComplexElement)) {
+            for (TSType actualTypeParameter : actualTypeParameters) {
+                if (requiresDecoding(actualTypeParameter, requiringElements)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void collectReachableElements(TSType tsType, Set<TSComplexElement> reachableElements) {
+        if (tsType instanceof TSUnion) {
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType) {
+                    collectReachableElements((TSType) tsElement, reachableElements);
+                }
+            }
+            return;
+        }
+        if (tsType instanceof TSElementAlias) {
+            collectReachableElements(aliasedType((TSElementAlias) tsType), reachableElements);
+            return;
+        }
+        if (tsType instanceof TSArray) {
+            collectReachableElements(((TSArray) tsType).getElementType(), reachableElements);
+            return;
+        }
+        if (tsType instanceof TSMap) {
+            collectReachableElements(((TSMap) tsType).getValueType(), reachableElements);
+            return;
+        }
+        for (TSType actualTypeParameter : actualTypeParameters(tsType)) {
+            collectReachableElements(actualTypeParameter, reachableElements);
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null || !canDeclareFunctionsIn(tsComplexElement.getModule())
+                || reachableElements.contains(tsComplexElement) || decodingRequiredMap.containsKey(tsComplexElement)) {
+            return;
+        }
+        reachableElements.add(tsComplexElement);
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            collectReachableElements(parentType, reachableElements);
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            collectReachableElements(tsField.getType(), reachableElements);
+        }
+    }
+
+    private boolean containsTypedArray(TSType tsType, Set<TSComplexElement> visitedElements) {
+        if (tsType instanceof TSUnion) {
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType && containsTypedArray((TSType) tsElement, visitedElements)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (tsType instanceof TSElementAlias) {
+            return containsTypedArray(aliasedType((TSElementAlias) tsType), visitedElements);
+        }
+        if (tsType instanceof TSArray) {
+            return containsTypedArray(((TSArray) tsType).getElementType(), visitedElements);
+        }
+        if (tsType instanceof TSMap) {
+            return containsTypedArray(((TSMap) tsType).getValueType(), visitedElements);
+        }
+        for (TSType actualTypeParameter : actualTypeParameters(tsType)) {
+            if (containsTypedArray(actualTypeParameter, visitedElements)) {
+                return true;
+            }
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null) {
+            return false;
+        }
+        if (TypedArraysConfigurator.isTypedArray(tsComplexElement)) {
+            return true;
+        }
+        if (!canDeclareFunctionsIn(tsComplexElement.getModule()) || !visitedElements.add(tsComplexElement)) {
+            return false;
+        }
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            if (containsTypedArray(parentType, visitedElements)) {
+                return true;
+            }
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            if (containsTypedArray(tsField.getType(), visitedElements)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean usesTypeParameters(TSComplexElement tsComplexElement) {
+        if (tsComplexElement.getTsTypeParameterList().isEmpty()) {
+            return false;
+        }
+        for (TSType parentType : parentTypes(tsComplexElement)) {
+            if (mentionsTypeParameter(parentType)) {
+                return true;
+            }
+        }
+        for (TSField tsField : tsComplexElement.getTsFields()) {
+            if (mentionsTypeParameter(tsField.getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mentionsTypeParameter(TSType tsType) {
+        if (tsType instanceof TSFormalTypeParameter) {
+            return true;
+        }
+        if (tsType instanceof TSUnion) {
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType && mentionsTypeParameter((TSType) tsElement)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (tsType instanceof TSArray) {
+            return mentionsTypeParameter(((TSArray) tsType).getElementType());
+        }
+        if (tsType instanceof TSMap) {
+            return mentionsTypeParameter(((TSMap) tsType).getValueType());
+        }
+        for (TSType actualTypeParameter : actualTypeParameters(tsType)) {
+            if (mentionsTypeParameter(actualTypeParameter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected List<TSType> parentTypes(TSComplexElement tsComplexElement) {
+        List<TSType> parentTypes = new ArrayList<>();
+        if (tsComplexElement instanceof TSClass && ((TSClass) tsComplexElement).getExtendsClass() != null) {
+            parentTypes.add(((TSClass) tsComplexElement).getExtendsClass());
+        }
+        if (tsComplexElement instanceof TSInterface) {
+            parentTypes.addAll(((TSInterface) tsComplexElement).getExtendsInterfaces());
+        }
+        return parentTypes;
+    }
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.extensions;
+
+public class MessagePackModelSerializerExtension extends BinaryModelSerializerExtension {
+
+    public MessagePackModelSerializerExtension() {
+        super("application/x-msgpack", "@msgpack/msgpack", "encode", "decode");
+    }
+}
@@ -0,0 +1,129 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.tsmodel.TSArrowFuncType;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
+import com.blueveery.springrest2ts.tsmodel.generics.TSParameterizedTypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for extensions which generate module level functions (decoders, type guards, serializers) for model types
+ */
+public class ModelFunctionsUtility {
+    public static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private ModelFunctionsUtility() {
+    }
+
+    public static String fieldAccess(String variableName, TSField tsField) {
+        return propertyAccess(variableName, tsField.getName());
+    }
+
+    public static String propertyAccess(String variableName, String propertyName) {
+        if (IDENTIFIER_PATTERN.matcher(propertyName).matches()) {
+            return variableName + "." + propertyName;
+        }
+        if (propertyName.startsWith("\"") || propertyName.startsWith("'")) {
+            return variableName + "[" + propertyName + "]";
+        }
+        return variableName + "[" + stringLiteral(propertyName) + "]";
+    }
+
+    /**
+     * single quoted TS string literal, quotes and backslashes in value are escaped
+     */
+    public static String stringLiteral(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    public static String formalTypeParameterName(TSFormalTypeParameter formalTypeParameter) {
+        String name = formalTypeParameter.getName();
+        int boundIndex = name.indexOf(' ');
+        return boundIndex > 0 ? name.substring(0, boundIndex) : name;
+    }
+
+    public static boolean canDeclareFunctionsIn(TSModule tsModule) {
+        return tsModule != null && !tsModule.isExternal() && tsModule != TypeMapper.systemModule;
+    }
+
+    public static TSType unwrapNullableType(TSType tsType) {
+        if (tsType instanceof TSUnion) {
+            List<TSType> joinedTypes = new ArrayList<>();
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType && tsElement != TypeMapper.tsNull && tsElement != TypeMapper.tsUndefined) {
+                    joinedTypes.add((TSType) tsElement);
+                } else if (!(tsElement instanceof TSType)) {
+                    return tsType;
+                }
+            }
+            if (joinedTypes.size() == 1) {
+                return joinedTypes.get(0);
+            }
+        }
+        return tsType;
+    }
+
+    public static String typeReferenceName(TSComplexElement tsComplexElement) {
+        List<String> typeParameterNames = new ArrayList<>();
+        for (TSFormalTypeParameter formalTypeParameter : tsComplexElement.getTsTypeParameterList()) {
+            typeParameterNames.add(formalTypeParameterName(formalTypeParameter));
+        }
+        if (typeParameterNames.isEmpty()) {
+            return tsComplexElement.getName();
+        }
+        return tsComplexElement.getName() + "<" + String.join(", ", typeParameterNames) + ">";
+    }
+
+    public static TSComplexElement referencedComplexElement(TSType tsType) {
+        if (tsType instanceof TSParameterizedTypeReference) {
+            Object referencedType = ((TSParameterizedTypeReference<?>) tsType).getReferencedType();
+            if (referencedType instanceof TSComplexElement) {
+                return (TSComplexElement) referencedType;
+            }
+        }
+        if (tsType instanceof TSComplexElement) {
+            return (TSComplexElement) tsType;
+        }
+        return null;
+    }
+
+    public static List<TSType> actualTypeParameters(TSType tsType) {
+        if (tsType instanceof TSParameterizedTypeReference) {
+            return ((TSParameterizedTypeReference<?>) tsType).getTsTypeParameterList();
+        }
+        return new ArrayList<>();
+    }
+
+    public static TSFunction createModelFunction(
+            String name, TSComplexElement tsComplexElement, String valueParameterName, TSType returnType,
+            String callbackPrefix, TSType callbackReturnType
+    ) {
+        TSFunction tsFunction = new TSFunction(name, tsComplexElement.getModule(), returnType, null);
+        tsFunction.getParameterList().add(new TSParameter(valueParameterName, TypeMapper.tsAny, null, null));
+        for (TSFormalTypeParameter formalTypeParameter : tsComplexElement.getTsTypeParameterList()) {
+            tsFunction.getTsTypeParameterList().add(formalTypeParameter);
+            String parameterName = formalTypeParameterName(formalTypeParameter);
+            List<TSParameter> callbackParameters = new ArrayList<>();
+            callbackParameters.add(new TSParameter(valueParameterName, TypeMapper.tsAny, null, null));
+            TSType callbackType = new TSArrowFuncType(
+                    callbackParameters, callbackReturnType != null ? callbackReturnType : new TSSimpleType(parameterName)
+            );
+            TSParameter callbackParameter = new TSParameter(callbackPrefix + parameterName, callbackType, null, null);
+            callbackParameter.setOptional(true);
+            tsFunction.getParameterList().add(callbackParameter);
+        }
+        return tsFunction;
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.List;
 
 public interface ModelSerializerExtension {
+    String JSON_MEDIA_TYPE = "application/json";
+
     void addComplexTypeUsage(TSComplexElement tsComplexElement);
 
     default void addImplementationSpecificFields(TSComplexElement tsComplexElement) {
@@ -33,4 +35,28 @@ public interface ModelSerializerExtension {
     default String generateDeserializationCode(String modelVariableName, TSMethod tsMethod) {
         return generateDeserializationCode(modelVariableName);
     }
+
+    default String getMediaType() {
+        return JSON_MEDIA_TYPE;
+    }
+
+    default boolean isBinary() {
+        return false;
+    }
+
+    /**
+     * serializers which need runtime class or generated reader of the model type can not handle
+     * type aliases (like Pick&lt;Type, ...&gt;) in signatures of REST methods
+     */
+    default boolean isModelTypeAliasSupported() {
+        return true;
+    }
+
+    default boolean isParsedObjectDeserializationSupported() {
+        return false;
+    }
+
+    default String generateDeserializationCodeFromParsedObject(String parsedObjectVariableName, TSMethod tsMethod) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -0,0 +1,10 @@
+package com.blueveery.springrest2ts.extensions;
+
+/**
+ * Generates statements which add query parameters to request params in implementation specific way
+ */
+public interface QueryParamsAppender {
+    String append(String paramNameExpression, String valueExpression);
+
+    String appendAll(String paramNameExpression, String valuesExpression);
+}
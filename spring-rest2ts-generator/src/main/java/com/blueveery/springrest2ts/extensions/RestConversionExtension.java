@@ -12,4 +12,15 @@ public interface RestConversionExtension extends ConversionExtension{
     }
 
     String generateImplementation(TSParameter tsParameter, String pathParamsList, String queryParamsList, String headerParamsList);
+
+    default String generateImplementation(TSParameter tsParameter, QueryParamsAppender queryParamsAppender) {
+        String queryParamsList = "queryParamsList";
+        return "\n    {"
+                + "\n    const " + queryParamsList + ": { name: string, value: string }[] = [];"
+                + generateImplementation(tsParameter, "pathParamsList", queryParamsList, "headerParamsList")
+                + "\n    for (const queryParam of " + queryParamsList + ") {"
+                + "\n      " + queryParamsAppender.append("queryParam.name", "queryParam.value")
+                + "\n    }"
+                + "\n    }";
+    }
 }
@@ -1,6 +1,7 @@
 package com.blueveery.springrest2ts.extensions;
 
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
 
 public class StandardJsonSerializerExtension implements ModelSerializerExtension {
 
@@ -17,4 +18,14 @@ public class StandardJsonSerializerExtension implements ModelSerializerExtension
     public String generateDeserializationCode(String modelVariableName) {
         return "JSON.parse(" + modelVariableName + ")";
     }
+
+    @Override
+    public boolean isParsedObjectDeserializationSupported() {
+        return true;
+    }
+
+    @Override
+    public String generateDeserializationCodeFromParsedObject(String parsedObjectVariableName, TSMethod tsMethod) {
+        return parsedObjectVariableName;
+    }
 }
@@ -16,4 +16,30 @@ public abstract class ComplexFilterOperator implements JavaTypeFilter {
     public List<JavaTypeFilter> getJavaTypeFilters() {
         return javaTypeFilters;
     }
+
+    /**
+     * Returns true if given result of nested filter stops evaluation of next filters,
+     * by default none of results is short circuit
+     */
+    protected boolean isShortCircuitResult(boolean accepted) {
+        return false;
+    }
+
+    /**
+     * Evaluates nested filters through given context, until result for which {@link #isShortCircuitResult(boolean)}
+     * returns true. Operators which don't use it are evaluated by {@link #accept(Class)}
+     */
+    protected boolean acceptNestedFilters(Class javaType, FilterEvaluationContext context) {
+        context.enter(this);
+        boolean accepted = !isShortCircuitResult(true);
+        for (JavaTypeFilter typeFilter : getJavaTypeFilters()) {
+            boolean nestedFilterAccepted = typeFilter.accept(javaType, context);
+            if (isShortCircuitResult(nestedFilterAccepted)) {
+                accepted = nestedFilterAccepted;
+                break;
+            }
+        }
+        context.exit(this, javaType, accepted);
+        return accepted;
+    }
 }
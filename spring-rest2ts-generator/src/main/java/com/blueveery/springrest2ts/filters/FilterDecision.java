@@ -0,0 +1,74 @@
+package com.blueveery.springrest2ts.filters;
+
+import java.util.List;
+
+/**
+ * Result of filter evaluation for given class together with decisions of nested filters
+ */
+public class FilterDecision {
+    private final JavaTypeFilter javaTypeFilter;
+    private final Class javaType;
+    private final boolean accepted;
+    private final List<FilterDecision> nestedDecisions;
+
+    public FilterDecision(JavaTypeFilter javaTypeFilter, Class javaType, boolean accepted, List<FilterDecision> nestedDecisions) {
+        this.javaTypeFilter = javaTypeFilter;
+        this.javaType = javaType;
+        this.accepted = accepted;
+        this.nestedDecisions = nestedDecisions;
+    }
+
+    public JavaTypeFilter getJavaTypeFilter() {
+        return javaTypeFilter;
+    }
+
+    public Class getJavaType() {
+        return javaType;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public List<FilterDecision> getNestedDecisions() {
+        return nestedDecisions;
+    }
+
+    /**
+     * Returns the innermost filter which determined result, for example first accepting filter in OR operator
+     * or first rejecting filter in AND operator
+     */
+    public JavaTypeFilter getDecidingFilter() {
+        if (nestedDecisions.isEmpty()) {
+            return javaTypeFilter;
+        }
+        FilterDecision lastNestedDecision = nestedDecisions.get(nestedDecisions.size() - 1);
+        if (javaTypeFilter instanceof NotJavaTypeFilter) {
+            return lastNestedDecision.getDecidingFilter();
+        }
+        if (javaTypeFilter instanceof ComplexFilterOperator && ((ComplexFilterOperator) javaTypeFilter).isShortCircuitResult(accepted)) {
+            return lastNestedDecision.getDecidingFilter();
+        }
+        return javaTypeFilter;
+    }
+
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        describe(description, "");
+        return description.toString();
+    }
+
+    private void describe(StringBuilder description, String indentation) {
+        description.append(indentation).append(accepted ? "TRUE => " : "FALSE => ")
+                .append(javaTypeFilter.getClass().getSimpleName()).append(" for class ").append(javaType.getName());
+        for (FilterDecision nestedDecision : nestedDecisions) {
+            description.append("\n");
+            nestedDecision.describe(description, indentation + "\t");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
@@ -0,0 +1,104 @@
+package com.blueveery.springrest2ts.filters;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts accepted and rejected classes for each evaluated filter, decision trees are collected only if tracing is enabled
+ */
+public class FilterEvaluationContext {
+    private final boolean tracingEnabled;
+    private final Map<JavaTypeFilter, FilterCounter> counters = new IdentityHashMap<>();
+    private final Deque<List<FilterDecision>> nestedDecisionsStack = new ArrayDeque<>();
+    private final List<FilterDecision> decisions = new ArrayList<>();
+
+    public FilterEvaluationContext(boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+    }
+
+    public boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    /**
+     * Called by filters which delegate to nested filters, before nested filters are evaluated
+     */
+    public void enter(JavaTypeFilter javaTypeFilter) {
+        if (tracingEnabled) {
+            nestedDecisionsStack.push(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Called by filters which delegate to nested filters, after nested filters are evaluated
+     */
+    public void exit(JavaTypeFilter javaTypeFilter, Class javaType, boolean accepted) {
+        count(javaTypeFilter, accepted);
+        if (tracingEnabled) {
+            List<FilterDecision> nestedDecisions = nestedDecisionsStack.pop();
+            addDecision(new FilterDecision(javaTypeFilter, javaType, accepted, nestedDecisions));
+        }
+    }
+
+    public void evaluated(JavaTypeFilter javaTypeFilter, Class javaType, boolean accepted) {
+        count(javaTypeFilter, accepted);
+        if (tracingEnabled) {
+            addDecision(new FilterDecision(javaTypeFilter, javaType, accepted, Collections.emptyList()));
+        }
+    }
+
+    public List<FilterDecision> getDecisions() {
+        return Collections.unmodifiableList(decisions);
+    }
+
+    public Map<JavaTypeFilter, FilterCounter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public FilterCounter getCounter(JavaTypeFilter javaTypeFilter) {
+        return counters.getOrDefault(javaTypeFilter, new FilterCounter());
+    }
+
+    private void count(JavaTypeFilter javaTypeFilter, boolean accepted) {
+        FilterCounter counter = counters.get(javaTypeFilter);
+        if (counter == null) {
+            counter = new FilterCounter();
+            counters.put(javaTypeFilter, counter);
+        }
+        counter.count(accepted);
+    }
+
+    private void addDecision(FilterDecision decision) {
+        if (nestedDecisionsStack.isEmpty()) {
+            decisions.add(decision);
+        } else {
+            nestedDecisionsStack.peek().add(decision);
+        }
+    }
+
+    public static class FilterCounter {
+        private long acceptedCount;
+        private long rejectedCount;
+
+        void count(boolean accepted) {
+            if (accepted) {
+                acceptedCount++;
+            } else {
+                rejectedCount++;
+            }
+        }
+
+        public long getAcceptedCount() {
+            return acceptedCount;
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+    }
+}
@@ -6,4 +6,10 @@ public interface JavaTypeFilter {
     boolean accept(Class javaType);
 
     void explain(Class packageClass, Logger logger, String indentation);
+
+    default boolean accept(Class javaType, FilterEvaluationContext context) {
+        boolean accepted = accept(javaType);
+        context.evaluated(this, javaType, accepted);
+        return accepted;
+    }
 }
@@ -14,6 +14,14 @@ public class NotJavaTypeFilter implements JavaTypeFilter {
         return !javaTypeFilter.accept(javaType);
     }
 
+    @Override
+    public boolean accept(Class javaType, FilterEvaluationContext context) {
+        context.enter(this);
+        boolean accepted = !javaTypeFilter.accept(javaType, context);
+        context.exit(this, javaType, accepted);
+        return accepted;
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
         if (accept(packageClass)) {
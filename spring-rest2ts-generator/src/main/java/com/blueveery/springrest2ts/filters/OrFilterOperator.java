@@ -19,6 +19,16 @@ public class OrFilterOperator extends ComplexFilterOperator {
         return false;
     }
 
+    @Override
+    public boolean accept(Class javaType, FilterEvaluationContext context) {
+        return acceptNestedFilters(javaType, context);
+    }
+
+    @Override
+    protected boolean isShortCircuitResult(boolean accepted) {
+        return accepted;
+    }
+
     @Override
     public void explain(Class packageClass, Logger logger, String indentation) {
         logger.info(indentation + "{ OR FILTER");
@@ -0,0 +1,10 @@
+package com.blueveery.springrest2ts.implgens;
+
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+public interface FunctionImplementationGenerator {
+    void write(BufferedWriter writer, TSFunction tsFunction) throws IOException;
+}
@@ -0,0 +1,97 @@
+package com.blueveery.springrest2ts.report;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Wall time, CPU time and bytes allocated by current thread during one generation phase.
+ * CPU time and allocated bytes are -1 if they are not supported by JVM
+ */
+public class GenerationPhase {
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private static final Method threadAllocatedBytesMethod = findThreadAllocatedBytesMethod();
+
+    private final String name;
+    private final long startWallTime;
+    private final long startCpuTime;
+    private final long startAllocatedBytes;
+    private long wallTimeNanos = -1;
+    private long cpuTimeNanos = -1;
+    private long allocatedBytes = -1;
+
+    GenerationPhase(String name) {
+        this.name = name;
+        this.startCpuTime = currentThreadCpuTime();
+        this.startAllocatedBytes = currentThreadAllocatedBytes();
+        this.startWallTime = System.nanoTime();
+    }
+
+    void finish() {
+        wallTimeNanos = System.nanoTime() - startWallTime;
+        long endCpuTime = currentThreadCpuTime();
+        if (startCpuTime >= 0 && endCpuTime >= 0) {
+            cpuTimeNanos = endCpuTime - startCpuTime;
+        }
+        long endAllocatedBytes = currentThreadAllocatedBytes();
+        if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+            allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private static long currentThreadCpuTime() {
+        if (threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+        return -1;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (threadAllocatedBytesMethod == null) {
+            return -1;
+        }
+        try {
+            return (Long) threadAllocatedBytesMethod.invoke(threadMXBean, Thread.currentThread().getId());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * allocated bytes are reported by com.sun.management.ThreadMXBean, it is looked up by reflection
+     * so on JVMs without this extension allocations are reported as not supported
+     */
+    private static Method findThreadAllocatedBytesMethod() {
+        try {
+            Class<?> sunThreadMXBeanClass = Class.forName("com.sun.management.ThreadMXBean");
+            if (!sunThreadMXBeanClass.isInstance(threadMXBean)) {
+                return null;
+            }
+            boolean supported = (Boolean) sunThreadMXBeanClass.getMethod("isThreadAllocatedMemorySupported").invoke(threadMXBean);
+            boolean enabled = (Boolean) sunThreadMXBeanClass.getMethod("isThreadAllocatedMemoryEnabled").invoke(threadMXBean);
+            if (!supported || !enabled) {
+                return null;
+            }
+            return sunThreadMXBeanClass.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.blueveery.springrest2ts.report;
+
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
+import com.blueveery.springrest2ts.tsmodel.TSEnum;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timings of generation phases (in execution order) and counters of scanned classes and created TypeScript elements
+ */
+public class GenerationReport {
+    public static final String CLASSES_SCANNED = "classesScanned";
+    public static final String MODEL_CLASSES_ACCEPTED = "modelClassesAccepted";
+    public static final String REST_CLASSES_ACCEPTED = "restClassesAccepted";
+    public static final String ENUM_CLASSES_FOUND = "enumClassesFound";
+    public static final String MODULES_CREATED = "modulesCreated";
+    public static final String TYPES_CREATED = "typesCreated";
+    public static final String FIELDS_CREATED = "fieldsCreated";
+    public static final String METHODS_CREATED = "methodsCreated";
+
+    private final List<GenerationPhase> phases = new ArrayList<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    public GenerationPhase startPhase(String name) {
+        GenerationPhase phase = new GenerationPhase(name);
+        phases.add(phase);
+        return phase;
+    }
+
+    public void endPhase(GenerationPhase phase) {
+        phase.finish();
+    }
+
+    public List<GenerationPhase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    public GenerationPhase getPhase(String name) {
+        for (GenerationPhase phase : phases) {
+            if (phase.getName().equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    public void setCounter(String name, long value) {
+        counters.put(name, value);
+    }
+
+    public void countTsElements(Collection<TSModule> tsModules) {
+        long types = 0;
+        long fields = 0;
+        long methods = 0;
+        for (TSModule tsModule : tsModules) {
+            for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                if (isType(tsScopedElement)) {
+                    types++;
+                }
+                if (tsScopedElement instanceof TSComplexElement) {
+                    fields += ((TSComplexElement) tsScopedElement).getTsFields().size();
+                    methods += ((TSComplexElement) tsScopedElement).getTsMethods().size();
+                }
+            }
+        }
+        setCounter(MODULES_CREATED, tsModules.size());
+        setCounter(TYPES_CREATED, types);
+        setCounter(FIELDS_CREATED, fields);
+        setCounter(METHODS_CREATED, methods);
+    }
+
+    /**
+     * classes, interfaces, enums and type aliases, module level functions and variables are not types
+     */
+    private boolean isType(TSScopedElement tsScopedElement) {
+        return tsScopedElement instanceof TSComplexElement || tsScopedElement instanceof TSEnum
+                || tsScopedElement instanceof TSElementAlias;
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            GenerationPhase phase = phases.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": \"").append(escape(phase.getName())).append("\"");
+            json.append(", \"wallTimeNanos\": ").append(phase.getWallTimeNanos());
+            json.append(", \"cpuTimeNanos\": ").append(phase.getCpuTimeNanos());
+            json.append(", \"allocatedBytes\": ").append(phase.getAllocatedBytes()).append("}");
+        }
+        json.append(phases.isEmpty() ? "],\n" : "\n  ],\n");
+        json.append("  \"counters\": {");
+        int i = 0;
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            json.append(i++ == 0 ? "\n" : ",\n");
+            json.append("    \"").append(escape(counter.getKey())).append("\": ").append(counter.getValue());
+        }
+        json.append(counters.isEmpty() ? "}\n" : "\n  }\n");
+        return json.append("}\n").toString();
+    }
+
+    public void writeJson(Path reportFile) throws IOException {
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile)) {
+            writer.write(toJson());
+        }
+    }
+
+    private String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.tsmodel;
+
+/**
+ * type which contains a subset of properties of the picked complex element, like Pick&lt;Type, ...&gt;
+ */
+public interface IPickedType {
+    TSComplexElement getPickedElement();
+}
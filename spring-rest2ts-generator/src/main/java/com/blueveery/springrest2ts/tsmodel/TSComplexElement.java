@@ -37,6 +37,10 @@ public abstract class TSComplexElement extends TSScopedElement implements IDecor
         tsFormalTypeParameterList.addAll(Arrays.asList(formalTypeParameters));
     }
 
+    public ImplementationGenerator getImplementationGenerator() {
+        return implementationGenerator;
+    }
+
     public SortedSet<TSField> getTsFields() {
         return tsFields;
     }
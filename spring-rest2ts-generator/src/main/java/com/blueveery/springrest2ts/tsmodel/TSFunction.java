@@ -1,26 +1,78 @@
 package com.blueveery.springrest2ts.tsmodel;
 
 
+import com.blueveery.springrest2ts.implgens.FunctionImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.generics.IParameterizedWithFormalTypes;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
+
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-public class TSFunction extends TSScopedElement {
+public class TSFunction extends TSScopedElement implements IParameterizedWithFormalTypes {
 
     private List<TSParameter> parameterList = new ArrayList<>();
+    private List<TSFormalTypeParameter> tsFormalTypeParameterList = new ArrayList<>();
+    private TSType returnType;
+    private FunctionImplementationGenerator implementationGenerator;
 
     public TSFunction(String name, TSModule module) {
         super(name, module);
     }
 
+    public TSFunction(String name, TSModule module, TSType returnType, FunctionImplementationGenerator implementationGenerator) {
+        super(name, module);
+        this.returnType = returnType;
+        this.implementationGenerator = implementationGenerator;
+    }
+
     public List<TSParameter> getParameterList() {
         return parameterList;
     }
 
+    @Override
+    public List<TSFormalTypeParameter> getTsTypeParameterList() {
+        return tsFormalTypeParameterList;
+    }
+
+    public TSType getReturnType() {
+        return returnType;
+    }
+
+    public void setReturnType(TSType returnType) {
+        this.returnType = returnType;
+    }
+
+    public FunctionImplementationGenerator getImplementationGenerator() {
+        return implementationGenerator;
+    }
+
+    public void setImplementationGenerator(FunctionImplementationGenerator implementationGenerator) {
+        this.implementationGenerator = implementationGenerator;
+    }
+
     @Override
     public void write(BufferedWriter writer) throws IOException {
-        throw new UnsupportedOperationException();
+        if (implementationGenerator == null) {
+            throw new UnsupportedOperationException();
+        }
+        tsComment.write(writer);
+        writer.write("export function " + getName() + typeParametersToString().trim() + "(");
+        for (int i = 0; i < parameterList.size(); i++) {
+            parameterList.get(i).write(writer);
+            if (i < parameterList.size() - 1) {
+                writer.write(", ");
+            }
+        }
+        writer.write(")");
+        if (returnType != null) {
+            writer.write(": " + returnType.getName());
+        }
+        writer.write(" {");
+        writer.newLine();
+        implementationGenerator.write(writer, this);
+        writer.newLine();
+        writer.write("}");
     }
 }
-
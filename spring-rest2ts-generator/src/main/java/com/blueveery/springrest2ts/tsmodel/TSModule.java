@@ -2,6 +2,8 @@ package com.blueveery.springrest2ts.tsmodel;
 
 import com.blueveery.springrest2ts.Rest2tsGenerator;
 import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+import com.blueveery.springrest2ts.events.GeneratorEvents;
 import com.blueveery.springrest2ts.tsmodel.generics.IParameterizedWithFormalTypes;
 import com.blueveery.springrest2ts.tsmodel.generics.TSClassReference;
 import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
@@ -10,9 +12,12 @@ import org.slf4j.Logger;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -65,14 +70,41 @@ public class TSModule extends TSElement implements ICommentedElement {
         return tsComment;
     }
 
+    public Path getModuleFile(Path outputDir) {
+        return outputDir.resolve(moduleRelativePath).resolve(getName() + "." + moduleExtensionType).normalize();
+    }
+
     public void writeModule(Path outputDir, Logger logger) throws IOException {
-        Path tsModuleDir = outputDir.resolve(moduleRelativePath);
-        Files.createDirectories(tsModuleDir);
-        Path tsModuleFile = tsModuleDir.resolve(getName() + "." + moduleExtensionType);
+        GeneratorEvent moduleWriteEvent = GeneratorEvents.beginModuleWrite();
+        Path tsModuleFile = getModuleFile(outputDir);
+        Files.createDirectories(tsModuleFile.getParent());
         logger.info(String.format("Generating module into %s", tsModuleFile.toAbsolutePath().normalize().toUri()));
         BufferedWriter writer = Files.newBufferedWriter(tsModuleFile);
         write(writer);
         writer.close();
+        GeneratorEvents.endModuleWrite(moduleWriteEvent, getName(), tsModuleFile);
+    }
+
+    /**
+     * Module file is written only if its content differs from generated code, so file modification time changes only
+     * when module really changed
+     */
+    public boolean writeModuleIfChanged(Path outputDir, Logger logger) throws IOException {
+        GeneratorEvent moduleWriteEvent = GeneratorEvents.beginModuleWrite();
+        Path tsModuleFile = getModuleFile(outputDir);
+        StringWriter moduleCode = new StringWriter();
+        BufferedWriter writer = new BufferedWriter(moduleCode);
+        write(writer);
+        writer.close();
+        byte[] moduleBytes = moduleCode.toString().getBytes(StandardCharsets.UTF_8);
+        if (Files.exists(tsModuleFile) && Arrays.equals(Files.readAllBytes(tsModuleFile), moduleBytes)) {
+            return false;
+        }
+        Files.createDirectories(tsModuleFile.getParent());
+        logger.info(String.format("Generating module into %s", tsModuleFile.toAbsolutePath().normalize().toUri()));
+        Files.write(tsModuleFile, moduleBytes);
+        GeneratorEvents.endModuleWrite(moduleWriteEvent, getName(), tsModuleFile);
+        return true;
     }
 
     @Override
@@ -137,7 +169,7 @@ public class TSModule extends TSElement implements ICommentedElement {
 
     public void addScopedElement(TSScopedElement tsScopedElement) {
         scopedTypesSet.add(tsScopedElement);
-        if (tsScopedElement instanceof TSClass || !Rest2tsGenerator.generateAmbientModules) {
+        if (tsScopedElement instanceof TSClass || tsScopedElement instanceof TSFunction || !Rest2tsGenerator.generateAmbientModules) {
             moduleExtensionType = implementation;
         }
     }
@@ -0,0 +1,36 @@
+package com.blueveery.springrest2ts.watch;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Loads classes from classes directories before delegating to parent, so recompiled classes are loaded
+ * even if parent class loader has the same directories on its class path
+ */
+class ClassesDirectoriesClassLoader extends URLClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    ClassesDirectoriesClassLoader(URL[] classesDirectories, ClassLoader parent) {
+        super(classesDirectories, parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass == null && findResource(name.replace('.', '/') + ".class") != null) {
+                loadedClass = findClass(name);
+            }
+            if (loadedClass == null) {
+                return super.loadClass(name, resolve);
+            }
+            if (resolve) {
+                resolveClass(loadedClass);
+            }
+            return loadedClass;
+        }
+    }
+}
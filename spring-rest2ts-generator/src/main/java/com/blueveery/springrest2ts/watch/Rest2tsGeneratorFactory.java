@@ -0,0 +1,10 @@
+package com.blueveery.springrest2ts.watch;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+
+/**
+ * Creates configured generator for each watch cycle, filters should be created for classes from given class loader
+ */
+public interface Rest2tsGeneratorFactory {
+    Rest2tsGenerator create(ClassLoader classLoader) throws ReflectiveOperationException;
+}
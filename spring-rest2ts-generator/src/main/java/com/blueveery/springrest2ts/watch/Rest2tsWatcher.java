@@ -0,0 +1,319 @@
+package com.blueveery.springrest2ts.watch;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Long-running generation which regenerates TypeScript code when class files in classes directories change.
+ * Each cycle loads classes with new class loader, converts all modules and writes module files only if their
+ * content changed.
+ * In incremental mode TS modules which contain changed classes and modules which (transitively) import them
+ * are converted again, other modules are only registered. When changed class can't be assigned to module from previous
+ * cycle (new class, class which is not converted but could influence converted classes like not accepted base class)
+ * or changed class is moved to other module, full conversion is done. Incremental mode can be enabled only when
+ * no extension adds elements to modules of other types (like JsonView aliases, JSON decoders or type guards),
+ * since such elements are missing when their source module is not converted again.
+ * Conversion uses static TypeMapper so other generation can't run in the same JVM at the same time.
+ */
+public class Rest2tsWatcher implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger("gen-logger");
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private final Rest2tsGeneratorFactory generatorFactory;
+    private final Set<String> packagesNames;
+    private final Path outputDir;
+    private final List<Path> classesDirectories;
+    private ClassLoader parentClassLoader = Rest2tsWatcher.class.getClassLoader();
+    private long quietPeriodMillis = 300;
+    private boolean incremental;
+
+    private final Map<String, String> classModules = new HashMap<>();
+    private final Map<String, Set<String>> moduleImports = new HashMap<>();
+    private final Map<String, Path> moduleFiles = new HashMap<>();
+    private Set<String> lastConvertedModules = new HashSet<>();
+    private WatchService watchService;
+
+    public Rest2tsWatcher(Rest2tsGeneratorFactory generatorFactory, Set<String> packagesNames, Path outputDir, List<Path> classesDirectories) {
+        this.generatorFactory = generatorFactory;
+        this.packagesNames = packagesNames;
+        this.outputDir = outputDir;
+        this.classesDirectories = classesDirectories;
+    }
+
+    public ClassLoader getParentClassLoader() {
+        return parentClassLoader;
+    }
+
+    /**
+     * Class loader of libraries and annotations, classes from watched directories are always loaded by new class loader
+     */
+    public void setParentClassLoader(ClassLoader parentClassLoader) {
+        this.parentClassLoader = parentClassLoader;
+    }
+
+    public long getQuietPeriodMillis() {
+        return quietPeriodMillis;
+    }
+
+    /**
+     * Generation starts when there were no changes of class files for given time, so all classes recompiled
+     * by IDE are handled in one cycle
+     */
+    public void setQuietPeriodMillis(long quietPeriodMillis) {
+        this.quietPeriodMillis = quietPeriodMillis;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public Set<String> getLastConvertedModules() {
+        return lastConvertedModules;
+    }
+
+    /**
+     * Runs one generation cycle, null changed classes means full generation. Returns written module files
+     */
+    public List<Path> generate(Set<String> changedClassesNames) throws IOException {
+        Set<String> affectedModules = changedClassesNames != null && incremental ? findAffectedModules(changedClassesNames) : null;
+        if (affectedModules == null) {
+            return generate(null, tsModule -> true);
+        }
+        Set<String> knownModules = new HashSet<>(moduleFiles.keySet());
+        List<Path> writtenFiles = generate(changedClassesNames,
+                tsModule -> affectedModules.contains(tsModule.getName()) || !knownModules.contains(tsModule.getName()));
+        if (writtenFiles == null) {
+            logger.info("Changed classes moved to other modules, running full generation");
+            return generate(null, tsModule -> true);
+        }
+        return writtenFiles;
+    }
+
+    private List<Path> generate(Set<String> changedClassesNames, Predicate<TSModule> conversionScope) throws IOException {
+        URL[] classesDirectoriesUrls = new URL[classesDirectories.size()];
+        for (int i = 0; i < classesDirectories.size(); i++) {
+            classesDirectoriesUrls[i] = classesDirectories.get(i).toUri().toURL();
+        }
+        try (ClassesDirectoriesClassLoader classLoader = new ClassesDirectoriesClassLoader(classesDirectoriesUrls, parentClassLoader)) {
+            TypeMapper.resetTypeMapping();
+            Rest2tsGenerator tsGenerator = generatorFactory.create(classLoader);
+            tsGenerator.setClassLoader(classLoader);
+            tsGenerator.setConversionScope(conversionScope);
+            SortedSet<TSModule> tsModules = tsGenerator.convert(packagesNames);
+
+            Map<String, String> currentClassModules = new HashMap<>();
+            for (TSModule tsModule : tsModules) {
+                for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                    for (Class javaType : tsScopedElement.getMappedFromJavaTypeSet()) {
+                        currentClassModules.put(javaType.getName(), tsModule.getName());
+                    }
+                }
+            }
+            Set<String> convertedModules = new TreeSet<>();
+            for (TSModule tsModule : tsModules) {
+                if (conversionScope.test(tsModule)) {
+                    convertedModules.add(tsModule.getName());
+                }
+            }
+            if (changedClassesNames != null) {
+                for (String changedClassName : changedClassesNames) {
+                    String currentModule = currentClassModules.get(changedClassName);
+                    if (currentModule != null && !convertedModules.contains(currentModule)) {
+                        return null;
+                    }
+                }
+            }
+            return writeModules(tsModules, convertedModules, currentClassModules);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Generator could not be created", e);
+        } finally {
+            TypeMapper.resetTypeMapping();
+        }
+    }
+
+    private List<Path> writeModules(SortedSet<TSModule> tsModules, Set<String> convertedModules, Map<String, String> currentClassModules) throws IOException {
+        List<Path> writtenFiles = new ArrayList<>();
+        Set<String> currentModules = new HashSet<>();
+        for (TSModule tsModule : tsModules) {
+            currentModules.add(tsModule.getName());
+            if (!convertedModules.contains(tsModule.getName())) {
+                continue;
+            }
+            Path moduleFile = tsModule.getModuleFile(outputDir);
+            Path previousModuleFile = moduleFiles.put(tsModule.getName(), moduleFile);
+            if (previousModuleFile != null && !previousModuleFile.equals(moduleFile)) {
+                Files.deleteIfExists(previousModuleFile);
+            }
+            if (tsModule.writeModuleIfChanged(outputDir, logger)) {
+                writtenFiles.add(moduleFile);
+            }
+            Set<String> importedModules = new HashSet<>();
+            for (TSModule importedModule : tsModule.getImportMap().keySet()) {
+                importedModules.add(importedModule.getName());
+            }
+            moduleImports.put(tsModule.getName(), importedModules);
+        }
+        for (String removedModule : new ArrayList<>(moduleFiles.keySet())) {
+            if (!currentModules.contains(removedModule)) {
+                logger.info(String.format("Removing module %s", removedModule));
+                Files.deleteIfExists(moduleFiles.remove(removedModule));
+                moduleImports.remove(removedModule);
+            }
+        }
+        classModules.clear();
+        classModules.putAll(currentClassModules);
+        lastConvertedModules = convertedModules;
+        logger.info(String.format("Converted %d of %d modules, written %d files", convertedModules.size(), tsModules.size(), writtenFiles.size()));
+        return writtenFiles;
+    }
+
+    private Set<String> findAffectedModules(Set<String> changedClassesNames) {
+        if (moduleFiles.isEmpty()) {
+            return null;
+        }
+        Set<String> affectedModules = new HashSet<>();
+        for (String changedClassName : changedClassesNames) {
+            String module = classModules.get(changedClassName);
+            if (module == null && changedClassName.contains("$")) {
+                module = classModules.get(changedClassName.substring(0, changedClassName.indexOf('$')));
+            }
+            if (module == null) {
+                return null;
+            }
+            affectedModules.add(module);
+        }
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (Map.Entry<String, Set<String>> imports : moduleImports.entrySet()) {
+                if (!affectedModules.contains(imports.getKey()) && !Collections.disjoint(imports.getValue(), affectedModules)) {
+                    affectedModules.add(imports.getKey());
+                    added = true;
+                }
+            }
+        }
+        return affectedModules;
+    }
+
+    /**
+     * Runs full generation and then regenerates code after each change of class files until watcher is closed
+     */
+    public void watch() throws IOException, InterruptedException {
+        synchronized (this) {
+            watchService = FileSystems.getDefault().newWatchService();
+        }
+        Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+        Map<WatchKey, Path> classesDirectoryOfKey = new HashMap<>();
+        for (Path classesDirectory : classesDirectories) {
+            registerRecursively(classesDirectory, classesDirectory, watchedDirectories, classesDirectoryOfKey);
+        }
+        generate(null);
+        logger.info(String.format("Watching %s for changes", classesDirectories));
+        try {
+            while (true) {
+                Set<String> changedClassesNames = new HashSet<>();
+                WatchKey watchKey = watchService.take();
+                while (watchKey != null) {
+                    collectChanges(watchKey, watchedDirectories, classesDirectoryOfKey, changedClassesNames);
+                    watchKey = watchService.poll(quietPeriodMillis, TimeUnit.MILLISECONDS);
+                }
+                if (changedClassesNames.isEmpty()) {
+                    continue;
+                }
+                logger.info(String.format("Changed classes: %s", changedClassesNames));
+                try {
+                    generate(changedClassesNames);
+                } catch (RuntimeException | IOException | LinkageError e) {
+                    logger.error("Generation failed, waiting for next change", e);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.info("Watching stopped");
+        }
+    }
+
+    private void collectChanges(WatchKey watchKey, Map<WatchKey, Path> watchedDirectories,
+                                Map<WatchKey, Path> classesDirectoryOfKey, Set<String> changedClassesNames) throws IOException {
+        Path directory = watchedDirectories.get(watchKey);
+        Path classesDirectory = classesDirectoryOfKey.get(watchKey);
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                continue;
+            }
+            Path changedPath = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changedPath)) {
+                registerRecursively(classesDirectory, changedPath, watchedDirectories, classesDirectoryOfKey);
+                try (Stream<Path> paths = Files.walk(changedPath)) {
+                    paths.forEach(p -> addChangedClass(classesDirectory, p, changedClassesNames));
+                }
+            } else {
+                addChangedClass(classesDirectory, changedPath, changedClassesNames);
+            }
+        }
+        if (!watchKey.reset()) {
+            watchedDirectories.remove(watchKey);
+            classesDirectoryOfKey.remove(watchKey);
+        }
+    }
+
+    private void addChangedClass(Path classesDirectory, Path classFile, Set<String> changedClassesNames) {
+        String relativePath = classesDirectory.relativize(classFile).toString().replace('\\', '/');
+        if (relativePath.endsWith(CLASS_FILE_EXTENSION)) {
+            changedClassesNames.add(relativePath.substring(0, relativePath.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'));
+        }
+    }
+
+    private void registerRecursively(Path classesDirectory, Path directory, Map<WatchKey, Path> watchedDirectories,
+                                     Map<WatchKey, Path> classesDirectoryOfKey) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path nextDirectory : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                WatchKey watchKey = nextDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectories.put(watchKey, nextDirectory);
+                classesDirectoryOfKey.put(watchKey, classesDirectory);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.blueveery.springrest2ts.filters;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterEvaluationContextTest {
+
+    static class Person {}
+
+    static class Address {}
+
+    static class Order {}
+
+    private final JavaTypeSetFilter personFilter = new JavaTypeSetFilter(Person.class);
+    private final JavaTypeSetFilter addressFilter = new JavaTypeSetFilter(Address.class);
+    private final NotJavaTypeFilter notOrderFilter = new NotJavaTypeFilter(new JavaTypeSetFilter(Order.class));
+    private final OrFilterOperator orFilter = new OrFilterOperator(Arrays.asList(personFilter, addressFilter));
+    private final AndFilterOperator andFilter = new AndFilterOperator(Arrays.asList(notOrderFilter, orFilter));
+
+    @Test
+    public void countersAreCollectedWithoutTracing() {
+        FilterEvaluationContext context = new FilterEvaluationContext(false);
+        assertThat(andFilter.accept(Person.class, context)).isTrue();
+        assertThat(andFilter.accept(Address.class, context)).isTrue();
+        assertThat(andFilter.accept(Order.class, context)).isFalse();
+
+        assertThat(context.getDecisions()).isEmpty();
+        assertThat(context.getCounter(andFilter).getAcceptedCount()).isEqualTo(2);
+        assertThat(context.getCounter(andFilter).getRejectedCount()).isEqualTo(1);
+        assertThat(context.getCounter(personFilter).getAcceptedCount()).isEqualTo(1);
+        assertThat(context.getCounter(personFilter).getRejectedCount()).isEqualTo(1);
+        assertThat(context.getCounter(addressFilter).getAcceptedCount()).isEqualTo(1);
+        assertThat(context.getCounter(orFilter).getAcceptedCount()).isEqualTo(2);
+        assertThat(context.getCounter(notOrderFilter).getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void decidingFilterIsTraced() {
+        FilterEvaluationContext context = new FilterEvaluationContext(true);
+        andFilter.accept(Address.class, context);
+        andFilter.accept(Order.class, context);
+        andFilter.accept(String.class, context);
+
+        assertThat(context.getDecisions()).hasSize(3);
+        FilterDecision addressDecision = context.getDecisions().get(0);
+        assertThat(addressDecision.isAccepted()).isTrue();
+        assertThat(addressDecision.getNestedDecisions()).hasSize(2);
+        assertThat(addressDecision.getNestedDecisions().get(1).getDecidingFilter()).isSameAs(addressFilter);
+
+        FilterDecision orderDecision = context.getDecisions().get(1);
+        assertThat(orderDecision.isAccepted()).isFalse();
+        assertThat(orderDecision.getNestedDecisions()).hasSize(1);
+        assertThat(orderDecision.getDecidingFilter()).isSameAs(notOrderFilter.javaTypeFilter);
+
+        FilterDecision stringDecision = context.getDecisions().get(2);
+        assertThat(stringDecision.getDecidingFilter()).isSameAs(orFilter);
+        assertThat(stringDecision.describe()).isEqualTo(
+                "FALSE => AndFilterOperator for class java.lang.String\n" +
+                "\tTRUE => NotJavaTypeFilter for class java.lang.String\n" +
+                "\t\tFALSE => JavaTypeSetFilter for class java.lang.String\n" +
+                "\tFALSE => OrFilterOperator for class java.lang.String\n" +
+                "\t\tFALSE => JavaTypeSetFilter for class java.lang.String\n" +
+                "\t\tFALSE => JavaTypeSetFilter for class java.lang.String"
+        );
+    }
+
+    @Test
+    public void operatorWithoutShortCircuitResultIsEvaluatedByItsAccept() {
+        ComplexFilterOperator exactlyOneFilter = new ComplexFilterOperator(Arrays.asList(personFilter, notOrderFilter)) {
+            @Override
+            public boolean accept(Class javaType) {
+                return getJavaTypeFilters().stream().filter(f -> f.accept(javaType)).count() == 1;
+            }
+
+            @Override
+            public void explain(Class packageClass, Logger logger, String indentation) {
+            }
+        };
+        FilterEvaluationContext context = new FilterEvaluationContext(true);
+        assertThat(exactlyOneFilter.accept(Person.class, context)).isFalse();
+        assertThat(exactlyOneFilter.accept(Address.class, context)).isTrue();
+        assertThat(exactlyOneFilter.accept(Order.class, context)).isFalse();
+
+        assertThat(context.getCounter(exactlyOneFilter).getAcceptedCount()).isEqualTo(1);
+        assertThat(context.getDecisions().get(1).getDecidingFilter()).isSameAs(exactlyOneFilter);
+    }
+}
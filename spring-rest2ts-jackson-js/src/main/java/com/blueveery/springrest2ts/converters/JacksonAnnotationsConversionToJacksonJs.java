@@ -19,6 +19,9 @@ import java.util.EnumSet;
 import java.util.function.BiFunction;
 
 import static com.blueveery.springrest2ts.jacksonjs.JacksonJsTypeTransformer.jacksonJSModule;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.findInheritanceRoot;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.getTypeId;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.getTypeIdPropertyName;
 
 public class JacksonAnnotationsConversionToJacksonJs extends TypeBasedConversionToJacksonJs {
 
@@ -107,36 +110,7 @@ public class JacksonAnnotationsConversionToJacksonJs extends TypeBasedConversion
     }
 
     private ILiteral getTypeName(Class javaType, Class javaRoot) {
-        JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaRoot.getAnnotation(JsonTypeInfo.class);
-        switch (jsonTypeInfo.use()) {
-            case CLASS:
-                return new TSLiteral("", TypeMapper.tsString, javaType.getName());
-            case MINIMAL_CLASS:
-                return new TSLiteral("", TypeMapper.tsString, getMinimalClassName(javaType, javaRoot));
-            case NAME:
-                return new TSLiteral("", TypeMapper.tsString, typeIdResolver.apply(javaType, javaRoot));
-            default:
-                throw new IllegalStateException(jsonTypeInfo.use() + " is not supported");
-        }
-    }
-
-    private String getMinimalClassName(Class javaType, Class javaRoot) {
-        if ( javaType.getName().startsWith(javaRoot.getPackage().getName())) {
-            return javaType.getName().replaceFirst(javaRoot.getPackage().getName(), "");
-        }
-        return javaType.getName();
-    }
-
-    private Class findInheritanceRoot(Class javaType) {
-        Class superclass = javaType.getSuperclass();
-        if (superclass != null && superclass != Object.class && TypeMapper.map(superclass) != TypeMapper.tsAny) {
-            if (superclass.getAnnotation(JsonTypeInfo.class) == null) {
-                return findInheritanceRoot(superclass);
-            } else {
-                return superclass;
-            }
-        }
-        return null;
+        return new TSLiteral("", TypeMapper.tsString, getTypeId(javaType, javaRoot, typeIdResolver));
     }
 
     private TSDecorator addJsonSubTypesAnnotation(TSClass tsClass) {
@@ -164,10 +138,7 @@ public class JacksonAnnotationsConversionToJacksonJs extends TypeBasedConversion
     }
 
     private void convertJsonTypeInfoProperty(JsonTypeInfo jsonTypeInfo, TSJsonLiteral jsonTypeInfoLiteral) {
-        String propertyName = jsonTypeInfo.property();
-        if("".equals(propertyName)) {
-            propertyName = jsonTypeInfo.use().getDefaultPropertyName();
-        }
+        String propertyName = getTypeIdPropertyName(jsonTypeInfo);
         if (!"@type".equals(propertyName)) {
             jsonTypeInfoLiteral.getFieldMap().put("property", new TSLiteral("", TypeMapper.tsString, propertyName));
         }
@@ -3,24 +3,46 @@ package com.blueveery.springrest2ts.extensions;
 import com.blueveery.springrest2ts.converters.TypeMapper;
 import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
 import com.blueveery.springrest2ts.tsmodel.ILiteral;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSDeclarationType;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
 import com.blueveery.springrest2ts.tsmodel.TSField;
 import com.blueveery.springrest2ts.tsmodel.TSLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSMap;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.blueveery.springrest2ts.tsmodel.TSVariable;
+import com.blueveery.springrest2ts.tsmodel.generics.TSParameterizedTypeReference;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.IDENTIFIER_PATTERN;
 import static com.blueveery.springrest2ts.jacksonjs.JacksonJsTypeTransformer.convertToTypeLiteral;
 import static com.blueveery.springrest2ts.jacksonjs.JacksonJsTypeTransformer.jacksonJSModule;
 import static com.blueveery.springrest2ts.jacksonjs.JacksonJsTypeTransformer.wrapIntoTSLiteralArray;
 
+/**
+ * Main creators of REST methods which are registered by addComplexTypeUsage are hoisted into module constants,
+ * one per distinct return type, so methods returning the same type share the same type descriptor array
+ */
 public class JacksonJsModelSerializerExtension implements ModelSerializerExtension {
+    private static final String MAIN_CREATOR_SUFFIX = "MainCreator";
+
     private final TSClass objectMapperClass;
     private String objectMapperFieldName = "objectMapper";
+    private final Map<TSModule, Map<TSType, TSVariable>> moduleMainCreatorsMap = new IdentityHashMap<>();
+    private final Map<TSMethod, TSVariable> methodMainCreatorMap = new IdentityHashMap<>();
 
     public JacksonJsModelSerializerExtension() {
         objectMapperClass = new TSClass("ObjectMapper", jacksonJSModule, new EmptyImplementationGenerator());
@@ -29,6 +51,117 @@ public class JacksonJsModelSerializerExtension implements ModelSerializerExtensi
     @Override
     public void addComplexTypeUsage(TSComplexElement tsComplexElement) {
         tsComplexElement.addScopedTypeUsage(objectMapperClass);
+        for (TSMethod tsMethod : tsComplexElement.getTsMethods()) {
+            if (!tsMethod.isConstructor() && hasMainCreator(tsMethod.getType())) {
+                methodMainCreatorMap.put(tsMethod, getOrCreateMainCreator(tsComplexElement.getModule(), tsMethod.getType()));
+            }
+        }
+    }
+
+    private boolean hasMainCreator(TSType tsType) {
+        return tsType != null && tsType != TypeMapper.tsVoid && tsType != TypeMapper.tsNumber
+                && tsType != TypeMapper.tsString && tsType != TypeMapper.tsBoolean;
+    }
+
+    private TSVariable getOrCreateMainCreator(TSModule tsModule, TSType tsType) {
+        Map<TSType, TSVariable> mainCreatorsMap = moduleMainCreatorsMap.computeIfAbsent(tsModule, m -> new IdentityHashMap<>());
+        for (Map.Entry<TSType, TSVariable> mainCreatorEntry : mainCreatorsMap.entrySet()) {
+            if (isSameType(mainCreatorEntry.getKey(), tsType)) {
+                return mainCreatorEntry.getValue();
+            }
+        }
+        String mainCreator = writeMainCreator(tsType);
+        String name = mainCreatorName(mainCreator);
+        String uniqueName = name;
+        for (int i = 2; isMainCreatorNameUsed(mainCreatorsMap, uniqueName); i++) {
+            uniqueName = name + i;
+        }
+        TSVariable mainCreatorVariable = new TSVariable(
+                uniqueName, tsModule, TSDeclarationType.CONST, TypeMapper.tsAny, new TSLiteral("", TypeMapper.tsAny, mainCreator)
+        );
+        tsModule.addScopedElement(mainCreatorVariable);
+        mainCreatorsMap.put(tsType, mainCreatorVariable);
+        return mainCreatorVariable;
+    }
+
+    /**
+     * structural comparison, array, map and union types are created per usage and TSElement.equals compares only names
+     * (Page&lt;A&gt; equals Page&lt;B&gt;), complex types are compared by identity
+     */
+    private boolean isSameType(TSType firstType, TSType secondType) {
+        if (firstType == secondType) {
+            return true;
+        }
+        if (firstType instanceof TSArray && secondType instanceof TSArray) {
+            return isSameType(((TSArray) firstType).getElementType(), ((TSArray) secondType).getElementType());
+        }
+        if (firstType instanceof TSMap && secondType instanceof TSMap) {
+            return isSameType(((TSMap) firstType).getValueType(), ((TSMap) secondType).getValueType());
+        }
+        if (firstType instanceof TSUnion && secondType instanceof TSUnion) {
+            return isSameElementList(((TSUnion) firstType).getJoinedTsElementList(), ((TSUnion) secondType).getJoinedTsElementList());
+        }
+        if (firstType instanceof TSParameterizedTypeReference && secondType instanceof TSParameterizedTypeReference) {
+            TSParameterizedTypeReference firstReference = (TSParameterizedTypeReference) firstType;
+            TSParameterizedTypeReference secondReference = (TSParameterizedTypeReference) secondType;
+            return firstReference.getReferencedType() == secondReference.getReferencedType()
+                    && isSameElementList(firstReference.getTsTypeParameterList(), secondReference.getTsTypeParameterList());
+        }
+        return false;
+    }
+
+    private boolean isSameElementList(List<? extends TSElement> firstList, List<? extends TSElement> secondList) {
+        if (firstList.size() != secondList.size()) {
+            return false;
+        }
+        for (int i = 0; i < firstList.size(); i++) {
+            TSElement firstElement = firstList.get(i);
+            TSElement secondElement = secondList.get(i);
+            boolean sameElement = firstElement instanceof TSType && secondElement instanceof TSType
+                    ? isSameType((TSType) firstElement, (TSType) secondElement)
+                    : firstElement.equals(secondElement);
+            if (!sameElement) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isMainCreatorNameUsed(Map<TSType, TSVariable> mainCreatorsMap, String name) {
+        for (TSVariable mainCreatorVariable : mainCreatorsMap.values()) {
+            if (mainCreatorVariable.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String mainCreatorName(String mainCreator) {
+        StringBuilder name = new StringBuilder();
+        Matcher matcher = IDENTIFIER_PATTERN.matcher(mainCreator);
+        while (matcher.find()) {
+            String identifier = matcher.group();
+            name.append(Character.toUpperCase(identifier.charAt(0))).append(identifier.substring(1));
+        }
+        return name.append(MAIN_CREATOR_SUFFIX).toString();
+    }
+
+    private String writeMainCreator(TSType tsType) {
+        try {
+            ILiteral iLiteral = wrapIntoTSLiteralArray(convertToTypeLiteral(tsType));
+            StringWriter stringWriter = new StringWriter();
+            BufferedWriter writer = new BufferedWriter(stringWriter);
+            iLiteral.write(writer);
+            writer.flush();
+            return stringWriter.toString();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean isModelTypeAliasSupported() {
+        return false;
     }
 
     @Override
@@ -68,29 +201,25 @@ public class JacksonJsModelSerializerExtension implements ModelSerializerExtensi
 
     @Override
     public String generateDeserializationCode(String modelVariableName, TSMethod tsMethod) {
-        try {
-            StringBuilder parseStatement = new StringBuilder();
-            if (tsMethod.isNullable()) {
-                parseStatement.append(modelVariableName);
-                parseStatement.append(" && ");
-            }
-            parseStatement.append("this.");
-            parseStatement.append(objectMapperFieldName);
-            parseStatement.append(".parse<");
-            parseStatement.append(tsMethod.getType().getName());
-            parseStatement.append(">(");
+        StringBuilder parseStatement = new StringBuilder();
+        if (tsMethod.isNullable()) {
             parseStatement.append(modelVariableName);
-            parseStatement.append(", {mainCreator: () => ");
-            ILiteral iLiteral = wrapIntoTSLiteralArray(convertToTypeLiteral(tsMethod.getType()));
-            StringWriter stringWriter = new StringWriter();
-            BufferedWriter writer = new BufferedWriter(stringWriter);
-            iLiteral.write(writer);
-            writer.flush();
-            parseStatement.append(stringWriter);
-            parseStatement.append("})");
-            return parseStatement.toString();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            parseStatement.append(" && ");
+        }
+        parseStatement.append("this.");
+        parseStatement.append(objectMapperFieldName);
+        parseStatement.append(".parse<");
+        parseStatement.append(tsMethod.getType().getName());
+        parseStatement.append(">(");
+        parseStatement.append(modelVariableName);
+        parseStatement.append(", {mainCreator: ");
+        TSVariable mainCreatorVariable = methodMainCreatorMap.get(tsMethod);
+        if (mainCreatorVariable != null) {
+            parseStatement.append("() => ").append(mainCreatorVariable.getName());
+        } else {
+            parseStatement.append("() => ").append(writeMainCreator(tsMethod.getType()));
         }
+        parseStatement.append("})");
+        return parseStatement.toString();
     }
 }
\ No newline at end of file
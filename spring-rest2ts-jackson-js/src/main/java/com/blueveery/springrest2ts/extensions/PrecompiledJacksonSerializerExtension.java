@@ -0,0 +1,748 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.blueveery.springrest2ts.converters.ConversionListener;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSDeclarationType;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSJsonLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSLiteral;
+import com.blueveery.springrest2ts.tsmodel.TSMap;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.blueveery.springrest2ts.tsmodel.TSVariable;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.actualTypeParameters;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.canDeclareFunctionsIn;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.createModelFunction;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.fieldAccess;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.formalTypeParameterName;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.propertyAccess;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.referencedComplexElement;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.stringLiteral;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.typeReferenceName;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.unwrapNullableType;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.findInheritanceRoot;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.getTypeId;
+import static com.blueveery.springrest2ts.jacksonjs.JacksonTypeInfoUtility.getTypeIdPropertyName;
+
+/**
+ * JSON serializer which instead of jackson-js runtime uses per model class generated serialize and deserialize
+ * functions, they are compiled from Jackson annotations (@JsonTypeInfo) so no decorator metadata is processed at runtime.
+ * Properties with @JsonFormat are already typed by JacksonObjectMapper with their JSON shape so they are copied as is.
+ * Hierarchies with JsonTypeInfo.As.EXTERNAL_PROPERTY are skipped, their values are sent as plain JSON.
+ * It should be registered also as conversion listener of model classes converter
+ */
+public class PrecompiledJacksonSerializerExtension extends StandardJsonSerializerExtension implements ConversionListener {
+    protected static final String VALUE_VARIABLE = "value";
+    protected static final String JSON_VARIABLE = "json";
+    protected static final String RESULT_VARIABLE = "result";
+    protected static final String SERIALIZER_PREFIX = "serialize";
+    protected static final String DESERIALIZER_PREFIX = "deserialize";
+    protected static final String READER_PREFIX = "read";
+    protected static final String SUB_TYPES_TABLE_SUFFIX = "SubTypes";
+    protected static final String DESERIALIZERS_TABLE_SUFFIX = "Deserializers";
+    private static final Logger logger = LoggerFactory.getLogger("gen-logger");
+
+    protected final Map<TSComplexElement, TSFunction> serializerMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSFunction> deserializerMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSFunction> readerMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSVariable> subTypesTableMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, JsonTypeInfo> polymorphicRootMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSComplexElement> inheritanceRootMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, Map<String, TSComplexElement>> subTypesMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, String> typeIdMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, List<TSComplexElement>> childrenMap = new IdentityHashMap<>();
+    protected final Map<TSComplexElement, TSVariable> deserializersTableMap = new IdentityHashMap<>();
+    protected final Set<TSMethod> tableDeserializedMethodSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected final Set<Class> unsupportedRootSet = new HashSet<>();
+
+    private BiFunction<Class, Class, String> typeIdResolver = (Class type, Class rootType) -> {
+        throw new IllegalStateException("When Id.NAME is used you need to set typeIdResolver!");
+    };
+    private boolean writeDatesAsTimestamps = true;
+
+    public PrecompiledJacksonSerializerExtension() {
+    }
+
+    public PrecompiledJacksonSerializerExtension(BiFunction<Class, Class, String> typeIdResolver) {
+        this.typeIdResolver = typeIdResolver;
+    }
+
+    public BiFunction<Class, Class, String> getTypeIdResolver() {
+        return typeIdResolver;
+    }
+
+    public void setTypeIdResolver(BiFunction<Class, Class, String> typeIdResolver) {
+        this.typeIdResolver = typeIdResolver;
+    }
+
+    public boolean isWriteDatesAsTimestamps() {
+        return writeDatesAsTimestamps;
+    }
+
+    public void setWriteDatesAsTimestamps(boolean writeDatesAsTimestamps) {
+        this.writeDatesAsTimestamps = writeDatesAsTimestamps;
+    }
+
+    public TSFunction getSerializer(TSComplexElement tsComplexElement) {
+        return serializerMap.get(tsComplexElement);
+    }
+
+    public TSFunction getDeserializer(TSComplexElement tsComplexElement) {
+        return deserializerMap.get(tsComplexElement);
+    }
+
+    public TSVariable getSubTypesTable(TSComplexElement tsRoot) {
+        return subTypesTableMap.get(tsRoot);
+    }
+
+    @Override
+    public void tsScopedTypeCreated(Class javaType, TSScopedElement tsScopedElement) {
+        if (!(tsScopedElement instanceof TSComplexElement) || !canDeclareFunctionsIn(tsScopedElement.getModule())) {
+            return;
+        }
+        TSComplexElement tsComplexElement = (TSComplexElement) tsScopedElement;
+        if (isInUnsupportedHierarchy(tsComplexElement)) {
+            return;
+        }
+        getOrCreateSerializer(tsComplexElement);
+        getOrCreateDeserializer(tsComplexElement);
+
+        List<TSComplexElement> ancestors = new ArrayList<>();
+        collectAncestors(tsComplexElement, ancestors);
+        for (TSComplexElement ancestor : ancestors) {
+            childrenMap.computeIfAbsent(ancestor, a -> new ArrayList<>()).add(tsComplexElement);
+            registerFieldsUsage(ancestor, tsComplexElement.getModule());
+        }
+        registerFieldsUsage(tsComplexElement, tsComplexElement.getModule());
+        for (TSComplexElement descendant : descendants(tsComplexElement)) {
+            registerFieldsUsage(tsComplexElement, descendant.getModule());
+        }
+
+        JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaType.getAnnotation(JsonTypeInfo.class);
+        Class javaRoot = jsonTypeInfo != null ? javaType : findInheritanceRoot(javaType);
+        if (javaRoot != null) {
+            registerSubType(javaType, javaRoot, tsComplexElement, ancestors);
+        }
+    }
+
+    protected boolean isInUnsupportedHierarchy(TSComplexElement tsComplexElement) {
+        for (Class javaType : tsComplexElement.getMappedFromJavaTypeSet()) {
+            Class javaRoot = javaType.getAnnotation(JsonTypeInfo.class) != null ? javaType : findInheritanceRoot(javaType);
+            if (javaRoot == null) {
+                continue;
+            }
+            if (unsupportedRootSet.contains(javaRoot)) {
+                return true;
+            }
+            JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaRoot.getAnnotation(JsonTypeInfo.class);
+            switch (jsonTypeInfo.include()) {
+                case PROPERTY:
+                case EXISTING_PROPERTY:
+                case WRAPPER_OBJECT:
+                case WRAPPER_ARRAY:
+                    break;
+                default:
+                    unsupportedRootSet.add(javaRoot);
+                    logger.warn("JsonTypeInfo.include() " + jsonTypeInfo.include() + " of " + javaRoot.getName()
+                            + " is not supported by precompiled serializers, its hierarchy is sent as plain JSON");
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private void registerSubType(Class javaType, Class javaRoot, TSComplexElement tsComplexElement, List<TSComplexElement> ancestors) {
+        JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaRoot.getAnnotation(JsonTypeInfo.class);
+        TSComplexElement tsRoot = referencedComplexElement(TypeMapper.map(javaRoot));
+        polymorphicRootMap.put(tsRoot, jsonTypeInfo);
+        inheritanceRootMap.put(tsComplexElement, tsRoot);
+        tsComplexElement.getModule().scopedTypeUsage(getOrCreateSubTypesTable(tsRoot));
+        if (Modifier.isAbstract(javaType.getModifiers())) {
+            return;
+        }
+        String typeId = getTypeId(javaType, javaRoot, typeIdResolver);
+        typeIdMap.put(tsComplexElement, typeId);
+        subTypesMap.computeIfAbsent(tsRoot, r -> new LinkedHashMap<>()).put(typeId, tsComplexElement);
+        TSFunction reader = getOrCreateReader(tsComplexElement);
+        tsRoot.getModule().scopedTypeUsage(reader);
+        for (TSComplexElement ancestor : ancestors) {
+            TSModule ancestorModule = ancestor.getModule();
+            if (canDeclareFunctionsIn(ancestorModule)) {
+                ancestorModule.scopedTypeUsage(tsComplexElement);
+                ancestorModule.scopedTypeUsage(getOrCreateSerializer(tsComplexElement));
+                // deserializers of ancestors check that type id denotes one of their subtypes
+                ancestorModule.scopedTypeUsage(reader);
+            }
+        }
+    }
+
+    protected TSVariable getOrCreateSubTypesTable(TSComplexElement tsRoot) {
+        TSVariable subTypesTable = subTypesTableMap.get(tsRoot);
+        if (subTypesTable == null) {
+            String tableName = tsRoot.getName() + SUB_TYPES_TABLE_SUFFIX;
+            subTypesTable = new TSVariable(tableName, tsRoot.getModule(), TSDeclarationType.CONST, TypeMapper.tsAny,
+                    writer -> writer.write(generateSubTypesTable(tsRoot)));
+            subTypesTableMap.put(tsRoot, subTypesTable);
+            tsRoot.getModule().addScopedElement(subTypesTable);
+        }
+        return subTypesTable;
+    }
+
+    protected String generateSubTypesTable(TSComplexElement tsRoot) {
+        String readerType = tsRoot.getTsTypeParameterList().isEmpty() ? tsRoot.getName() : "any";
+        StringBuilder table = new StringBuilder();
+        table.append("new Map<string, (").append(JSON_VARIABLE).append(": any) => ").append(readerType).append(">([");
+        Map<String, TSComplexElement> subTypes = subTypesMap.getOrDefault(tsRoot, Collections.emptyMap());
+        for (Map.Entry<String, TSComplexElement> subType : subTypes.entrySet()) {
+            table.append("\n    [").append(stringLiteral(subType.getKey())).append(", ")
+                    .append(readerMap.get(subType.getValue()).getName()).append("],");
+        }
+        table.append(subTypes.isEmpty() ? "])" : "\n])");
+        return table.toString();
+    }
+
+    private void registerFieldsUsage(TSComplexElement owner, TSModule usingModule) {
+        for (TSField tsField : owner.getTsFields()) {
+            registerTypeUsage(tsField.getType(), usingModule);
+        }
+    }
+
+    private void registerTypeUsage(TSType tsType, TSModule usingModule) {
+        if (tsType instanceof TSUnion) {
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (tsElement instanceof TSType) {
+                    registerTypeUsage((TSType) tsElement, usingModule);
+                }
+            }
+            return;
+        }
+        if (tsType instanceof TSElementAlias) {
+            registerTypeUsage(((TSElementAlias) tsType).getAliasedType(), usingModule);
+            return;
+        }
+        if (tsType instanceof TSArray) {
+            registerTypeUsage(((TSArray) tsType).getElementType(), usingModule);
+            return;
+        }
+        if (tsType instanceof TSMap) {
+            registerTypeUsage(((TSMap) tsType).getValueType(), usingModule);
+            return;
+        }
+        for (TSType actualTypeParameter : actualTypeParameters(tsType)) {
+            registerTypeUsage(actualTypeParameter, usingModule);
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement != null && canDeclareFunctionsIn(tsComplexElement.getModule()) && !isInUnsupportedHierarchy(tsComplexElement)) {
+            usingModule.scopedTypeUsage(getOrCreateSerializer(tsComplexElement));
+            usingModule.scopedTypeUsage(getOrCreateDeserializer(tsComplexElement));
+        }
+    }
+
+    protected TSFunction getOrCreateSerializer(TSComplexElement tsComplexElement) {
+        TSFunction serializer = serializerMap.get(tsComplexElement);
+        if (serializer == null) {
+            serializer = createModelFunction(
+                    SERIALIZER_PREFIX + tsComplexElement.getName(), tsComplexElement, VALUE_VARIABLE,
+                    TypeMapper.tsAny, SERIALIZER_PREFIX, TypeMapper.tsAny
+            );
+            serializer.setImplementationGenerator((writer, tsFunction) -> writer.write(generateSerializerBody(tsComplexElement)));
+            serializerMap.put(tsComplexElement, serializer);
+            tsComplexElement.getModule().addScopedElement(serializer);
+        }
+        return serializer;
+    }
+
+    protected TSFunction getOrCreateDeserializer(TSComplexElement tsComplexElement) {
+        TSFunction deserializer = deserializerMap.get(tsComplexElement);
+        if (deserializer == null) {
+            deserializer = createModelFunction(
+                    DESERIALIZER_PREFIX + tsComplexElement.getName(), tsComplexElement, JSON_VARIABLE,
+                    new TSSimpleType(typeReferenceName(tsComplexElement)), DESERIALIZER_PREFIX, null
+            );
+            deserializer.setImplementationGenerator((writer, tsFunction) -> writer.write(generateDeserializerBody(tsComplexElement)));
+            deserializerMap.put(tsComplexElement, deserializer);
+            tsComplexElement.getModule().addScopedElement(deserializer);
+        }
+        return deserializer;
+    }
+
+    protected TSFunction getOrCreateReader(TSComplexElement tsComplexElement) {
+        TSFunction reader = readerMap.get(tsComplexElement);
+        if (reader == null) {
+            reader = createModelFunction(
+                    READER_PREFIX + tsComplexElement.getName(), tsComplexElement, JSON_VARIABLE,
+                    new TSSimpleType(typeReferenceName(tsComplexElement)), DESERIALIZER_PREFIX, null
+            );
+            reader.setImplementationGenerator((writer, tsFunction) -> writer.write(generateReaderBody(tsComplexElement)));
+            readerMap.put(tsComplexElement, reader);
+            tsComplexElement.getModule().addScopedElement(reader);
+        }
+        return reader;
+    }
+
+    protected String generateSerializerBody(TSComplexElement tsComplexElement) {
+        TSModule tsModule = tsComplexElement.getModule();
+        Set<String> typeParameters = typeParameterNames(tsComplexElement);
+        StringBuilder body = new StringBuilder();
+        body.append("    if (").append(VALUE_VARIABLE).append(" == null) {\n");
+        body.append("        return ").append(VALUE_VARIABLE).append(";\n");
+        body.append("    }\n");
+        for (TSComplexElement subType : polymorphicSubTypes(tsComplexElement)) {
+            body.append("    if (").append(subTypeCondition(subType)).append(") {\n");
+            body.append("        return ").append(serializerMap.get(subType).getName()).append("(").append(VALUE_VARIABLE).append(");\n");
+            body.append("    }\n");
+        }
+        List<String> properties = new ArrayList<>();
+        String typeIdProperty = null;
+        TSComplexElement tsRoot = inheritanceRootMap.get(tsComplexElement);
+        String typeId = typeIdMap.get(tsComplexElement);
+        JsonTypeInfo.As include = tsRoot != null && typeId != null ? polymorphicRootMap.get(tsRoot).include() : null;
+        if (include == JsonTypeInfo.As.PROPERTY) {
+            typeIdProperty = getTypeIdPropertyName(polymorphicRootMap.get(tsRoot));
+            properties.add(propertyKey(typeIdProperty) + ": " + stringLiteral(typeId));
+        }
+        for (TSField tsField : hierarchyFields(tsComplexElement)) {
+            if (typeIdProperty != null && typeIdProperty.equals(unquote(tsField.getName()))) {
+                continue;
+            }
+            String field = fieldAccess(VALUE_VARIABLE, tsField);
+            String conversion = convert(tsField.getType(), field, true, tsModule, typeParameters, 0);
+            properties.add(propertyKey(tsField.getName()) + ": " + (conversion != null ? conversion : field));
+        }
+        if (include == JsonTypeInfo.As.WRAPPER_OBJECT || include == JsonTypeInfo.As.WRAPPER_ARRAY) {
+            body.append("    const ").append(RESULT_VARIABLE).append(" = ");
+            appendObjectLiteral(body, properties);
+            body.append(";\n");
+            body.append("    return ").append(include == JsonTypeInfo.As.WRAPPER_OBJECT
+                    ? "{" + stringLiteral(typeId) + ": " + RESULT_VARIABLE + "};"
+                    : "[" + stringLiteral(typeId) + ", " + RESULT_VARIABLE + "];");
+            return body.toString();
+        }
+        body.append("    return ");
+        appendObjectLiteral(body, properties);
+        body.append(";");
+        return body.toString();
+    }
+
+    /**
+     * classes are dispatched with instanceof, interfaces have no runtime type so they are dispatched
+     * with the type id property which values of interfaces must contain
+     */
+    protected String subTypeCondition(TSComplexElement subType) {
+        if (subType instanceof TSClass) {
+            return VALUE_VARIABLE + " instanceof " + subType.getName();
+        }
+        JsonTypeInfo jsonTypeInfo = polymorphicRootMap.get(inheritanceRootMap.get(subType));
+        if (jsonTypeInfo.include() != JsonTypeInfo.As.PROPERTY && jsonTypeInfo.include() != JsonTypeInfo.As.EXISTING_PROPERTY) {
+            throw new IllegalStateException("Subtype " + subType.getName() + " with JsonTypeInfo.include() " + jsonTypeInfo.include()
+                    + " could not be serialized by precompiled serializers, it has no type id property and interfaces have no"
+                    + " runtime type, use JsonTypeInfo.As.PROPERTY or model classes converted to TypeScript classes");
+        }
+        return propertyAccess(VALUE_VARIABLE, getTypeIdPropertyName(jsonTypeInfo)) + " === " + stringLiteral(typeIdMap.get(subType));
+    }
+
+    private void appendObjectLiteral(StringBuilder body, List<String> properties) {
+        body.append("{");
+        for (String property : properties) {
+            body.append("\n        ").append(property).append(",");
+        }
+        body.append(properties.isEmpty() ? "}" : "\n    }");
+    }
+
+    protected String generateDeserializerBody(TSComplexElement tsComplexElement) {
+        StringBuilder body = new StringBuilder();
+        body.append("    if (").append(JSON_VARIABLE).append(" == null) {\n");
+        body.append("        return ").append(JSON_VARIABLE).append(";\n");
+        body.append("    }\n");
+        TSComplexElement tsRoot = inheritanceRootMap.get(tsComplexElement);
+        if (tsRoot == null) {
+            return body.append(generateReaderBody(tsComplexElement)).toString();
+        }
+        JsonTypeInfo jsonTypeInfo = polymorphicRootMap.get(tsRoot);
+        String typeIdAccess;
+        String payload;
+        switch (jsonTypeInfo.include()) {
+            case WRAPPER_OBJECT:
+                typeIdAccess = "Object.keys(" + JSON_VARIABLE + ")[0]";
+                payload = JSON_VARIABLE + "[typeId]";
+                break;
+            case WRAPPER_ARRAY:
+                typeIdAccess = JSON_VARIABLE + "[0]";
+                payload = JSON_VARIABLE + "[1]";
+                break;
+            default:
+                typeIdAccess = propertyAccess(JSON_VARIABLE, getTypeIdPropertyName(jsonTypeInfo));
+                payload = JSON_VARIABLE;
+        }
+        String subTypesTableName = subTypesTableMap.get(tsRoot).getName();
+        TSFunction defaultReader = findDefaultReader(jsonTypeInfo, tsComplexElement);
+        body.append("    const typeId = ").append(typeIdAccess).append(";\n");
+        body.append("    const reader = ").append(subTypesTableName).append(".get(typeId)");
+        if (defaultReader != null) {
+            body.append(" || ").append(defaultReader.getName());
+        }
+        body.append(";\n");
+        body.append("    if (reader === undefined) {\n");
+        body.append("        throw new TypeError('Unknown type id ' + JSON.stringify(typeId) + ' of ").append(tsComplexElement.getName())
+                .append(", known type ids: ' + Array.from(").append(subTypesTableName).append(".keys()).join(', '));\n");
+        body.append("    }\n");
+        if (tsComplexElement != tsRoot) {
+            appendSubTypeCheck(body, tsComplexElement);
+        }
+        body.append("    return reader(").append(payload).append(")");
+        if (tsComplexElement != tsRoot) {
+            body.append(" as ").append(typeReferenceName(tsComplexElement));
+        }
+        body.append(";");
+        return body.toString();
+    }
+
+    /**
+     * reader of JsonTypeInfo.defaultImpl which is used when type id is missing or unknown, only if default
+     * implementation could be returned by deserializer of given type
+     */
+    protected TSFunction findDefaultReader(JsonTypeInfo jsonTypeInfo, TSComplexElement tsComplexElement) {
+        Class defaultImpl = jsonTypeInfo.defaultImpl();
+        if (defaultImpl == JsonTypeInfo.class || defaultImpl == Void.class) {
+            return null;
+        }
+        TSComplexElement tsDefaultImpl = referencedComplexElement(TypeMapper.map(defaultImpl));
+        if (tsDefaultImpl == null || tsDefaultImpl != tsComplexElement && !tsDefaultImpl.isInstanceOf(tsComplexElement)) {
+            return null;
+        }
+        return readerMap.get(tsDefaultImpl);
+    }
+
+    private void appendSubTypeCheck(StringBuilder body, TSComplexElement tsComplexElement) {
+        List<String> readerChecks = new ArrayList<>();
+        if (readerMap.containsKey(tsComplexElement)) {
+            readerChecks.add("reader !== " + readerMap.get(tsComplexElement).getName());
+        }
+        for (TSComplexElement subType : polymorphicSubTypes(tsComplexElement)) {
+            readerChecks.add("reader !== " + readerMap.get(subType).getName());
+        }
+        String condition = readerChecks.isEmpty() ? "true" : String.join(" && ", readerChecks);
+        body.append("    if (").append(condition).append(") {\n");
+        body.append("        throw new TypeError('Type id ' + JSON.stringify(typeId) + ' is not a subtype of ").append(tsComplexElement.getName()).append("');\n");
+        body.append("    }\n");
+    }
+
+    protected String generateReaderBody(TSComplexElement tsComplexElement) {
+        TSModule tsModule = tsComplexElement.getModule();
+        Set<String> typeParameters = typeParameterNames(tsComplexElement);
+        StringBuilder body = new StringBuilder();
+        String typeName = typeReferenceName(tsComplexElement);
+        if (tsComplexElement instanceof TSClass && !((TSClass) tsComplexElement).isAbstract()) {
+            body.append("    const ").append(RESULT_VARIABLE).append(" = new ").append(typeName).append("();\n");
+        } else {
+            body.append("    const ").append(RESULT_VARIABLE).append(" = {} as ").append(typeName).append(";\n");
+        }
+        for (TSField tsField : hierarchyFields(tsComplexElement)) {
+            String field = fieldAccess(JSON_VARIABLE, tsField);
+            String conversion = convert(tsField.getType(), field, false, tsModule, typeParameters, 0);
+            body.append("    ").append(fieldAccess(RESULT_VARIABLE, tsField)).append(" = ")
+                    .append(conversion != null ? conversion : field).append(";\n");
+        }
+        body.append("    return ").append(RESULT_VARIABLE).append(";");
+        return body.toString();
+    }
+
+    protected String convert(
+            TSType tsType, String value, boolean serialize, TSModule usingModule,
+            Set<String> typeParameters, int depth
+    ) {
+        tsType = unwrapNullableType(tsType);
+        if (tsType instanceof TSUnion) {
+            return null;
+        }
+        if (tsType instanceof TSElementAlias) {
+            return convert(((TSElementAlias) tsType).getAliasedType(), value, serialize, usingModule, typeParameters, depth);
+        }
+        if (tsType instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) tsType);
+            if (!typeParameters.contains(typeParameterName)) {
+                return null;
+            }
+            String callback = prefix(serialize) + typeParameterName;
+            return "(" + callback + " ? " + callback + "(" + value + ") : " + value + ")";
+        }
+        if (tsType instanceof TSArray) {
+            return convertArray(((TSArray) tsType).getElementType(), value, serialize, usingModule, typeParameters, depth);
+        }
+        String element = "e" + depth;
+        String key = "k" + depth;
+        if (tsType instanceof TSMap) {
+            String valueConversion = convert(((TSMap) tsType).getValueType(), element, serialize, usingModule, typeParameters, depth + 1);
+            if (valueConversion == null) {
+                return null;
+            }
+            return nullSafe(value, "Object.fromEntries(Object.entries(" + value + ").map(([" + key + ", " + element + "]: [string, any]) => ["
+                    + key + ", " + valueConversion + "]))");
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null) {
+            return null;
+        }
+        List<TSType> actualTypeParameters = actualTypeParameters(tsType);
+        if (tsComplexElement == TypeMapper.tsDate) {
+            return nullSafe(value, serialize ? serializeDate(value) : deserializeDate(value));
+        }
+        if (tsComplexElement == TypeMapper.tsArrayCollection) {
+            if (actualTypeParameters.isEmpty()) {
+                return null;
+            }
+            return convertArray(actualTypeParameters.get(0), value, serialize, usingModule, typeParameters, depth);
+        }
+        if (tsComplexElement == TypeMapper.tsSet) {
+            String elementConversion = actualTypeParameters.isEmpty()
+                    ? null : convert(actualTypeParameters.get(0), element, serialize, usingModule, typeParameters, depth + 1);
+            String mapper = elementConversion != null ? "(" + element + ": any) => " + elementConversion : null;
+            if (serialize) {
+                return nullSafe(value, "Array.from(" + value + (mapper != null ? ", " + mapper : "") + ")");
+            }
+            return nullSafe(value, "new Set(" + (mapper != null ? value + ".map(" + mapper + ")" : value) + ")");
+        }
+        if (tsComplexElement == TypeMapper.tsMap) {
+            String valueConversion = actualTypeParameters.size() < 2
+                    ? null : convert(actualTypeParameters.get(1), element, serialize, usingModule, typeParameters, depth + 1);
+            String entryMapper = "([" + key + ", " + element + "]: [any, any]) => [" + key + ", " + valueConversion + "]";
+            if (serialize) {
+                return nullSafe(value, "Object.fromEntries(" + (valueConversion != null ? "Array.from(" + value + ", " + entryMapper + ")" : value) + ")");
+            }
+            return nullSafe(value, "new Map(Object.entries(" + value + ")" + (valueConversion != null ? ".map(" + entryMapper + ")" : "") + ")");
+        }
+        if (!canDeclareFunctionsIn(tsComplexElement.getModule()) || isInUnsupportedHierarchy(tsComplexElement)) {
+            return null;
+        }
+        TSFunction function = serialize ? getOrCreateSerializer(tsComplexElement) : getOrCreateDeserializer(tsComplexElement);
+        usingModule.scopedTypeUsage(function);
+        List<String> arguments = new ArrayList<>();
+        arguments.add(value);
+        int typeParametersCount = Math.min(actualTypeParameters.size(), tsComplexElement.getTsTypeParameterList().size());
+        for (int i = 0; i < typeParametersCount; i++) {
+            arguments.add(typeParameterCallback(actualTypeParameters.get(i), serialize, usingModule, typeParameters, depth));
+        }
+        while (arguments.size() > 1 && "undefined".equals(arguments.get(arguments.size() - 1))) {
+            arguments.remove(arguments.size() - 1);
+        }
+        return function.getName() + "(" + String.join(", ", arguments) + ")";
+    }
+
+    private String convertArray(
+            TSType elementType, String value, boolean serialize, TSModule usingModule,
+            Set<String> typeParameters, int depth
+    ) {
+        String element = "e" + depth;
+        String elementConversion = convert(elementType, element, serialize, usingModule, typeParameters, depth + 1);
+        if (elementConversion == null) {
+            return null;
+        }
+        return nullSafe(value, value + ".map((" + element + ": any) => " + elementConversion + ")");
+    }
+
+    private String typeParameterCallback(
+            TSType actualTypeParameter, boolean serialize, TSModule usingModule, Set<String> typeParameters, int depth
+    ) {
+        if (actualTypeParameter instanceof TSFormalTypeParameter) {
+            String typeParameterName = formalTypeParameterName((TSFormalTypeParameter) actualTypeParameter);
+            return typeParameters.contains(typeParameterName) ? prefix(serialize) + typeParameterName : "undefined";
+        }
+        String element = "e" + depth;
+        String conversion = convert(actualTypeParameter, element, serialize, usingModule, typeParameters, depth + 1);
+        return conversion != null ? "(" + element + ": any) => " + conversion : "undefined";
+    }
+
+    protected String serializeDate(String value) {
+        return writeDatesAsTimestamps ? value + ".getTime()" : value + ".toISOString()";
+    }
+
+    protected String deserializeDate(String value) {
+        return "new Date(" + value + ")";
+    }
+
+    private String nullSafe(String value, String conversion) {
+        return "(" + value + " != null ? " + conversion + " : " + value + ")";
+    }
+
+    private String prefix(boolean serialize) {
+        return serialize ? SERIALIZER_PREFIX : DESERIALIZER_PREFIX;
+    }
+
+    private String propertyKey(String name) {
+        String access = propertyAccess("", name);
+        if (access.startsWith(".")) {
+            return name;
+        }
+        return name.startsWith("\"") || name.startsWith("'") ? name : stringLiteral(name);
+    }
+
+    private String unquote(String name) {
+        if (name.length() > 1 && (name.startsWith("\"") || name.startsWith("'"))) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    private Set<String> typeParameterNames(TSComplexElement tsComplexElement) {
+        Set<String> typeParameters = new HashSet<>();
+        for (TSFormalTypeParameter formalTypeParameter : tsComplexElement.getTsTypeParameterList()) {
+            typeParameters.add(formalTypeParameterName(formalTypeParameter));
+        }
+        return typeParameters;
+    }
+
+    protected List<TSComplexElement> polymorphicSubTypes(TSComplexElement tsComplexElement) {
+        List<TSComplexElement> subTypes = new ArrayList<>();
+        TSComplexElement tsRoot = inheritanceRootMap.get(tsComplexElement);
+        if (tsRoot == null || !subTypesMap.containsKey(tsRoot)) {
+            return subTypes;
+        }
+        for (TSComplexElement subType : subTypesMap.get(tsRoot).values()) {
+            if (subType != tsComplexElement && subType.isInstanceOf(tsComplexElement)) {
+                subTypes.add(subType);
+            }
+        }
+        subTypes.sort((first, second) -> Integer.compare(hierarchyDepth(second), hierarchyDepth(first)));
+        return subTypes;
+    }
+
+    private int hierarchyDepth(TSComplexElement tsComplexElement) {
+        List<TSComplexElement> ancestors = new ArrayList<>();
+        collectAncestors(tsComplexElement, ancestors);
+        return ancestors.size();
+    }
+
+    protected List<TSField> hierarchyFields(TSComplexElement tsComplexElement) {
+        Map<String, TSField> fields = new LinkedHashMap<>();
+        List<TSComplexElement> ancestors = new ArrayList<>();
+        collectAncestors(tsComplexElement, ancestors);
+        Collections.reverse(ancestors);
+        ancestors.add(tsComplexElement);
+        for (TSComplexElement owner : ancestors) {
+            for (TSField tsField : owner.getTsFields()) {
+                fields.put(tsField.getName(), tsField);
+            }
+        }
+        return new ArrayList<>(fields.values());
+    }
+
+    private void collectAncestors(TSComplexElement tsComplexElement, List<TSComplexElement> ancestors) {
+        List<TSType> parentTypes = new ArrayList<>();
+        if (tsComplexElement instanceof TSClass && ((TSClass) tsComplexElement).getExtendsClass() != null) {
+            parentTypes.add(((TSClass) tsComplexElement).getExtendsClass());
+        }
+        if (tsComplexElement instanceof TSInterface) {
+            parentTypes.addAll(((TSInterface) tsComplexElement).getExtendsInterfaces());
+        }
+        for (TSType parentType : parentTypes) {
+            TSComplexElement parent = referencedComplexElement(parentType);
+            if (parent != null && canDeclareFunctionsIn(parent.getModule()) && !ancestors.contains(parent)) {
+                ancestors.add(parent);
+                collectAncestors(parent, ancestors);
+            }
+        }
+    }
+
+    private List<TSComplexElement> descendants(TSComplexElement tsComplexElement) {
+        List<TSComplexElement> descendants = new ArrayList<>();
+        for (TSComplexElement child : childrenMap.getOrDefault(tsComplexElement, Collections.emptyList())) {
+            if (!descendants.contains(child)) {
+                descendants.add(child);
+                descendants.addAll(descendants(child));
+            }
+        }
+        return descendants;
+    }
+
+    @Override
+    public void addComplexTypeUsage(TSComplexElement tsComplexElement) {
+        TSModule tsModule = tsComplexElement.getModule();
+        TSJsonLiteral deserializersLiteral = new TSJsonLiteral();
+        for (TSMethod tsMethod : tsComplexElement.getTsMethods()) {
+            if (tsMethod.isConstructor()) {
+                continue;
+            }
+            for (TSParameter tsParameter : tsMethod.getParameterList()) {
+                convert(tsParameter.getType(), tsParameter.getName(), true, tsModule, Collections.emptySet(), 0);
+            }
+            if (tsMethod.getType() == null) {
+                continue;
+            }
+            String conversion = convert(tsMethod.getType(), JSON_VARIABLE, false, tsModule, Collections.emptySet(), 0);
+            if (conversion != null && !isDirectlyDeserialized(tsMethod)) {
+                String deserializer = "(" + JSON_VARIABLE + ": any) => " + conversion;
+                deserializersLiteral.getFieldMap().put(tsMethod.getName(), new TSLiteral("", TypeMapper.tsAny, deserializer));
+                tableDeserializedMethodSet.add(tsMethod);
+            }
+        }
+        if (!deserializersLiteral.getFieldMap().isEmpty()) {
+            String tableName = tsComplexElement.getName() + DESERIALIZERS_TABLE_SUFFIX;
+            TSVariable deserializersTable = new TSVariable(tableName, tsModule, TSDeclarationType.CONST, TypeMapper.tsAny, deserializersLiteral);
+            tsModule.addScopedElement(deserializersTable);
+            deserializersTableMap.put(tsComplexElement, deserializersTable);
+        }
+    }
+
+    private boolean isDirectlyDeserialized(TSMethod tsMethod) {
+        TSComplexElement tsComplexElement = referencedComplexElement(unwrapNullableType(tsMethod.getType()));
+        return tsComplexElement != null && deserializerMap.containsKey(tsComplexElement);
+    }
+
+    @Override
+    public boolean isModelTypeAliasSupported() {
+        return false;
+    }
+
+    @Override
+    public String generateSerializationCode(String modelVariableName, TSParameter tsParameter) {
+        TSModule tsModule = tsParameter.getTsMethod().getOwner().getModule();
+        String conversion = convert(tsParameter.getType(), modelVariableName, true, tsModule, Collections.emptySet(), 0);
+        return generateSerializationCode(conversion != null ? conversion : modelVariableName);
+    }
+
+    @Override
+    public String generateDeserializationCode(String modelVariableName, TSMethod tsMethod) {
+        return generateDeserializationCodeFromParsedObject(generateDeserializationCode(modelVariableName), tsMethod);
+    }
+
+    @Override
+    public String generateDeserializationCodeFromParsedObject(String parsedObjectVariableName, TSMethod tsMethod) {
+        if (tableDeserializedMethodSet.contains(tsMethod)) {
+            TSVariable deserializersTable = deserializersTableMap.get(tsMethod.getOwner());
+            return deserializersTable.getName() + "." + tsMethod.getName() + "(" + parsedObjectVariableName + ")";
+        }
+        if (isDirectlyDeserialized(tsMethod)) {
+            TSModule tsModule = tsMethod.getOwner().getModule();
+            return convert(tsMethod.getType(), parsedObjectVariableName, false, tsModule, Collections.emptySet(), 0);
+        }
+        return parsedObjectVariableName;
+    }
+}
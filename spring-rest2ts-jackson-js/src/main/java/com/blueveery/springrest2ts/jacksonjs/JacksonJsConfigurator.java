@@ -5,6 +5,7 @@ import com.blueveery.springrest2ts.converters.JacksonAnnotationsConversionToJack
 import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
 import com.blueveery.springrest2ts.converters.ModelClassesToTsClassesConverter;
 import com.blueveery.springrest2ts.extensions.JacksonJsModelSerializerExtension;
+import com.blueveery.springrest2ts.extensions.PrecompiledJacksonSerializerExtension;
 import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
 
 import java.util.Collection;
@@ -28,12 +29,32 @@ public class JacksonJsConfigurator {
         JacksonAnnotationsConversionToJacksonJs conversionToJacksonJs = new JacksonAnnotationsConversionToJacksonJs(typeIdResolver);
         modelClassesConverter.getConversionListener().getConversionListenerSet().add(conversionToJacksonJs);
 
+        configureTypeMapping(tsGenerator);
+
+        tsGenerator.setModelClassesConverter(modelClassesConverter);
+        tsGenerator.getRestClassesConverter().getImplementationGenerator().setSerializationExtension(new JacksonJsModelSerializerExtension());
+    }
+
+    public static PrecompiledJacksonSerializerExtension configurePrecompiledSerializers(
+            Rest2tsGenerator tsGenerator,
+            JacksonObjectMapper jacksonObjectMapper,
+            BiFunction<Class, Class, String> typeIdResolver
+    ) {
+        ModelClassesToTsClassesConverter modelClassesConverter = new ModelClassesToTsClassesConverter(new EmptyImplementationGenerator(), jacksonObjectMapper);
+        PrecompiledJacksonSerializerExtension serializerExtension = new PrecompiledJacksonSerializerExtension(typeIdResolver);
+        modelClassesConverter.getConversionListener().getConversionListenerSet().add(serializerExtension);
+
+        configureTypeMapping(tsGenerator);
+
+        tsGenerator.setModelClassesConverter(modelClassesConverter);
+        tsGenerator.getRestClassesConverter().getImplementationGenerator().setSerializationExtension(serializerExtension);
+        return serializerExtension;
+    }
+
+    private static void configureTypeMapping(Rest2tsGenerator tsGenerator) {
         tsGenerator.getCustomTypeMappingForClassHierarchy().put(Map.class, tsMap);
         tsGenerator.getCustomTypeMappingForClassHierarchy().put(Set.class, tsSet);
         tsGenerator.getCustomTypeMappingForClassHierarchy().put(Collection.class, tsArrayCollection);
         tsGenerator.getCustomTypeMappingForClassHierarchy().put(Date.class, tsDate);
-
-        tsGenerator.setModelClassesConverter(modelClassesConverter);
-        tsGenerator.getRestClassesConverter().getImplementationGenerator().setSerializationExtension(new JacksonJsModelSerializerExtension());
     }
 }
@@ -0,0 +1,53 @@
+package com.blueveery.springrest2ts.jacksonjs;
+
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.function.BiFunction;
+
+public class JacksonTypeInfoUtility {
+
+    private JacksonTypeInfoUtility() {
+    }
+
+    public static String getTypeId(Class javaType, Class javaRoot, BiFunction<Class, Class, String> typeIdResolver) {
+        JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaRoot.getAnnotation(JsonTypeInfo.class);
+        switch (jsonTypeInfo.use()) {
+            case CLASS:
+                return javaType.getName();
+            case MINIMAL_CLASS:
+                return getMinimalClassName(javaType, javaRoot);
+            case NAME:
+                return typeIdResolver.apply(javaType, javaRoot);
+            default:
+                throw new IllegalStateException(jsonTypeInfo.use() + " is not supported");
+        }
+    }
+
+    public static String getTypeIdPropertyName(JsonTypeInfo jsonTypeInfo) {
+        String propertyName = jsonTypeInfo.property();
+        if ("".equals(propertyName)) {
+            propertyName = jsonTypeInfo.use().getDefaultPropertyName();
+        }
+        return propertyName;
+    }
+
+    private static String getMinimalClassName(Class javaType, Class javaRoot) {
+        if (javaType.getName().startsWith(javaRoot.getPackage().getName())) {
+            return javaType.getName().replaceFirst(javaRoot.getPackage().getName(), "");
+        }
+        return javaType.getName();
+    }
+
+    public static Class findInheritanceRoot(Class javaType) {
+        Class superclass = javaType.getSuperclass();
+        if (superclass != null && superclass != Object.class && TypeMapper.map(superclass) != TypeMapper.tsAny) {
+            if (superclass.getAnnotation(JsonTypeInfo.class) == null) {
+                return findInheritanceRoot(superclass);
+            } else {
+                return superclass;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.Date;
+import java.util.List;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+public abstract class Animal {
+    String name;
+    Date bornAt;
+}
+
+class Dog extends Animal {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Date vaccinatedAt;
+}
+
+class Cat extends Animal {
+    List<Animal> friends;
+}
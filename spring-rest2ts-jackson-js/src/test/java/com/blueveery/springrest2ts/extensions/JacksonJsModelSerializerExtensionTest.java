@@ -6,8 +6,13 @@ import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSVariable;
 import org.junit.Test;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Paths;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -38,6 +43,58 @@ public class JacksonJsModelSerializerExtensionTest {
         ).isEqualTo("jsonData && this.objectMapper.parse<Vehicle | null>(jsonData, {mainCreator: () => [Vehicle]})");
     }
 
+    @Test
+    public void testSharedMainCreators() {
+        TSClass controller = new TSClass("VehicleController", tsModule);
+        TSMethod getVehicles = new TSMethod("getVehicles", controller, new TSArray(vehicle), new EmptyImplementationGenerator(), false, false);
+        TSMethod findVehicles = new TSMethod("findVehicles", controller, new TSArray(vehicle), new EmptyImplementationGenerator(), false, false);
+        TSMethod getVehicle = new TSMethod("getVehicle", controller, vehicle, new EmptyImplementationGenerator(), false, false);
+        controller.addTsMethod(getVehicles);
+        controller.addTsMethod(findVehicles);
+        controller.addTsMethod(getVehicle);
+        serializerExtension.addComplexTypeUsage(controller);
+
+        assertThat(serializerExtension.generateDeserializationCode("jsonData", getVehicles))
+                .isEqualTo("this.objectMapper.parse<Vehicle[]>(jsonData, {mainCreator: () => ArrayVehicleMainCreator})");
+        assertThat(serializerExtension.generateDeserializationCode("jsonData", findVehicles))
+                .isEqualTo("this.objectMapper.parse<Vehicle[]>(jsonData, {mainCreator: () => ArrayVehicleMainCreator})");
+        assertThat(serializerExtension.generateDeserializationCode("jsonData", getVehicle))
+                .isEqualTo("this.objectMapper.parse<Vehicle>(jsonData, {mainCreator: () => VehicleMainCreator})");
+        assertThat(tsModule.getScopedTypesSet().stream().filter(e -> e instanceof TSVariable).count()).isEqualTo(2);
+        assertThat(writeScopedElement("ArrayVehicleMainCreator")).contains("ArrayVehicleMainCreator = [Array, [Vehicle]]");
+    }
+
+    @Test
+    public void testMainCreatorsOfDifferentTypesWithSameNameAreNotShared() {
+        TSModule otherModule = new TSModule("other", Paths.get(""), false);
+        TSClass otherVehicle = new TSClass("Vehicle", otherModule);
+        TSClass controller = new TSClass("VehicleController", tsModule);
+        TSMethod getVehicle = new TSMethod("getVehicle", controller, vehicle, new EmptyImplementationGenerator(), false, false);
+        TSMethod getOtherVehicle = new TSMethod("getOtherVehicle", controller, otherVehicle, new EmptyImplementationGenerator(), false, false);
+        controller.addTsMethod(getVehicle);
+        controller.addTsMethod(getOtherVehicle);
+        serializerExtension.addComplexTypeUsage(controller);
+
+        assertThat(serializerExtension.generateDeserializationCode("jsonData", getOtherVehicle))
+                .isEqualTo("this.objectMapper.parse<Vehicle>(jsonData, {mainCreator: () => VehicleMainCreator})");
+        assertThat(serializerExtension.generateDeserializationCode("jsonData", getVehicle))
+                .isEqualTo("this.objectMapper.parse<Vehicle>(jsonData, {mainCreator: () => VehicleMainCreator2})");
+    }
+
+    private String writeScopedElement(String name) {
+        StringWriter stringWriter = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(stringWriter)) {
+            for (TSScopedElement tsScopedElement : tsModule.getScopedTypesSet()) {
+                if (tsScopedElement.getName().equals(name)) {
+                    tsScopedElement.write(writer);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return stringWriter.toString();
+    }
+
     @Test
     public void testSerialization() {
         TSMethod tsMethod = new TSMethod("test", vehicle, vehicle, new EmptyImplementationGenerator(), false, false);
@@ -0,0 +1,17 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "method", defaultImpl = CashPayment.class)
+public abstract class Payment {
+    double amount;
+}
+
+@JsonTypeName("card's \\ payment")
+class CardPayment extends Payment {
+    String cardNumber;
+}
+
+class CashPayment extends Payment {
+}
@@ -0,0 +1,18 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXTERNAL_PROPERTY, property = "plantKind")
+public abstract class Plant {
+    String name;
+}
+
+class Tree extends Plant {
+    int height;
+}
+
+class Garden {
+    List<Plant> plants;
+}
@@ -0,0 +1,163 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.blueveery.springrest2ts.converters.JacksonJsTest;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PrecompiledJacksonSerializerExtensionTest extends JacksonJsTest {
+    private PrecompiledJacksonSerializerExtension serializerExtension;
+
+    @Override
+    @Before
+    public void setUp() {
+        super.setUp();
+        tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Animal.class, Dog.class, Cat.class, Shape.class, Circle.class, Square.class,
+                Plant.class, Tree.class, Garden.class, Payment.class, CardPayment.class, CashPayment.class));
+        serializerExtension = new PrecompiledJacksonSerializerExtension(
+                (type, rootType) -> type.isAnnotationPresent(JsonTypeName.class)
+                        ? ((JsonTypeName) type.getAnnotation(JsonTypeName.class)).value() : type.getSimpleName()
+        );
+        modelClassesConverter.getConversionListener().getConversionListenerSet().add(serializerExtension);
+        javaPackageSet = Collections.singleton(getClass().getPackage().getName());
+    }
+
+    private String writeModule(TSModule tsModule) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        BufferedWriter writer = new BufferedWriter(stringWriter);
+        tsModule.write(writer);
+        writer.flush();
+        return stringWriter.toString();
+    }
+
+    @Test
+    public void deserializersDispatchOnTypeIdAndConvertFields() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("export const  AnimalSubTypes = new Map<string, (json: any) => Animal>([");
+        assertThat(moduleContent).contains("    ['Cat', readCat],\n");
+        assertThat(moduleContent).contains("    ['Dog', readDog],\n");
+        assertThat(moduleContent).contains("export function deserializeAnimal(json: any): Animal {");
+        assertThat(moduleContent).contains("    const typeId = json.kind;\n    const reader = AnimalSubTypes.get(typeId);");
+        assertThat(moduleContent).contains(
+                "throw new TypeError('Unknown type id ' + JSON.stringify(typeId) + ' of Animal, known type ids: ' + Array.from(AnimalSubTypes.keys()).join(', '));"
+        );
+        assertThat(moduleContent).contains("    return reader(json);");
+        assertThat(moduleContent).contains("    if (reader !== readDog) {\n        throw new TypeError('Type id ' + JSON.stringify(typeId) + ' is not a subtype of Dog');");
+        assertThat(moduleContent).contains("    return reader(json) as Dog;");
+        assertThat(moduleContent).contains("export function readDog(json: any): Dog {\n    const result = new Dog();");
+        assertThat(moduleContent).contains("result.bornAt = (json.bornAt != null ? new Date(json.bornAt) : json.bornAt);");
+        assertThat(moduleContent).contains("result.friends = (json.friends != null ? json.friends.map((e0: any) => deserializeAnimal(e0)) : json.friends);");
+    }
+
+    @Test
+    public void serializersWriteTypeIdAndFormatDates() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("if (value instanceof Dog) {\n        return serializeDog(value);");
+        assertThat(moduleContent).contains("kind: 'Dog',");
+        assertThat(moduleContent).contains("bornAt: (value.bornAt != null ? value.bornAt.getTime() : value.bornAt),");
+        assertThat(moduleContent).contains("vaccinatedAt: value.vaccinatedAt,");
+    }
+
+    @Test
+    public void wrapperObjectTypeIdIsUsedForDispatch() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("export const  ShapeSubTypes = new Map<string, (json: any) => Shape>([");
+        assertThat(moduleContent).contains("    const typeId = Object.keys(json)[0];\n    const reader = ShapeSubTypes.get(typeId);");
+        assertThat(moduleContent).contains("    return reader(json[typeId]) as Circle;");
+        assertThat(moduleContent).contains("    return {'Circle': result};");
+        assertThat(moduleContent).doesNotContain("kind: 'Circle'");
+    }
+
+    @Test
+    public void restMethodsUseGeneratedFunctions() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        TSComplexElement animal = findTSComplexElement(tsModules, Animal.class.getSimpleName());
+        TSClass controller = new TSClass("AnimalController", tsModules.first());
+        TSMethod getAnimal = new TSMethod("getAnimal", controller, animal, new EmptyImplementationGenerator(), false, false);
+        TSMethod getAnimals = new TSMethod("getAnimals", controller, new TSArray(animal), new EmptyImplementationGenerator(), false, false);
+        controller.addTsMethod(getAnimal);
+        controller.addTsMethod(getAnimals);
+        serializerExtension.addComplexTypeUsage(controller);
+
+        assertThat(serializerExtension.generateDeserializationCode("res", getAnimal)).isEqualTo("deserializeAnimal(JSON.parse(res))");
+        assertThat(serializerExtension.generateDeserializationCode("res", getAnimals)).isEqualTo("AnimalControllerDeserializers.getAnimals(JSON.parse(res))");
+        assertThat(
+                serializerExtension.generateSerializationCode("entity", new TSParameter("entity", animal, getAnimal, new EmptyImplementationGenerator()))
+        ).isEqualTo("JSON.stringify(serializeAnimal(entity))");
+    }
+
+    @Test
+    public void externalPropertyHierarchyIsSentAsPlainJson() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).doesNotContain("serializePlant").doesNotContain("deserializeTree").doesNotContain("PlantSubTypes");
+        assertThat(moduleContent).contains("export function deserializeGarden(json: any): Garden {");
+        assertThat(moduleContent).contains("result.plants = json.plants;");
+    }
+
+    @Test
+    public void typeIdsWithQuotesAreEscaped() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("    ['card\\'s \\\\ payment', readCardPayment],\n");
+        assertThat(moduleContent).contains("method: 'card\\'s \\\\ payment',");
+    }
+
+    @Test
+    public void defaultImplIsReadWhenTypeIdIsUnknown() throws IOException {
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("export function deserializePayment(json: any): Payment {");
+        assertThat(moduleContent).contains("    const reader = PaymentSubTypes.get(typeId) || readCashPayment;\n");
+        assertThat(moduleContent).contains("    const reader = PaymentSubTypes.get(typeId);\n    if (reader === undefined) {\n"
+                + "        throw new TypeError('Unknown type id ' + JSON.stringify(typeId) + ' of CardPayment");
+    }
+
+    @Test
+    public void interfacesAreDispatchedOnTypeIdProperty() throws IOException {
+        useInterfacesConverter(Animal.class, Dog.class, Cat.class);
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        String moduleContent = writeModule(tsModules.first());
+        assertThat(moduleContent).contains("if (value.kind === 'Dog') {\n        return serializeDog(value);");
+        assertThat(moduleContent).contains("if (value.kind === 'Cat') {\n        return serializeCat(value);");
+        assertThat(moduleContent).contains("export function readDog(json: any): Dog {\n    const result = {} as Dog;");
+        assertThat(moduleContent).doesNotContain("instanceof");
+    }
+
+    @Test
+    public void interfacesWithoutTypeIdPropertyAreRejected() throws IOException {
+        useInterfacesConverter(Shape.class, Circle.class, Square.class);
+        SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+        assertThatThrownBy(() -> writeModule(tsModules.first()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JsonTypeInfo.include() WRAPPER_OBJECT");
+    }
+
+    private void useInterfacesConverter(Class... modelClasses) {
+        tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(modelClasses));
+        modelClassesConverter = new ModelClassesToTsInterfacesConverter(objectMapper);
+        modelClassesConverter.getConversionListener().getConversionListenerSet().add(serializerExtension);
+        tsGenerator.setModelClassesConverter(modelClassesConverter);
+    }
+}
@@ -0,0 +1,16 @@
+package com.blueveery.springrest2ts.extensions;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+public abstract class Shape {
+    String color;
+}
+
+class Circle extends Shape {
+    double radius;
+}
+
+class Square extends Shape {
+    double side;
+}
@@ -0,0 +1,290 @@
+package com.blueveery.springrest2ts.converters;
+
+import com.blueveery.springrest2ts.extensions.RestConversionExtension;
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.IPickedType;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSElement;
+import com.blueveery.springrest2ts.tsmodel.TSElementAlias;
+import com.blueveery.springrest2ts.tsmodel.TSField;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+import com.blueveery.springrest2ts.tsmodel.TSUnion;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.canDeclareFunctionsIn;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.referencedComplexElement;
+import static com.blueveery.springrest2ts.extensions.ModelFunctionsUtility.stringLiteral;
+
+/**
+ * Return types of REST methods and types of parameters annotated with @JsonView are replaced with aliases
+ * Pick&lt;Type, ...&gt; which contain only properties serialized in given view, nested objects are not narrowed.
+ * Properties without @JsonView (on property or class) are included only if defaultViewInclusion is set,
+ * as in Spring which disables MapperFeature.DEFAULT_VIEW_INCLUSION.
+ * Aliases exist only in TS type system, when serializer of the implementation generator needs runtime classes
+ * (jackson-js, precompiled Jackson serializers) signatures keep the full class
+ */
+public class JsonViewRestConversionExtension implements RestConversionExtension {
+    private static final String VIEW_SUFFIX = "View";
+
+    private boolean defaultViewInclusion;
+    private final Map<TSComplexElement, Map<Class, TSElementAlias>> viewAliasesMap = new IdentityHashMap<>();
+
+    public boolean isDefaultViewInclusion() {
+        return defaultViewInclusion;
+    }
+
+    public void setDefaultViewInclusion(boolean defaultViewInclusion) {
+        this.defaultViewInclusion = defaultViewInclusion;
+    }
+
+    public TSElementAlias getViewAlias(TSComplexElement tsComplexElement, Class view) {
+        return viewAliasesMap.getOrDefault(tsComplexElement, new HashMap<>()).get(view);
+    }
+
+    @Override
+    public boolean isMappedRestParam(Class aClass) {
+        return false;
+    }
+
+    @Override
+    public boolean isMappedRestParam(TSParameter tsParameter) {
+        return false;
+    }
+
+    @Override
+    public String generateImplementation(TSParameter tsParameter, String pathParamsList, String queryParamsList, String headerParamsList) {
+        return "";
+    }
+
+    @Override
+    public void tsMethodCreated(Method method, TSMethod tsMethod) {
+        JsonView jsonView = method.getAnnotation(JsonView.class);
+        if (jsonView != null && jsonView.value().length > 0 && isModelTypeAliasSupported(tsMethod.getOwner())) {
+            tsMethod.setType(narrowToView(tsMethod.getType(), jsonView.value()[0], tsMethod.getOwner().getModule()));
+        }
+    }
+
+    @Override
+    public void tsParameterCreated(Parameter parameter, TSParameter tsParameter) {
+        JsonView jsonView = parameter.getAnnotation(JsonView.class);
+        TSComplexElement restClass = tsParameter.getTsMethod().getOwner();
+        if (jsonView != null && jsonView.value().length > 0 && isModelTypeAliasSupported(restClass)) {
+            TSModule usingModule = restClass.getModule();
+            tsParameter.setType(narrowToView(tsParameter.getType(), jsonView.value()[0], usingModule));
+        }
+    }
+
+    /**
+     * aliases have no runtime class, serializers which require it (like jackson-js or precompiled Jackson serializers)
+     * get the full class instead of the view alias
+     */
+    protected boolean isModelTypeAliasSupported(TSComplexElement restClass) {
+        ImplementationGenerator implementationGenerator = restClass.getImplementationGenerator();
+        return implementationGenerator == null || implementationGenerator.getSerializationExtension() == null
+                || implementationGenerator.getSerializationExtension().isModelTypeAliasSupported();
+    }
+
+    protected TSType narrowToView(TSType tsType, Class view, TSModule usingModule) {
+        if (tsType instanceof TSArray) {
+            return new TSArray(narrowToView(((TSArray) tsType).getElementType(), view, usingModule));
+        }
+        if (tsType instanceof TSUnion) {
+            List<TSType> joinedTypes = new ArrayList<>();
+            for (TSElement tsElement : ((TSUnion) tsType).getJoinedTsElementList()) {
+                if (!(tsElement instanceof TSType)) {
+                    return tsType;
+                }
+                joinedTypes.add(narrowToView((TSType) tsElement, view, usingModule));
+            }
+            return new TSUnion(joinedTypes.toArray(new TSType[0]));
+        }
+        TSComplexElement tsComplexElement = referencedComplexElement(tsType);
+        if (tsComplexElement == null || !tsComplexElement.getTsTypeParameterList().isEmpty()
+                || !canDeclareFunctionsIn(tsComplexElement.getModule())) {
+            return tsType;
+        }
+        TSElementAlias viewAlias = getOrCreateViewAlias(tsComplexElement, view);
+        usingModule.scopedTypeUsage(viewAlias);
+        return viewAlias;
+    }
+
+    private TSElementAlias getOrCreateViewAlias(TSComplexElement tsComplexElement, Class view) {
+        Map<Class, TSElementAlias> viewAliases = viewAliasesMap.computeIfAbsent(tsComplexElement, e -> new HashMap<>());
+        TSElementAlias viewAlias = viewAliases.get(view);
+        if (viewAlias == null) {
+            String viewName = view.getSimpleName().endsWith(VIEW_SUFFIX) ? view.getSimpleName() : view.getSimpleName() + VIEW_SUFFIX;
+            viewAlias = new TSElementAlias(
+                    tsComplexElement.getName() + viewName, tsComplexElement.getModule(), new ViewPickType(tsComplexElement, view)
+            );
+            viewAliases.put(view, viewAlias);
+            tsComplexElement.getModule().addScopedElement(viewAlias);
+        }
+        return viewAlias;
+    }
+
+    /**
+     * view of a property is taken from @JsonView of java property behind the TS field, if there is none
+     * default view is taken from @JsonView of the narrowed class (or its nearest superclass), like in Jackson.
+     * Type id properties are serialized in every view
+     */
+    protected boolean isIncludedInView(TSField tsField, Class view, TSComplexElement narrowedElement) {
+        String propertyName = unquote(tsField.getName());
+        Class[] fieldViews = findPropertyViews(tsField, propertyName, narrowedElement);
+        if (fieldViews == null) {
+            if (tsField.getSourceProperty() == null && isTypeIdProperty(propertyName, narrowedElement)) {
+                return true;
+            }
+            fieldViews = findDefaultViews(narrowedElement);
+        }
+        if (fieldViews == null) {
+            return defaultViewInclusion;
+        }
+        for (Class fieldView : fieldViews) {
+            if (fieldView.isAssignableFrom(view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class[] findPropertyViews(TSField tsField, String propertyName, TSComplexElement narrowedElement) {
+        Property sourceProperty = tsField.getSourceProperty();
+        if (sourceProperty != null) {
+            JsonView jsonView = sourceProperty.getDeclaredAnnotation(JsonView.class);
+            return jsonView != null ? jsonView.value() : null;
+        }
+        for (Annotation annotation : tsField.getAnnotationList()) {
+            if (annotation instanceof JsonView) {
+                return ((JsonView) annotation).value();
+            }
+        }
+        for (Class javaType : narrowedElement.getMappedFromJavaTypeSet()) {
+            for (Class javaClass = javaType; javaClass != null; javaClass = javaClass.getSuperclass()) {
+                for (Field field : javaClass.getDeclaredFields()) {
+                    JsonProperty jsonProperty = field.getDeclaredAnnotation(JsonProperty.class);
+                    boolean isRenamed = jsonProperty != null && !"".equals(jsonProperty.value());
+                    String fieldPropertyName = isRenamed ? jsonProperty.value() : field.getName();
+                    JsonView jsonView = field.getDeclaredAnnotation(JsonView.class);
+                    if (jsonView != null && propertyName.equals(fieldPropertyName)) {
+                        return jsonView.value();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isTypeIdProperty(String propertyName, TSComplexElement narrowedElement) {
+        for (Class javaType : narrowedElement.getMappedFromJavaTypeSet()) {
+            for (Class javaClass = javaType; javaClass != null; javaClass = javaClass.getSuperclass()) {
+                JsonTypeInfo jsonTypeInfo = (JsonTypeInfo) javaClass.getAnnotation(JsonTypeInfo.class);
+                if (jsonTypeInfo != null) {
+                    String typeIdPropertyName = jsonTypeInfo.property();
+                    if ("".equals(typeIdPropertyName)) {
+                        typeIdPropertyName = jsonTypeInfo.use().getDefaultPropertyName();
+                    }
+                    return propertyName.equals(typeIdPropertyName);
+                }
+            }
+        }
+        return false;
+    }
+
+    private Class[] findDefaultViews(TSComplexElement narrowedElement) {
+        for (Class javaType : narrowedElement.getMappedFromJavaTypeSet()) {
+            for (Class javaClass = javaType; javaClass != null; javaClass = javaClass.getSuperclass()) {
+                JsonView classView = (JsonView) javaClass.getAnnotation(JsonView.class);
+                if (classView != null) {
+                    return classView.value();
+                }
+            }
+        }
+        return null;
+    }
+
+    private String unquote(String name) {
+        if (name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    private void collectHierarchy(TSComplexElement tsComplexElement, List<TSComplexElement> hierarchy) {
+        if (hierarchy.contains(tsComplexElement)) {
+            return;
+        }
+        hierarchy.add(tsComplexElement);
+        List<TSType> parentTypes = new ArrayList<>();
+        if (tsComplexElement instanceof TSClass && ((TSClass) tsComplexElement).getExtendsClass() != null) {
+            parentTypes.add(((TSClass) tsComplexElement).getExtendsClass());
+        }
+        if (tsComplexElement instanceof TSInterface) {
+            parentTypes.addAll(((TSInterface) tsComplexElement).getExtendsInterfaces());
+        }
+        for (TSType parentType : parentTypes) {
+            TSComplexElement parent = referencedComplexElement(parentType);
+            if (parent != null) {
+                collectHierarchy(parent, hierarchy);
+            }
+        }
+    }
+
+    private class ViewPickType extends TSType implements IPickedType {
+        private final TSComplexElement tsComplexElement;
+        private final Class view;
+
+        ViewPickType(TSComplexElement tsComplexElement, Class view) {
+            super(tsComplexElement.getName());
+            this.tsComplexElement = tsComplexElement;
+            this.view = view;
+        }
+
+        @Override
+        public TSComplexElement getPickedElement() {
+            return tsComplexElement;
+        }
+
+        @Override
+        public String getName() {
+            List<TSComplexElement> hierarchy = new ArrayList<>();
+            collectHierarchy(tsComplexElement, hierarchy);
+            Set<String> propertyNames = new LinkedHashSet<>();
+            for (TSComplexElement owner : hierarchy) {
+                for (TSField tsField : owner.getTsFields()) {
+                    if (isIncludedInView(tsField, view, tsComplexElement)) {
+                        propertyNames.add(stringLiteral(unquote(tsField.getName())));
+                    }
+                }
+            }
+            String pickedProperties = propertyNames.isEmpty() ? "never" : String.join(" | ", propertyNames);
+            return "Pick<" + tsComplexElement.getName() + ", " + pickedProperties + ">";
+        }
+
+        @Override
+        public void write(BufferedWriter writer) throws IOException {
+            writer.write(getName());
+        }
+    }
+}
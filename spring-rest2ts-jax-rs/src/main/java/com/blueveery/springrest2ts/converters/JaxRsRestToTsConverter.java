@@ -9,17 +9,31 @@ import com.blueveery.springrest2ts.spring.RequestParamEntity;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSType;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 public class JaxRsRestToTsConverter extends SpringAnnotationsBasedRestClassConverter {
     private static Set<Class> restMethodAnnotations;
@@ -32,6 +46,9 @@ public class JaxRsRestToTsConverter extends SpringAnnotationsBasedRestClassConve
         restMethodAnnotations.add(PATCH.class);
     }
 
+    private Class<? extends Annotation> payloadTypeAnnotation;
+    private String payloadTypeAttribute = "value";
+
     protected JaxRsRestToTsConverter(ImplementationGenerator implementationGenerator) {
         super(implementationGenerator);
     }
@@ -40,6 +57,20 @@ public class JaxRsRestToTsConverter extends SpringAnnotationsBasedRestClassConve
         super(implementationGenerator, classNameMapper);
     }
 
+    public Class<? extends Annotation> getPayloadTypeAnnotation() {
+        return payloadTypeAnnotation;
+    }
+
+    /**
+     * Methods which return Response or resume @Suspended AsyncResponse have no information about payload type,
+     * it is taken from given method annotation attribute which returns Class or Class[] (for example swagger
+     * ApiOperation.response), without such annotation payload type is any
+     */
+    public void setPayloadTypeAnnotation(Class<? extends Annotation> payloadTypeAnnotation, String payloadTypeAttribute) {
+        this.payloadTypeAnnotation = payloadTypeAnnotation;
+        this.payloadTypeAttribute = payloadTypeAttribute;
+    }
+
     protected boolean isRestMethod(Method method) {
         for (Class requiredAnnotationType : restMethodAnnotations) {
             if (method.isAnnotationPresent(requiredAnnotationType)) {
@@ -153,7 +184,7 @@ public class JaxRsRestToTsConverter extends SpringAnnotationsBasedRestClassConve
             pathVariable.setRequired(defaultValue == null);
             tsParameter.addAllAnnotations(new Annotation[]{pathVariable});
         }
-        if (tsParameter.getAnnotationList().isEmpty()) {
+        if (tsParameter.getAnnotationList().isEmpty() && !isContextParameter(parameter)) {
             boolean isPutOrPost = false;
             List<Annotation> annotationList = tsParameter.getTsMethod().getAnnotationList();
             RequestMapping requestMapping = (RequestMapping) annotationList.stream().filter(a -> a instanceof RequestMapping).findFirst().orElse(null);
@@ -179,4 +210,112 @@ public class JaxRsRestToTsConverter extends SpringAnnotationsBasedRestClassConve
     protected Type handleImplementationSpecificReturnTypes(Method method) {
         return method.getGenericReturnType();
     }
+
+    @Override
+    protected TSType mapMethodReturnType(Method method, Type returnType, Map<TypeVariable, Type> variableToJavaType) {
+        if (isEventStream(method)) {
+            return TypeMapper.tsBlob;
+        }
+        if (findSuspendedAsyncResponse(method) != null) {
+            return mapPayloadType(method, variableToJavaType);
+        }
+        return mapResponseType(method, returnType, variableToJavaType);
+    }
+
+    private TSType mapResponseType(Method method, Type responseType, Map<TypeVariable, Type> variableToJavaType) {
+        Class rawType = getRawClass(responseType);
+        if (rawType != null && StreamingOutput.class.isAssignableFrom(rawType)) {
+            return TypeMapper.tsBlob;
+        }
+        if (rawType != null && Response.class.isAssignableFrom(rawType)) {
+            return mapPayloadType(method, variableToJavaType);
+        }
+        if (rawType != null && CompletionStage.class.isAssignableFrom(rawType)) {
+            if (!(responseType instanceof ParameterizedType)) {
+                return TypeMapper.tsAny;
+            }
+            Type completedType = ((ParameterizedType) responseType).getActualTypeArguments()[0];
+            return mapResponseType(method, completedType, variableToJavaType);
+        }
+        return TypeMapper.map(responseType, variableToJavaType);
+    }
+
+    private TSType mapPayloadType(Method method, Map<TypeVariable, Type> variableToJavaType) {
+        Class payloadType = findPayloadType(method);
+        if (payloadType == null) {
+            return TypeMapper.tsAny;
+        }
+        return mapResponseType(method, payloadType, variableToJavaType);
+    }
+
+    protected Class findPayloadType(Method method) {
+        if (payloadTypeAnnotation == null) {
+            return null;
+        }
+        Annotation annotation = method.getAnnotation(payloadTypeAnnotation);
+        if (annotation == null) {
+            return null;
+        }
+        try {
+            Object value = payloadTypeAnnotation.getMethod(payloadTypeAttribute).invoke(annotation);
+            if (value instanceof Class[]) {
+                Class[] classes = (Class[]) value;
+                value = classes.length > 0 ? classes[0] : null;
+            }
+            if (value == null || value == void.class || value == Void.class) {
+                return null;
+            }
+            return (Class) value;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(
+                    "Payload type attribute " + payloadTypeAttribute + " is not available in " + payloadTypeAnnotation.getSimpleName(), e
+            );
+        }
+    }
+
+    /**
+     * Server sent events endpoints are mapped to Blob, so implementation generators read them as stream
+     */
+    protected boolean isEventStream(Method method) {
+        Produces produces = method.getAnnotation(Produces.class);
+        if (produces != null) {
+            for (String mediaType : produces.value()) {
+                if (mediaType.startsWith(MediaType.SERVER_SENT_EVENTS)) {
+                    return true;
+                }
+            }
+        }
+        for (Parameter parameter : method.getParameters()) {
+            if (SseEventSink.class.isAssignableFrom(parameter.getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Parameter findSuspendedAsyncResponse(Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            if (parameter.isAnnotationPresent(Suspended.class) && AsyncResponse.class.isAssignableFrom(parameter.getType())) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    private boolean isContextParameter(Parameter parameter) {
+        Class<?> parameterType = parameter.getType();
+        return parameter.isAnnotationPresent(Suspended.class) || parameter.isAnnotationPresent(Context.class)
+                || AsyncResponse.class.isAssignableFrom(parameterType) || SseEventSink.class.isAssignableFrom(parameterType)
+                || Sse.class.isAssignableFrom(parameterType);
+    }
+
+    private Class getRawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class) ((ParameterizedType) type).getRawType();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "ClassScan")
+@Label("Class Scan")
+@Description("Scanning of java package for classes")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class ClassScanEvent extends Event implements GeneratorEvent {
+    @Label("Package Name")
+    String packageName;
+
+    @Label("Class Count")
+    int classCount;
+}
@@ -0,0 +1,24 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "FilterEvaluation")
+@Label("Filter Evaluation")
+@Description("Evaluation of java type filter for scanned class")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class FilterEvaluationEvent extends Event implements GeneratorEvent {
+    @Label("Class Name")
+    String className;
+
+    @Label("Filter Name")
+    String filterName;
+
+    @Label("Accepted")
+    boolean accepted;
+}
@@ -0,0 +1,140 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+import com.blueveery.springrest2ts.events.GeneratorEventsRecorder;
+import com.blueveery.springrest2ts.tsmodel.TSType;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+
+/**
+ * Records generator steps as JDK Flight Recorder events, it is registered as GeneratorEventsRecorder service
+ * so adding this module to class path is enough. Events are created only if they are enabled in a running recording
+ */
+public class JfrGeneratorEventsRecorder implements GeneratorEventsRecorder {
+    static final String EVENT_NAME_PREFIX = "com.blueveery.springrest2ts.";
+    static final String CATEGORY = "Spring Rest2ts";
+
+    @Override
+    public GeneratorEvent beginClassScan() {
+        ClassScanEvent event = new ClassScanEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endClassScan(GeneratorEvent generatorEvent, String packageName, int classCount) {
+        ClassScanEvent event = (ClassScanEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.packageName = packageName;
+            event.classCount = classCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public GeneratorEvent beginFilterEvaluation() {
+        FilterEvaluationEvent event = new FilterEvaluationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endFilterEvaluation(GeneratorEvent generatorEvent, Class javaClass, Object filter, boolean accepted) {
+        FilterEvaluationEvent event = (FilterEvaluationEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.className = javaClass.getName();
+            event.filterName = filter.getClass().getSimpleName();
+            event.accepted = accepted;
+            event.commit();
+        }
+    }
+
+    @Override
+    public GeneratorEvent beginTypeMappingMiss() {
+        TypeMappingMissEvent event = new TypeMappingMissEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endTypeMappingMiss(GeneratorEvent generatorEvent, Type javaType, TSType tsType) {
+        TypeMappingMissEvent event = (TypeMappingMissEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.javaType = javaType.getTypeName();
+            event.tsType = tsType.getName();
+            event.commit();
+        }
+    }
+
+    @Override
+    public GeneratorEvent beginTypeConversion() {
+        TypeConversionEvent event = new TypeConversionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endTypeConversion(GeneratorEvent generatorEvent, Class javaClass, Object converter) {
+        TypeConversionEvent event = (TypeConversionEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.className = javaClass.getName();
+            event.converterName = converter.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    @Override
+    public GeneratorEvent beginPropertyResolution() {
+        PropertyResolutionEvent event = new PropertyResolutionEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endPropertyResolution(GeneratorEvent generatorEvent, Member member, String propertyName, Object objectMapper) {
+        PropertyResolutionEvent event = (PropertyResolutionEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.className = member.getDeclaringClass().getName();
+            event.memberName = member.getName();
+            event.propertyName = propertyName;
+            event.objectMapperName = objectMapper.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    @Override
+    public GeneratorEvent beginModuleWrite() {
+        ModuleWriteEvent event = new ModuleWriteEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endModuleWrite(GeneratorEvent generatorEvent, String moduleName, Object modulePath) {
+        ModuleWriteEvent event = (ModuleWriteEvent) generatorEvent;
+        if (event.shouldCommit()) {
+            event.moduleName = moduleName;
+            event.modulePath = String.valueOf(modulePath);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "ModuleWrite")
+@Label("Module Write")
+@Description("Writing of TypeScript module")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class ModuleWriteEvent extends Event implements GeneratorEvent {
+    @Label("Module Name")
+    String moduleName;
+
+    @Label("Module Path")
+    String modulePath;
+}
@@ -0,0 +1,27 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "PropertyResolution")
+@Label("Property Resolution")
+@Description("Resolution of model class property by object mapper")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class PropertyResolutionEvent extends Event implements GeneratorEvent {
+    @Label("Class Name")
+    String className;
+
+    @Label("Member Name")
+    String memberName;
+
+    @Label("Property Name")
+    String propertyName;
+
+    @Label("Object Mapper Name")
+    String objectMapperName;
+}
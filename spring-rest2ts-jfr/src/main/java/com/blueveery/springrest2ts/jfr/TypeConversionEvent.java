@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "TypeConversion")
+@Label("Type Conversion")
+@Description("Conversion of java class into TypeScript type")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class TypeConversionEvent extends Event implements GeneratorEvent {
+    @Label("Class Name")
+    String className;
+
+    @Label("Converter Name")
+    String converterName;
+}
@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.jfr;
+
+import com.blueveery.springrest2ts.events.GeneratorEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(JfrGeneratorEventsRecorder.EVENT_NAME_PREFIX + "TypeMappingMiss")
+@Label("Type Mapping Miss")
+@Description("Mapping of java type which is not registered directly in TypeMapper")
+@Category(JfrGeneratorEventsRecorder.CATEGORY)
+public class TypeMappingMissEvent extends Event implements GeneratorEvent {
+    @Label("Java Type")
+    String javaType;
+
+    @Label("TypeScript Type")
+    String tsType;
+}
@@ -0,0 +1,80 @@
+package com.blueveery.springrest2ts.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.events.GeneratorEvents;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+import com.blueveery.springrest2ts.jfr.model.Customer;
+import com.blueveery.springrest2ts.jfr.model.Order;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GeneratorEventsTest {
+  private static final String[] EVENT_NAMES = {
+      "com.blueveery.springrest2ts.ClassScan",
+      "com.blueveery.springrest2ts.FilterEvaluation",
+      "com.blueveery.springrest2ts.TypeMappingMiss",
+      "com.blueveery.springrest2ts.TypeConversion",
+      "com.blueveery.springrest2ts.PropertyResolution",
+      "com.blueveery.springrest2ts.ModuleWrite"
+  };
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  @Test
+  public void eventsAreNotCreatedWhenRecordingIsOff() {
+    assertThat(GeneratorEvents.isRecorderAvailable()).isTrue();
+    assertThat(GeneratorEvents.beginTypeConversion()).isNull();
+    assertThat(GeneratorEvents.beginModuleWrite()).isNull();
+  }
+
+  @Test
+  public void generationPhasesAreRecorded() throws IOException {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Order.class, Customer.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesCondition(new RejectJavaTypeFilter());
+    Set<String> javaPackageSet = Collections.singleton(Order.class.getPackage().getName());
+
+    Path recordingFile = temporaryFolder.getRoot().toPath().resolve("generation.jfr");
+    try (Recording recording = new Recording()) {
+      for (String eventName : EVENT_NAMES) {
+        recording.enable(eventName);
+      }
+      recording.start();
+      tsGenerator.generate(javaPackageSet, temporaryFolder.newFolder("output").toPath());
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+    Set<String> eventNames = events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toSet());
+    assertThat(eventNames).contains(EVENT_NAMES);
+    assertThat(events.stream()
+        .filter(e -> e.getEventType().getName().equals("com.blueveery.springrest2ts.TypeConversion"))
+        .map(e -> e.getString("className")))
+        .contains(Order.class.getName(), Customer.class.getName());
+  }
+}
@@ -0,0 +1,5 @@
+package com.blueveery.springrest2ts.jfr.model;
+
+public class Customer {
+    public String name;
+}
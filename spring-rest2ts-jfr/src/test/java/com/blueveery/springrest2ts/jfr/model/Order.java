@@ -0,0 +1,9 @@
+package com.blueveery.springrest2ts.jfr.model;
+
+import java.util.List;
+
+public class Order {
+    public String number;
+    public Customer customer;
+    public List<String> notes;
+}
@@ -0,0 +1,160 @@
+package com.blueveery.springrest2ts.maven;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesAbstractConverter;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsClassesConverter;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.ObjectMapper;
+import com.blueveery.springrest2ts.converters.RestClassConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Declarative configuration of generator shared by goals
+ */
+public abstract class AbstractRest2tsMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject project;
+
+    /**
+     * Java packages from which class scanning starts
+     */
+    @Parameter(required = true)
+    protected List<String> packages;
+
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/rest2ts", required = true)
+    protected File outputDirectory;
+
+    @Parameter
+    protected FilterConfig modelClasses = new FilterConfig();
+
+    @Parameter
+    protected FilterConfig restClasses = new FilterConfig();
+
+    /**
+     * interfaces, classes
+     */
+    @Parameter(defaultValue = "interfaces")
+    protected String modelClassesConverter;
+
+    /**
+     * Object mapper with configured properties, by default JacksonObjectMapper
+     */
+    @Parameter
+    protected ObjectMapper objectMapper;
+
+    /**
+     * spring or name of RestClassConverter class with constructor taking ImplementationGenerator
+     */
+    @Parameter(defaultValue = "spring")
+    protected String restClassesConverter;
+
+    /**
+     * angular, fetch, empty or name of ImplementationGenerator class with no-arg constructor
+     */
+    @Parameter(defaultValue = "angular")
+    protected String implementationGenerator;
+
+    @Parameter
+    protected String generationReportFileName;
+
+    @Parameter(property = "rest2ts.filterTracing", defaultValue = "false")
+    protected boolean filterTracing;
+
+    protected List<String> getCompileClasspathElements() throws MojoExecutionException {
+        try {
+            return project.getCompileClasspathElements();
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Compile classpath is not resolved", e);
+        }
+    }
+
+    protected Rest2tsGenerator createGenerator(ClassLoader projectClassLoader) throws ReflectiveOperationException {
+        Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+        tsGenerator.setClassLoader(projectClassLoader);
+        tsGenerator.setModelClassesCondition(modelClasses.createFilter(projectClassLoader));
+        tsGenerator.setRestClassesCondition(restClasses.createFilter(projectClassLoader));
+        tsGenerator.setFilterTracingEnabled(filterTracing);
+        tsGenerator.setGenerationReportFileName(generationReportFileName);
+
+        ImplementationGenerator tsImplementationGenerator = createImplementationGenerator(projectClassLoader);
+        tsGenerator.setModelClassesConverter(createModelClassesConverter(tsImplementationGenerator));
+        tsGenerator.setRestClassesConverter(createRestClassesConverter(tsImplementationGenerator, projectClassLoader));
+        return tsGenerator;
+    }
+
+    private ImplementationGenerator createImplementationGenerator(ClassLoader projectClassLoader) throws ReflectiveOperationException {
+        switch (implementationGenerator) {
+            case "angular":
+                return new Angular4ImplementationGenerator();
+            case "fetch":
+                return new FetchBasedImplementationGenerator();
+            case "empty":
+                return new EmptyImplementationGenerator();
+            default:
+                return (ImplementationGenerator) Class.forName(implementationGenerator, true, projectClassLoader).getConstructor().newInstance();
+        }
+    }
+
+    private ModelClassesAbstractConverter createModelClassesConverter(ImplementationGenerator tsImplementationGenerator) {
+        ObjectMapper tsObjectMapper = objectMapper != null ? objectMapper : new JacksonObjectMapper();
+        switch (modelClassesConverter) {
+            case "interfaces":
+                return new ModelClassesToTsInterfacesConverter(tsObjectMapper);
+            case "classes":
+                return new ModelClassesToTsClassesConverter(tsImplementationGenerator, tsObjectMapper);
+            default:
+                throw new IllegalArgumentException("Unknown model classes converter " + modelClassesConverter + ", expected interfaces or classes");
+        }
+    }
+
+    private RestClassConverter createRestClassesConverter(
+            ImplementationGenerator tsImplementationGenerator, ClassLoader projectClassLoader
+    ) throws ReflectiveOperationException {
+        if ("spring".equals(restClassesConverter)) {
+            return new SpringRestToTsConverter(tsImplementationGenerator);
+        }
+        // converters like JaxRsRestToTsConverter declare this constructor as protected
+        Constructor<?> constructor = Class.forName(restClassesConverter, true, projectClassLoader)
+                .getDeclaredConstructor(ImplementationGenerator.class);
+        constructor.setAccessible(true);
+        return (RestClassConverter) constructor.newInstance(tsImplementationGenerator);
+    }
+
+    static String describe(Object configuredObject) {
+        if (configuredObject == null) {
+            return "default";
+        }
+        StringBuilder description = new StringBuilder(configuredObject.getClass().getName());
+        for (Class<?> type = configuredObject.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    description.append(", ").append(field.getName()).append("=").append(field.get(configuredObject));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    description.append(", ").append(field.getName()).append("=?");
+                }
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.blueveery.springrest2ts.maven;
+
+import com.blueveery.springrest2ts.filters.AndFilterOperator;
+import com.blueveery.springrest2ts.filters.ExtendsJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.HasAnnotationJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.JavaTypeFilter;
+import com.blueveery.springrest2ts.filters.NotJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.OrFilterOperator;
+import com.blueveery.springrest2ts.filters.RegexpJavaTypeFilter;
+import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declarative java type filter. Class is accepted if it matches any of annotations, extended types or name patterns
+ * and none of excluded annotations, name patterns are regular expressions matched with class simple name.
+ * Filter without any criteria rejects all classes
+ */
+public class FilterConfig {
+    private List<String> annotations = new ArrayList<>();
+    private List<String> extendsTypes = new ArrayList<>();
+    private List<String> namePatterns = new ArrayList<>();
+    private List<String> excludedAnnotations = new ArrayList<>();
+
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    public void setAnnotations(List<String> annotations) {
+        this.annotations = annotations;
+    }
+
+    public List<String> getExtendsTypes() {
+        return extendsTypes;
+    }
+
+    public void setExtendsTypes(List<String> extendsTypes) {
+        this.extendsTypes = extendsTypes;
+    }
+
+    public List<String> getNamePatterns() {
+        return namePatterns;
+    }
+
+    public void setNamePatterns(List<String> namePatterns) {
+        this.namePatterns = namePatterns;
+    }
+
+    public List<String> getExcludedAnnotations() {
+        return excludedAnnotations;
+    }
+
+    public void setExcludedAnnotations(List<String> excludedAnnotations) {
+        this.excludedAnnotations = excludedAnnotations;
+    }
+
+    public JavaTypeFilter createFilter(ClassLoader classLoader) throws ClassNotFoundException {
+        List<JavaTypeFilter> includeFilters = new ArrayList<>();
+        for (String annotation : annotations) {
+            includeFilters.add(new HasAnnotationJavaTypeFilter(Class.forName(annotation, false, classLoader)));
+        }
+        for (String extendsType : extendsTypes) {
+            includeFilters.add(new ExtendsJavaTypeFilter(Class.forName(extendsType, false, classLoader)));
+        }
+        for (String namePattern : namePatterns) {
+            includeFilters.add(new RegexpJavaTypeFilter(namePattern));
+        }
+        if (includeFilters.isEmpty()) {
+            return new RejectJavaTypeFilter();
+        }
+        JavaTypeFilter includeFilter = includeFilters.size() == 1 ? includeFilters.get(0) : new OrFilterOperator(includeFilters);
+        if (excludedAnnotations.isEmpty()) {
+            return includeFilter;
+        }
+        List<JavaTypeFilter> excludeFilters = new ArrayList<>();
+        for (String annotation : excludedAnnotations) {
+            excludeFilters.add(new NotJavaTypeFilter(new HasAnnotationJavaTypeFilter(Class.forName(annotation, false, classLoader))));
+        }
+        excludeFilters.add(0, includeFilter);
+        return new AndFilterOperator(excludeFilters);
+    }
+
+    @Override
+    public String toString() {
+        return "annotations=" + annotations + ", extendsTypes=" + extendsTypes
+                + ", namePatterns=" + namePatterns + ", excludedAnnotations=" + excludedAnnotations;
+    }
+}
@@ -0,0 +1,113 @@
+package com.blueveery.springrest2ts.maven;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Generates TypeScript code from compiled classes of the project, runs in build JVM after compilation.
+ * Generation is skipped when project classes, classpath, generator jars and configuration did not change
+ * since previous generation
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE)
+public class GenerateMojo extends AbstractRest2tsMojo {
+    private static final Class<?>[] GENERATOR_CLASSES = {
+            Rest2tsGenerator.class, JacksonObjectMapper.class, SpringRestToTsConverter.class, GenerateMojo.class
+    };
+
+    @Parameter(defaultValue = "${project.build.directory}/rest2ts/generate.fingerprint", required = true)
+    private File fingerprintFile;
+
+    /**
+     * Generates code even if fingerprint did not change
+     */
+    @Parameter(property = "rest2ts.force", defaultValue = "false")
+    private boolean force;
+
+    @Parameter(property = "rest2ts.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Generation of TypeScript code is skipped");
+            return;
+        }
+        List<String> classpathElements = getCompileClasspathElements();
+
+        GenerationFingerprint fingerprint = createFingerprint(classpathElements);
+        Path fingerprintPath = fingerprintFile.toPath();
+        try {
+            String change = force ? "generation is forced" : fingerprint.findChange(fingerprintPath);
+            if (change == null && outputDirectory.isDirectory()) {
+                getLog().info("TypeScript code in " + outputDirectory + " is up to date");
+                return;
+            }
+            getLog().info("Generating TypeScript code into " + outputDirectory + ", " + (change != null ? change : "output directory is missing"));
+            generate(classpathElements);
+            fingerprint.store(fingerprintPath);
+        } catch (IOException e) {
+            throw new MojoExecutionException("TypeScript code generation failed", e);
+        }
+    }
+
+    private GenerationFingerprint createFingerprint(List<String> classpathElements) throws MojoExecutionException {
+        GenerationFingerprint fingerprint = new GenerationFingerprint();
+        fingerprint.addConfiguration("packages", packages);
+        fingerprint.addConfiguration("outputDirectory", outputDirectory.getAbsolutePath());
+        fingerprint.addConfiguration("modelClasses", modelClasses);
+        fingerprint.addConfiguration("restClasses", restClasses);
+        fingerprint.addConfiguration("modelClassesConverter", modelClassesConverter);
+        fingerprint.addConfiguration("objectMapper", describe(objectMapper));
+        fingerprint.addConfiguration("restClassesConverter", restClassesConverter);
+        fingerprint.addConfiguration("implementationGenerator", implementationGenerator);
+        fingerprint.addConfiguration("generationReportFileName", generationReportFileName);
+        try {
+            for (Class<?> generatorClass : GENERATOR_CLASSES) {
+                fingerprint.addGeneratorClasspathElement(Paths.get(generatorClass.getProtectionDomain().getCodeSource().getLocation().toURI()));
+            }
+            for (String classpathElement : classpathElements) {
+                fingerprint.addClasspathElement(Paths.get(classpathElement));
+            }
+        } catch (URISyntaxException e) {
+            throw new MojoExecutionException("Location of generator classes could not be resolved", e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Input classes could not be read", e);
+        }
+        return fingerprint;
+    }
+
+    private void generate(List<String> classpathElements) throws IOException, MojoExecutionException {
+        List<URL> classpathUrls = new ArrayList<>();
+        for (String classpathElement : classpathElements) {
+            classpathUrls.add(new File(classpathElement).toURI().toURL());
+        }
+        try (URLClassLoader projectClassLoader = new URLClassLoader(classpathUrls.toArray(new URL[0]), getClass().getClassLoader())) {
+            TypeMapper.resetTypeMapping();
+            Rest2tsGenerator tsGenerator = createGenerator(projectClassLoader);
+            tsGenerator.generate(new LinkedHashSet<>(packages), outputDirectory.toPath());
+        } catch (ReflectiveOperationException e) {
+            throw new MojoExecutionException("Invalid generator configuration", e);
+        } finally {
+            TypeMapper.resetTypeMapping();
+        }
+    }
+
+}
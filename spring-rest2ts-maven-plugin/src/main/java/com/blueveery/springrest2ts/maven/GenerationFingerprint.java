@@ -0,0 +1,139 @@
+package com.blueveery.springrest2ts.maven;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SHA-256 digests of generation configuration and of input classes. All files of class directories are hashed
+ * by content, since generated code depends also on classes outside of scanned packages (superclasses, property types),
+ * so recompilation which produces the same bytecode does not trigger generation. Jars are hashed by path,
+ * size and modification time. Locations of generator classes are part of configuration, so update of generator
+ * or plugin triggers generation
+ */
+public class GenerationFingerprint {
+    static final String CONFIGURATION_KEY = "configuration";
+    static final String INPUTS_KEY = "inputs";
+
+    private final MessageDigest configurationDigest = newDigest();
+    private final MessageDigest inputsDigest = newDigest();
+    private String configurationHash;
+    private String inputsHash;
+
+    public void addConfiguration(String name, Object value) {
+        checkNotFinished();
+        configurationDigest.update((name + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Adds jar or classes directory from which generator or plugin classes are loaded
+     */
+    public void addGeneratorClasspathElement(Path classpathElement) throws IOException {
+        checkNotFinished();
+        addClasspathElement(configurationDigest, classpathElement);
+    }
+
+    public void addClasspathElement(Path classpathElement) throws IOException {
+        checkNotFinished();
+        addClasspathElement(inputsDigest, classpathElement);
+    }
+
+    private void addClasspathElement(MessageDigest digest, Path classpathElement) throws IOException {
+        if (Files.isDirectory(classpathElement)) {
+            addClassesDirectory(digest, classpathElement);
+        } else if (Files.isRegularFile(classpathElement)) {
+            digest.update((classpathElement.toAbsolutePath() + ":" + Files.size(classpathElement) + ":"
+                    + Files.getLastModifiedTime(classpathElement).toMillis() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void addClassesDirectory(MessageDigest digest, Path classesDirectory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            digest.update((classesDirectory.relativize(file).toString().replace('\\', '/') + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    public String getConfigurationHash() {
+        finish();
+        return configurationHash;
+    }
+
+    public String getInputsHash() {
+        finish();
+        return inputsHash;
+    }
+
+    /**
+     * Returns null if fingerprint is equal to fingerprint stored in given file, otherwise reason why generation
+     * is required
+     */
+    public String findChange(Path fingerprintFile) throws IOException {
+        if (!Files.exists(fingerprintFile)) {
+            return "no previous generation";
+        }
+        Properties stored = new Properties();
+        try (Reader reader = Files.newBufferedReader(fingerprintFile, StandardCharsets.UTF_8)) {
+            stored.load(reader);
+        }
+        if (!getConfigurationHash().equals(stored.getProperty(CONFIGURATION_KEY))) {
+            return "configuration changed";
+        }
+        if (!getInputsHash().equals(stored.getProperty(INPUTS_KEY))) {
+            return "input classes changed";
+        }
+        return null;
+    }
+
+    public void store(Path fingerprintFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(CONFIGURATION_KEY, getConfigurationHash());
+        properties.setProperty(INPUTS_KEY, getInputsHash());
+        Files.createDirectories(fingerprintFile.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(fingerprintFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "spring-rest2ts generation fingerprint");
+        }
+    }
+
+    private void finish() {
+        if (configurationHash == null) {
+            configurationHash = toHex(configurationDigest.digest());
+            inputsHash = toHex(inputsDigest.digest());
+        }
+    }
+
+    private void checkNotFinished() {
+        if (configurationHash != null) {
+            throw new IllegalStateException("Fingerprint is already computed");
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
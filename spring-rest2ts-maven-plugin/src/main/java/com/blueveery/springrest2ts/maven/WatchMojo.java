@@ -0,0 +1,65 @@
+package com.blueveery.springrest2ts.maven;
+
+import com.blueveery.springrest2ts.watch.Rest2tsWatcher;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Generates TypeScript code and regenerates it each time when classes in output directories of the project
+ * (and of other reactor modules on its classpath) are recompiled, runs until build is stopped
+ */
+@Mojo(name = "watch", requiresDependencyResolution = ResolutionScope.COMPILE)
+public class WatchMojo extends AbstractRest2tsMojo {
+
+    @Parameter(property = "rest2ts.quietPeriodMillis", defaultValue = "300")
+    private long quietPeriodMillis;
+
+    /**
+     * When enabled only modules with changed classes and modules which import them are converted in each cycle,
+     * could be used only when no extension adds elements to modules of other types
+     */
+    @Parameter(property = "rest2ts.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        List<Path> classesDirectories = new ArrayList<>();
+        List<URL> librariesUrls = new ArrayList<>();
+        try {
+            for (String classpathElement : getCompileClasspathElements()) {
+                File classpathFile = new File(classpathElement);
+                if (classpathFile.isDirectory()) {
+                    classesDirectories.add(Paths.get(classpathElement));
+                } else {
+                    librariesUrls.add(classpathFile.toURI().toURL());
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Invalid classpath", e);
+        }
+
+        try (URLClassLoader librariesClassLoader = new URLClassLoader(librariesUrls.toArray(new URL[0]), getClass().getClassLoader());
+             Rest2tsWatcher watcher = new Rest2tsWatcher(this::createGenerator, new LinkedHashSet<>(packages), outputDirectory.toPath(), classesDirectories)) {
+            watcher.setParentClassLoader(librariesClassLoader);
+            watcher.setQuietPeriodMillis(quietPeriodMillis);
+            watcher.setIncremental(incremental);
+            watcher.watch();
+        } catch (IOException e) {
+            throw new MojoExecutionException("Watching of " + classesDirectories + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.blueveery.springrest2ts.maven;
+
+import com.blueveery.springrest2ts.converters.JaxRsRestToTsConverter;
+import com.blueveery.springrest2ts.maven.model.ProductDTO;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GenerateMojoTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path classesDirectory;
+    private Path outputDirectory;
+    private Path fingerprintFile;
+
+    @Before
+    public void setUp() throws IOException {
+        classesDirectory = temporaryFolder.newFolder("classes").toPath();
+        outputDirectory = temporaryFolder.getRoot().toPath().resolve("ts");
+        fingerprintFile = temporaryFolder.getRoot().toPath().resolve("rest2ts/generate.fingerprint");
+        writeClass("com/example/base/BaseEntity.class", "base entity");
+    }
+
+    @Test
+    public void generationIsSkippedWhenInputsDidNotChange() throws Exception {
+        createMojo().execute();
+        Path generatedModule = findGeneratedModule();
+        assertThat(new String(Files.readAllBytes(generatedModule))).contains("export interface ProductDTO");
+        assertThat(fingerprintFile).exists();
+
+        Files.delete(generatedModule);
+        createMojo().execute();
+        assertThat(generatedModule).doesNotExist();
+
+        writeClass("com/example/base/BaseEntity.class", "base entity changed");
+        createMojo().execute();
+        assertThat(generatedModule).exists();
+    }
+
+    @Test
+    public void configurationChangeTriggersGeneration() throws Exception {
+        createMojo().execute();
+        Path generatedModule = findGeneratedModule();
+        Files.delete(generatedModule);
+
+        GenerateMojo mojo = createMojo();
+        setField(mojo, "modelClassesConverter", "classes");
+        mojo.execute();
+        assertThat(new String(Files.readAllBytes(generatedModule))).contains("export class ProductDTO");
+    }
+
+    @Test
+    public void restClassesConverterIsCreatedFromClassName() throws Exception {
+        FilterConfig restClasses = new FilterConfig();
+        restClasses.setNamePatterns(Collections.singletonList(".*Resource"));
+        GenerateMojo mojo = createMojo();
+        setField(mojo, "restClasses", restClasses);
+        setField(mojo, "restClassesConverter", JaxRsRestToTsConverter.class.getName());
+        mojo.execute();
+
+        StringBuilder generatedCode = new StringBuilder();
+        try (Stream<Path> paths = Files.list(outputDirectory)) {
+            for (Path module : (Iterable<Path>) paths::iterator) {
+                generatedCode.append(new String(Files.readAllBytes(module)));
+            }
+        }
+        assertThat(generatedCode.toString()).contains("export class ProductResource").contains("getProduct(name: string): Promise<ProductDTO>");
+    }
+
+    @Test
+    public void generationCouldBeForcedOrSkipped() throws Exception {
+        GenerateMojo skippedMojo = createMojo();
+        setField(skippedMojo, "skip", true);
+        skippedMojo.execute();
+        assertThat(outputDirectory).doesNotExist();
+        assertThat(fingerprintFile).doesNotExist();
+
+        createMojo().execute();
+        Path generatedModule = findGeneratedModule();
+        Files.delete(generatedModule);
+
+        GenerateMojo forcedMojo = createMojo();
+        setField(forcedMojo, "force", true);
+        forcedMojo.execute();
+        assertThat(generatedModule).exists();
+    }
+
+    private GenerateMojo createMojo() throws ReflectiveOperationException {
+        List<String> classpathElements = Collections.singletonList(classesDirectory.toString());
+        MavenProject project = new MavenProject() {
+            @Override
+            public List<String> getCompileClasspathElements() {
+                return classpathElements;
+            }
+        };
+        FilterConfig modelClasses = new FilterConfig();
+        modelClasses.setNamePatterns(Collections.singletonList(".*DTO"));
+
+        GenerateMojo mojo = new GenerateMojo();
+        setField(mojo, "project", project);
+        setField(mojo, "packages", Collections.singletonList(ProductDTO.class.getPackage().getName()));
+        setField(mojo, "outputDirectory", outputDirectory.toFile());
+        setField(mojo, "fingerprintFile", fingerprintFile.toFile());
+        setField(mojo, "modelClasses", modelClasses);
+        setField(mojo, "restClasses", new FilterConfig());
+        setField(mojo, "modelClassesConverter", "interfaces");
+        setField(mojo, "restClassesConverter", "spring");
+        setField(mojo, "implementationGenerator", "fetch");
+        return mojo;
+    }
+
+    private Path findGeneratedModule() throws IOException {
+        try (Stream<Path> paths = Files.list(outputDirectory)) {
+            return paths.filter(p -> p.toString().endsWith(".ts")).findFirst()
+                    .orElseThrow(() -> new AssertionError("No module was generated"));
+        }
+    }
+
+    private void writeClass(String path, String content) throws IOException {
+        Path classFile = classesDirectory.resolve(path);
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, content.getBytes());
+    }
+
+    private static void setField(Object mojo, String fieldName, Object value) throws ReflectiveOperationException {
+        for (Class<?> type = mojo.getClass(); type != Object.class; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(mojo, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // field is declared in superclass
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+}
@@ -0,0 +1,86 @@
+package com.blueveery.springrest2ts.maven;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GenerationFingerprintTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path classesDirectory;
+    private Path generatorJar;
+    private Path fingerprintFile;
+
+    @Before
+    public void setUp() throws IOException {
+        classesDirectory = temporaryFolder.newFolder("classes").toPath();
+        generatorJar = temporaryFolder.newFile("spring-rest2ts-generator.jar").toPath();
+        fingerprintFile = temporaryFolder.getRoot().toPath().resolve("rest2ts/generate.fingerprint");
+        writeClass("com/example/model/Product.class", "product");
+        writeClass("com/example/other/Other.class", "other");
+    }
+
+    @Test
+    public void unchangedInputsAreUpToDate() throws IOException {
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isEqualTo("no previous generation");
+        fingerprint("interfaces").store(fingerprintFile);
+
+        writeClass("com/example/model/Product.class", "product");
+        writeClass("com/example/other/Other.class", "other");
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isNull();
+    }
+
+    @Test
+    public void changesOfScannedClassesOrConfigurationAreDetected() throws IOException {
+        fingerprint("interfaces").store(fingerprintFile);
+
+        assertThat(fingerprint("classes").findChange(fingerprintFile)).isEqualTo("configuration changed");
+
+        writeClass("com/example/model/Product.class", "product changed");
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isEqualTo("input classes changed");
+
+        writeClass("com/example/model/Product.class", "product");
+        writeClass("com/example/model/dto/ProductDto.class", "product dto");
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isEqualTo("input classes changed");
+    }
+
+    @Test
+    public void changesOfClassesOutsideOfScannedPackagesAreDetected() throws IOException {
+        fingerprint("interfaces").store(fingerprintFile);
+
+        writeClass("com/example/other/Other.class", "other changed");
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isEqualTo("input classes changed");
+    }
+
+    @Test
+    public void updateOfGeneratorJarIsDetected() throws IOException {
+        fingerprint("interfaces").store(fingerprintFile);
+
+        Files.write(generatorJar, "new generator version".getBytes());
+        Files.setLastModifiedTime(generatorJar, FileTime.fromMillis(Files.getLastModifiedTime(generatorJar).toMillis() + 1000));
+        assertThat(fingerprint("interfaces").findChange(fingerprintFile)).isEqualTo("configuration changed");
+    }
+
+    private GenerationFingerprint fingerprint(String modelClassesConverter) throws IOException {
+        GenerationFingerprint fingerprint = new GenerationFingerprint();
+        fingerprint.addConfiguration("modelClassesConverter", modelClassesConverter);
+        fingerprint.addGeneratorClasspathElement(generatorJar);
+        fingerprint.addClasspathElement(classesDirectory);
+        return fingerprint;
+    }
+
+    private void writeClass(String path, String content) throws IOException {
+        Path classFile = classesDirectory.resolve(path);
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, content.getBytes());
+    }
+}
@@ -0,0 +1,6 @@
+package com.blueveery.springrest2ts.maven.model;
+
+public class ProductDTO {
+    public String name;
+    public int quantity;
+}
@@ -0,0 +1,15 @@
+package com.blueveery.springrest2ts.maven.model;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("products")
+public class ProductResource {
+
+    @GET
+    @Path("{name}")
+    public ProductDTO getProduct(@PathParam("name") String name) {
+        return null;
+    }
+}
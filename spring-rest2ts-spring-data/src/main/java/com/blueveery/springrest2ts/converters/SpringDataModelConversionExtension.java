@@ -1,9 +1,11 @@
 package com.blueveery.springrest2ts.converters;
 
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
+import com.blueveery.springrest2ts.extensions.ModelFunctionsUtility;
 import com.blueveery.springrest2ts.filters.JavaTypeFilter;
 import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
 import com.blueveery.springrest2ts.tsmodel.*;
+import com.blueveery.springrest2ts.tsmodel.generics.TSFormalTypeParameter;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +14,23 @@ import org.springframework.data.domain.Sort;
 
 import java.util.*;
 
+/**
+ * Scroll API types (Window, ScrollPosition, Limit) are available since spring data 3.1 so they are referenced by name
+ * and supported only when they are on the classpath
+ */
 public class SpringDataModelConversionExtension implements ModelConversionExtension {
+    static final String WINDOW_CLASS_NAME = "org.springframework.data.domain.Window";
+    static final String SCROLL_POSITION_CLASS_NAME = "org.springframework.data.domain.ScrollPosition";
+    static final String KEYSET_SCROLL_POSITION_CLASS_NAME = "org.springframework.data.domain.KeysetScrollPosition";
+    static final String OFFSET_SCROLL_POSITION_CLASS_NAME = "org.springframework.data.domain.OffsetScrollPosition";
+    static final String LIMIT_CLASS_NAME = "org.springframework.data.domain.Limit";
+    static final String ITERATE_PAGES_FUNCTION_NAME = "iteratePages";
+    static final List<String> SCROLL_POSITION_CLASS_NAMES = Arrays.asList(
+            SCROLL_POSITION_CLASS_NAME, KEYSET_SCROLL_POSITION_CLASS_NAME, OFFSET_SCROLL_POSITION_CLASS_NAME
+    );
+
+    private TSFunction iteratePagesFunction;
+
     public JavaTypeFilter getJavaTypeFilter() {
         Set<Class> springDataTypes = new HashSet<>();
         springDataTypes.add(Slice.class);
@@ -20,10 +38,27 @@ public class SpringDataModelConversionExtension implements ModelConversionExtens
         springDataTypes.add(Pageable.class);
         springDataTypes.add(Sort.class);
         springDataTypes.add(Sort.Order.class);
+        for (String className : Arrays.asList(
+                WINDOW_CLASS_NAME, SCROLL_POSITION_CLASS_NAME, KEYSET_SCROLL_POSITION_CLASS_NAME,
+                OFFSET_SCROLL_POSITION_CLASS_NAME, LIMIT_CLASS_NAME
+        )) {
+            Class springDataType = findClass(className);
+            if (springDataType != null) {
+                springDataTypes.add(springDataType);
+            }
+        }
         JavaTypeFilter springDataTypesFilter = new JavaTypeSetFilter(springDataTypes);
         return springDataTypesFilter;
     }
 
+    static Class findClass(String className) {
+        try {
+            return Class.forName(className, false, SpringDataModelConversionExtension.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
     @Override
     public Set<String> getAdditionalJavaPackages() {
         return Collections.singleton("org.springframework.data.domain");
@@ -65,6 +100,134 @@ public class SpringDataModelConversionExtension implements ModelConversionExtens
             }
 
         }
+        String javaTypeName = javaType.getName();
+        if (SCROLL_POSITION_CLASS_NAMES.contains(javaTypeName)) {
+            addScrollPositionFields(javaTypeName, (TSComplexElement) tsScopedElement);
+        }
+        if (LIMIT_CLASS_NAME.equals(javaTypeName)) {
+            TSComplexElement tsLimitInterface = (TSComplexElement) tsScopedElement;
+            for (TSField tsField : tsLimitInterface.getTsFields()) {
+                tsField.setOptional(true);
+            }
+            tsLimitInterface.addTsField(new TSField("max", tsLimitInterface, TypeMapper.tsNumber));
+        }
+        if (WINDOW_CLASS_NAME.equals(javaTypeName)) {
+            addNextKeysetPositionFunction((TSComplexElement) tsScopedElement);
+        }
+    }
+
+    /**
+     * Function which walks pages fetched by given callback, up to readAhead next pages are requested before
+     * current page is consumed, iteration stops on the last (or empty) page
+     */
+    TSFunction getOrCreateIteratePagesFunction() {
+        if (iteratePagesFunction == null) {
+            TSType tsPageable = TypeMapper.map(Pageable.class);
+            TSModule tsModule = ((TSScopedElement) ModelFunctionsUtility.referencedComplexElement(tsPageable)).getModule();
+            iteratePagesFunction = new TSFunction(
+                    ITERATE_PAGES_FUNCTION_NAME, tsModule, new TSSimpleType("AsyncIterable<T>"),
+                    (writer, tsFunction) -> writer.write(
+                            "    const toPromise = (result: any): Promise<any> => typeof result.then === 'function'\n"
+                                    + "        ? result\n"
+                                    + "        : new Promise((resolve, reject) => {\n"
+                                    + "            let value: any;\n"
+                                    + "            result.subscribe({next: (v: any) => value = v, error: reject, complete: () => resolve(value)});\n"
+                                    + "        });\n"
+                                    + "    return {\n"
+                                    + "        [Symbol.asyncIterator](): AsyncIterator<T> {\n"
+                                    + "            const pendingPages: Promise<any>[] = [];\n"
+                                    + "            let nextPageNumber = pageable.pageNumber;\n"
+                                    + "            let totalPages: number | undefined;\n"
+                                    + "            let finished = false;\n"
+                                    + "            let content: T[] = [];\n"
+                                    + "            let index = 0;\n"
+                                    + "            return {\n"
+                                    + "                next: async (): Promise<IteratorResult<T>> => {\n"
+                                    + "                    while (index >= content.length) {\n"
+                                    + "                        if (finished) {\n"
+                                    + "                            return {done: true, value: undefined};\n"
+                                    + "                        }\n"
+                                    + "                        while (pendingPages.length <= readAhead && (totalPages === undefined || nextPageNumber < totalPages)) {\n"
+                                    + "                            pendingPages.push(toPromise(fetchPage({...pageable, pageNumber: nextPageNumber++})));\n"
+                                    + "                        }\n"
+                                    + "                        const pendingPage = pendingPages.shift();\n"
+                                    + "                        if (pendingPage === undefined) {\n"
+                                    + "                            finished = true;\n"
+                                    + "                            continue;\n"
+                                    + "                        }\n"
+                                    + "                        const page = await pendingPage;\n"
+                                    + "                        if (page.totalPages !== undefined) {\n"
+                                    + "                            totalPages = page.totalPages;\n"
+                                    + "                        }\n"
+                                    + "                        content = page.content || [];\n"
+                                    + "                        index = 0;\n"
+                                    + "                        if (page.last || content.length === 0) {\n"
+                                    + "                            finished = true;\n"
+                                    + "                            pendingPages.splice(0).forEach(p => p.catch(() => undefined));\n"
+                                    + "                        }\n"
+                                    + "                    }\n"
+                                    + "                    return {done: false, value: content[index++]};\n"
+                                    + "                }\n"
+                                    + "            };\n"
+                                    + "        }\n"
+                                    + "    };"
+                    )
+            );
+            iteratePagesFunction.getTsTypeParameterList().add(new TSFormalTypeParameter("T"));
+            iteratePagesFunction.getParameterList().add(new TSParameter("pageable", tsPageable, null, null));
+            iteratePagesFunction.getParameterList().add(
+                    new TSParameter("fetchPage", new TSSimpleType("(pageable: " + tsPageable.getName() + ") => any"), null, null)
+            );
+            iteratePagesFunction.getParameterList().add(new TSParameter("readAhead", TypeMapper.tsNumber, null, null, "1"));
+            tsModule.addScopedElement(iteratePagesFunction);
+        }
+        return iteratePagesFunction;
+    }
+
+    private void addScrollPositionFields(String javaTypeName, TSComplexElement tsScrollPosition) {
+        for (TSField tsField : tsScrollPosition.getTsFields()) {
+            tsField.setReadOnly(false);
+            tsField.setOptional(true);
+        }
+        boolean isScrollPosition = SCROLL_POSITION_CLASS_NAME.equals(javaTypeName);
+        if (isScrollPosition || KEYSET_SCROLL_POSITION_CLASS_NAME.equals(javaTypeName)) {
+            replaceField(tsScrollPosition, "keys", new TSMap(TypeMapper.tsAny), !isScrollPosition);
+            TSUnion directionType = new TSUnion(new TSSimpleType("'FORWARD'"), new TSSimpleType("'BACKWARD'"));
+            replaceField(tsScrollPosition, "direction", directionType, false);
+        }
+        if (isScrollPosition || OFFSET_SCROLL_POSITION_CLASS_NAME.equals(javaTypeName)) {
+            replaceField(tsScrollPosition, "offset", TypeMapper.tsNumber, !isScrollPosition);
+        }
+    }
+
+    private void replaceField(TSComplexElement tsComplexElement, String name, TSType tsType, boolean required) {
+        tsComplexElement.getTsFields().removeIf(tsField -> name.equals(tsField.getName()));
+        TSField tsField = new TSField(name, tsComplexElement, tsType);
+        tsField.setOptional(!required);
+        tsComplexElement.addTsField(tsField);
+    }
+
+    private void addNextKeysetPositionFunction(TSComplexElement tsWindowInterface) {
+        TSModule tsModule = tsWindowInterface.getModule();
+        TSType keysetScrollPosition = TypeMapper.map(findClass(KEYSET_SCROLL_POSITION_CLASS_NAME));
+        TSFunction nextKeysetPosition = new TSFunction(
+                "nextKeysetPosition", tsModule, new TSUnion(keysetScrollPosition, TypeMapper.tsUndefined),
+                (writer, tsFunction) -> writer.write(
+                        "    if (window.last || window.content.length === 0) {\n"
+                                + "        return undefined;\n"
+                                + "    }\n"
+                                + "    const lastElement: any = window.content[window.content.length - 1];\n"
+                                + "    const positionKeys: { [key: string]: any } = {};\n"
+                                + "    for (const key of keys) {\n"
+                                + "        positionKeys[key as string] = lastElement[key];\n"
+                                + "    }\n"
+                                + "    return {keys: positionKeys, direction: 'FORWARD'};"
+                )
+        );
+        nextKeysetPosition.getTsTypeParameterList().add(new TSFormalTypeParameter("T"));
+        nextKeysetPosition.getParameterList().add(new TSParameter("window", new TSSimpleType(tsWindowInterface.getName() + "<T>"), null, null));
+        nextKeysetPosition.getParameterList().add(new TSParameter("...keys", new TSSimpleType("(keyof T)[]"), null, null));
+        tsModule.addScopedElement(nextKeysetPosition);
     }
 
     @Override
@@ -1,22 +1,56 @@
 package com.blueveery.springrest2ts.converters;
 
 import com.blueveery.springrest2ts.extensions.ModelConversionExtension;
+import com.blueveery.springrest2ts.extensions.QueryParamsAppender;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
+import com.blueveery.springrest2ts.extensions.ModelSerializerExtension;
+import com.blueveery.springrest2ts.implgens.EmptyImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
+import com.blueveery.springrest2ts.tsmodel.TSFunction;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
 import com.blueveery.springrest2ts.tsmodel.TSScopedElement;
+import com.blueveery.springrest2ts.tsmodel.TSSimpleType;
 import com.blueveery.springrest2ts.tsmodel.TSType;
 import com.blueveery.springrest2ts.tsmodel.generics.TSParameterizedTypeReference;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.blueveery.springrest2ts.converters.SpringDataModelConversionExtension.LIMIT_CLASS_NAME;
+import static com.blueveery.springrest2ts.converters.SpringDataModelConversionExtension.SCROLL_POSITION_CLASS_NAMES;
 
 public class SpringDataRestConversionExtension implements RestConversionExtension {
 
+    private static final String PAGE_ITERABLE_SUFFIX = "Iterable";
+    private static final String READ_AHEAD_PARAMETER_NAME = "readAhead";
+
     SpringDataModelConversionExtension modelConversionExtension = new SpringDataModelConversionExtension();
+    private final Map<TSComplexElement, List<TSMethod>> pagedMethodsMap = new IdentityHashMap<>();
+    private boolean generatePageIterables;
+
+    public boolean isGeneratePageIterables() {
+        return generatePageIterables;
+    }
+
+    /**
+     * When set, for REST methods which take Pageable and return Page or Slice there are generated
+     * methods with Iterable suffix returning AsyncIterable of page elements, by default they are not generated
+     */
+    public void setGeneratePageIterables(boolean generatePageIterables) {
+        this.generatePageIterables = generatePageIterables;
+    }
 
     @Override
     public ModelConversionExtension getModelConversionExtension() {
@@ -25,31 +59,113 @@ public class SpringDataRestConversionExtension implements RestConversionExtensio
 
     @Override
     public boolean isMappedRestParam(Class aClass) {
-        return aClass.isAssignableFrom(Pageable.class);
+        return aClass.isAssignableFrom(Pageable.class) || isScrollParam(aClass);
+    }
+
+    private boolean isScrollParam(Class aClass) {
+        return SCROLL_POSITION_CLASS_NAMES.contains(aClass.getName()) || LIMIT_CLASS_NAME.equals(aClass.getName());
     }
 
     @Override
     public boolean isMappedRestParam(TSParameter tsParameter) {
+        return getMappedRestParamClass(tsParameter) != null;
+    }
+
+    private Class getMappedRestParamClass(TSParameter tsParameter) {
         if (tsParameter.getType() instanceof TSParameterizedTypeReference<?>) {
             TSParameterizedTypeReference<?> typeReference = (TSParameterizedTypeReference<?>) tsParameter.getType();
             TSScopedElement tsScopedElement = (TSScopedElement) typeReference.getReferencedType();
             for (Class aClass : tsScopedElement.getMappedFromJavaTypeSet()) {
-                if (aClass.isAssignableFrom(Pageable.class)) {
-                   return true;
+                if (isMappedRestParam(aClass)) {
+                   return aClass;
                 }
             }
         }
-        return false;
+        return null;
     }
 
     @Override
     public void tsMethodCreated(Method method, TSMethod tsMethod) {
+        if (generatePageIterables && Slice.class.isAssignableFrom(method.getReturnType()) && findPageableParameter(tsMethod) != null) {
+            pagedMethodsMap.computeIfAbsent(tsMethod.getOwner(), o -> new ArrayList<>()).add(tsMethod);
+        }
+    }
+
+    @Override
+    public void tsScopedTypeCreated(Class javaType, TSScopedElement tsScopedElement) {
+        List<TSMethod> pagedMethods = pagedMethodsMap.remove(tsScopedElement);
+        if (pagedMethods != null) {
+            for (TSMethod pagedMethod : pagedMethods) {
+                addPageIterableMethod((TSClass) tsScopedElement, pagedMethod);
+            }
+        }
+    }
+
+    private TSParameter findPageableParameter(TSMethod tsMethod) {
+        for (TSParameter tsParameter : tsMethod.getParameterList()) {
+            Class mappedRestParamClass = getMappedRestParamClass(tsParameter);
+            if (mappedRestParamClass != null && mappedRestParamClass.isAssignableFrom(Pageable.class)) {
+                return tsParameter;
+            }
+        }
+        return null;
+    }
+
+    private void addPageIterableMethod(TSClass tsClass, TSMethod pagedMethod) {
+        TSType elementType = TypeMapper.tsAny;
+        if (pagedMethod.getType() instanceof TSParameterizedTypeReference<?>) {
+            List<TSType> typeParameters = ((TSParameterizedTypeReference<?>) pagedMethod.getType()).getTsTypeParameterList();
+            elementType = typeParameters.isEmpty() ? elementType : typeParameters.get(0);
+        }
+        TSFunction iteratePages = modelConversionExtension.getOrCreateIteratePagesFunction();
+        tsClass.getModule().scopedTypeUsage(iteratePages);
 
+        TSParameter pageableParameter = findPageableParameter(pagedMethod);
+        String readAheadParameterName = uniqueParameterName(pagedMethod, READ_AHEAD_PARAMETER_NAME);
+        PageIterableImplementationGenerator implementationGenerator = new PageIterableImplementationGenerator(
+                pagedMethod, pageableParameter, elementType, readAheadParameterName
+        );
+        TSMethod iterableMethod = new TSMethod(
+                pagedMethod.getName() + PAGE_ITERABLE_SUFFIX, tsClass, new TSSimpleType("AsyncIterable<" + elementType.getName() + ">"),
+                implementationGenerator, false, false
+        );
+        for (TSParameter tsParameter : pagedMethod.getParameterList()) {
+            TSParameter iterableParameter = new TSParameter(tsParameter.getName(), tsParameter.getType(), iterableMethod, implementationGenerator);
+            iterableParameter.setOptional(tsParameter != pageableParameter && tsParameter.isOptional());
+            iterableParameter.setNullable(tsParameter != pageableParameter && tsParameter.isNullable());
+            iterableMethod.getParameterList().add(iterableParameter);
+        }
+        iterableMethod.getParameterList().add(
+                new TSParameter(readAheadParameterName, TypeMapper.tsNumber, iterableMethod, implementationGenerator, "1")
+        );
+        tsClass.addTsMethod(iterableMethod);
+    }
+
+    private String uniqueParameterName(TSMethod tsMethod, String name) {
+        String uniqueName = name;
+        for (int i = 2; isParameterNameUsed(tsMethod, uniqueName); i++) {
+            uniqueName = name + i;
+        }
+        return uniqueName;
+    }
+
+    private boolean isParameterNameUsed(TSMethod tsMethod, String name) {
+        for (TSParameter tsParameter : tsMethod.getParameterList()) {
+            if (tsParameter.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public void tsParameterCreated(Parameter parameter, TSParameter tsParameter) {
-        if (isMappedRestParam(tsParameter)){
+        Class mappedRestParamClass = getMappedRestParamClass(tsParameter);
+        if (mappedRestParamClass != null && isScrollParam(mappedRestParamClass)) {
+            tsParameter.setOptional(true);
+            return;
+        }
+        if (mappedRestParamClass != null){
             tsParameter.setOptional(parameter.getAnnotation(PageableDefault.class) != null);
             TSType tsDirectionEnum = TypeMapper.map(Sort.Direction.class);
             tsParameter.getTsMethod().getOwner().addScopedTypeUsage(tsDirectionEnum);
@@ -59,6 +175,20 @@ public class SpringDataRestConversionExtension implements RestConversionExtensio
     @Override
     public String generateImplementation(TSParameter tsParameter, String pathParamsList, String queryParamsList, String headerParamsList) {
         String arrayAssignment = "%s.push({name: '%s', value: %s });\n";
+        Class mappedRestParamClass = getMappedRestParamClass(tsParameter);
+        if (mappedRestParamClass != null && isScrollParam(mappedRestParamClass)) {
+            return generateScrollImplementation(mappedRestParamClass, tsParameter.getName(), new QueryParamsAppender() {
+                @Override
+                public String append(String paramNameExpression, String valueExpression) {
+                    return queryParamsList + ".push({name: " + paramNameExpression + ", value: " + valueExpression + " });";
+                }
+
+                @Override
+                public String appendAll(String paramNameExpression, String valuesExpression) {
+                    return "for (const value of " + valuesExpression + ") {\n" + append(paramNameExpression, "value") + "\n}";
+                }
+            });
+        }
 
         String forOfTemplate = "for(const %s of %s) {\n%s\n}";
         StringBuilder code = new StringBuilder();
@@ -73,4 +203,86 @@ public class SpringDataRestConversionExtension implements RestConversionExtensio
 
         return String.format("\nif(%s) {\n%s\n}", tsParameter.getName(), code.toString());
     }
+
+    @Override
+    public String generateImplementation(TSParameter tsParameter, QueryParamsAppender queryParamsAppender) {
+        Class mappedRestParamClass = getMappedRestParamClass(tsParameter);
+        if (mappedRestParamClass != null && isScrollParam(mappedRestParamClass)) {
+            return generateScrollImplementation(mappedRestParamClass, tsParameter.getName(), queryParamsAppender);
+        }
+        String pageable = tsParameter.getName();
+        String sortOrders = pageable + ".sort.sortOrders";
+        String sortValue = "sortOrder => sortOrder.property + (sortOrder.direction === Direction.DESC ? ',DESC' : '')";
+        return "\n    if (" + pageable + ") {"
+                + "\n      " + queryParamsAppender.append("'page'", pageable + ".pageNumber + ''")
+                + "\n      " + queryParamsAppender.append("'size'", pageable + ".pageSize + ''")
+                + "\n      if (" + pageable + ".sort && " + sortOrders + ") {"
+                + "\n        " + queryParamsAppender.appendAll("'sort'", sortOrders + ".map(" + sortValue + ")")
+                + "\n      }"
+                + "\n    }";
+    }
+
+    /**
+     * Limit is sent as limit param, offset position as offset param and keyset position keys as keyset.{key} params
+     * with keysetDirection param for backward scrolling
+     */
+    protected String generateScrollImplementation(Class scrollParamClass, String parameterName, QueryParamsAppender queryParamsAppender) {
+        if (LIMIT_CLASS_NAME.equals(scrollParamClass.getName())) {
+            return "\n    if (" + parameterName + " && " + parameterName + ".max !== undefined) {"
+                    + "\n      " + queryParamsAppender.append("'limit'", parameterName + ".max + ''")
+                    + "\n    }";
+        }
+        String keys = parameterName + ".keys";
+        return "\n    if (" + parameterName + " && !" + parameterName + ".initial) {"
+                + "\n      if (" + parameterName + ".offset !== undefined) {"
+                + "\n        " + queryParamsAppender.append("'offset'", parameterName + ".offset + ''")
+                + "\n      }"
+                + "\n      if (" + keys + ") {"
+                + "\n        for (const key of Object.keys(" + keys + ")) {"
+                + "\n          " + queryParamsAppender.append("'keyset.' + key", keys + "[key] + ''")
+                + "\n        }"
+                + "\n      }"
+                + "\n      if (" + parameterName + ".direction === 'BACKWARD') {"
+                + "\n        " + queryParamsAppender.append("'keysetDirection'", "'BACKWARD'")
+                + "\n      }"
+                + "\n    }";
+    }
+
+    private static class PageIterableImplementationGenerator extends EmptyImplementationGenerator {
+        private final TSMethod pagedMethod;
+        private final TSParameter pageableParameter;
+        private final TSType elementType;
+        private final String readAheadParameterName;
+
+        PageIterableImplementationGenerator(
+                TSMethod pagedMethod, TSParameter pageableParameter, TSType elementType, String readAheadParameterName
+        ) {
+            this.pagedMethod = pagedMethod;
+            this.pageableParameter = pageableParameter;
+            this.elementType = elementType;
+            this.readAheadParameterName = readAheadParameterName;
+        }
+
+        @Override
+        public ModelSerializerExtension getSerializationExtension() {
+            return tsComplexElement -> {
+            };
+        }
+
+        @Override
+        public void write(BufferedWriter writer, TSMethod method) throws IOException {
+            List<String> arguments = new ArrayList<>();
+            for (boolean optional : new boolean[]{false, true}) {
+                for (TSParameter tsParameter : pagedMethod.getParameterList()) {
+                    if ((tsParameter.isOptional() || tsParameter.getDefaultValue() != null) == optional) {
+                        arguments.add(tsParameter.getName());
+                    }
+                }
+            }
+            String pageable = pageableParameter.getName();
+            writer.write("    return " + SpringDataModelConversionExtension.ITERATE_PAGES_FUNCTION_NAME + "<" + elementType.getName() + ">("
+                    + pageable + ", (" + pageable + ": " + pageableParameter.getType().getName() + ") => this."
+                    + pagedMethod.getName() + "(" + String.join(", ", arguments) + "), " + readAheadParameterName + ");");
+        }
+    }
 }
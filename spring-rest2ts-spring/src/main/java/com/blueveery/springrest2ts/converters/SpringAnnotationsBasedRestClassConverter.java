@@ -3,6 +3,7 @@ package com.blueveery.springrest2ts.converters;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
 import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
 import com.blueveery.springrest2ts.naming.ClassNameMapper;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ValueConstants;
 
 import java.lang.annotation.Annotation;
@@ -86,7 +88,7 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
 
             Type genericReturnType = handleImplementationSpecificReturnTypes(method);
             String methodName = mapMethodName(restMethodList, methodNamesMap,  method);
-            TSType methodReturnType = TypeMapper.map(genericReturnType, variableToJavaType);
+            TSType methodReturnType = mapMethodReturnType(method, genericReturnType, variableToJavaType);
             tsClass.getModule().scopedTypeUsage(methodReturnType);
             TSMethod tsMethod = new TSMethod(methodName, tsClass, methodReturnType, implementationGenerator, false, false);
             addMethodAnnotations(method, tsMethod);
@@ -119,6 +121,16 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
 
     protected abstract Type handleImplementationSpecificReturnTypes(Method method);
 
+    /**
+     * Maps return type of REST method (after handleImplementationSpecificReturnTypes) to the TS type of response payload.
+     * Subclasses may override it when the payload type can't be read from the java return type alone, for example
+     * when it depends on method annotations or parameters (asynchronous or streaming responses), returned type
+     * is registered as used in the module of REST class. Default implementation maps the type with TypeMapper
+     */
+    protected TSType mapMethodReturnType(Method method, Type returnType, Map<TypeVariable, Type> variableToJavaType) {
+        return TypeMapper.map(returnType, variableToJavaType);
+    }
+
     private Map<TypeVariable, Type> mapVariableToJavaType(Class javaClass, Class<?> declaringClass, Map<TypeVariable, Type> typeParametersMap) {
         for (Type type:javaClass.getGenericInterfaces()){
             if (type instanceof ParameterizedType) {
@@ -262,6 +274,11 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
                 tsParameter.setOptional(!requestBody.required());
                 return;
             }
+            if(annotation instanceof RequestPart) {
+                RequestPart requestPart = (RequestPart) annotation;
+                tsParameter.setOptional(!requestPart.required());
+                return;
+            }
        }
     }
 
@@ -276,6 +293,12 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
             if(annotation instanceof RequestBody) {
                 return true;
             }
+            if(annotation instanceof RequestPart) {
+                return true;
+            }
+        }
+        if (isFileType(tsParameter.getType())) {
+            return true;
         }
 
         if (tsParameter.getType() instanceof TSInterfaceReference) {
@@ -291,6 +314,10 @@ public abstract class SpringAnnotationsBasedRestClassConverter extends RestClass
         return false;
     }
 
+    private boolean isFileType(TSType tsType) {
+        return TypeMapper.isBlob(tsType) || tsType instanceof TSArray && TypeMapper.isBlob(((TSArray) tsType).getElementType());
+    }
+
     protected boolean isRestMethod(Method method) {
         if (method.isAnnotationPresent(RequestMapping.class)) {
             return true;
@@ -6,6 +6,7 @@ import com.blueveery.springrest2ts.spring.RequestMappingUtility;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -49,9 +50,25 @@ public class SpringRestToTsConverter extends SpringAnnotationsBasedRestClassConv
                 genericReturnType = parameterizedType.getActualTypeArguments()[findPathCommonPrefixIndex(null)];
             }
         }
+        if (genericReturnType == byte[].class && producesBinaryContent(method) && TypeMapper.isBlob(TypeMapper.map(Resource.class))) {
+            genericReturnType = Resource.class;
+        }
         return genericReturnType;
     }
 
+    protected boolean producesBinaryContent(Method method) {
+        RequestMapping requestMapping = getRequestMappingForMethod(method);
+        if (requestMapping == null || requestMapping.produces().length == 0) {
+            return false;
+        }
+        for (String mediaType : requestMapping.produces()) {
+            if (mediaType.contains("json") || mediaType.contains("xml") || mediaType.startsWith("text/")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected RequestMapping getRequestMappingForMethod(Method method) {
         return RequestMappingUtility.getRequestMapping(Arrays.asList (method.getDeclaredAnnotations()));
@@ -1,16 +1,18 @@
 package com.blueveery.springrest2ts.implgens;
 
-import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.extensions.QueryParamsAppender;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
 import com.blueveery.springrest2ts.tsmodel.TSDecorator;
 import com.blueveery.springrest2ts.tsmodel.TSField;
 import com.blueveery.springrest2ts.tsmodel.TSFunction;
+import com.blueveery.springrest2ts.tsmodel.TSInterface;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
 import com.blueveery.springrest2ts.tsmodel.TSType;
 import com.blueveery.springrest2ts.tsmodel.generics.TSClassReference;
+import com.blueveery.springrest2ts.tsmodel.generics.TSInterfaceReference;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.io.BufferedWriter;
@@ -18,7 +20,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.blueveery.springrest2ts.spring.RequestMappingUtility.getRequestMapping;
@@ -32,11 +36,15 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
     protected TSClass httpClass;
     protected TSClass httpParamsClass;
     protected TSClass httpHeadersClass;
+    protected TSInterface httpEventInterface;
+    protected TSInterface httpEventTypeEnum;
     protected TSClass urlServiceClass;
     protected TSClass mapOperatorClass;
     protected String[] implementationSpecificFieldNames;
 
     protected boolean useUrlService;
+    protected boolean reportDownloadProgress;
+    protected boolean reportUploadProgress;
 
     public Angular4ImplementationGenerator() {
         this(null);
@@ -56,6 +64,8 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
         httpClass = new TSClass("HttpClient", angularHttpModule, this);
         httpParamsClass = new TSClass("HttpParams", angularHttpModule, this);
         httpHeadersClass = new TSClass("HttpHeaders", angularHttpModule, this);
+        httpEventInterface = new TSInterface("HttpEvent", angularHttpModule);
+        httpEventTypeEnum = new TSInterface("HttpEventType", angularHttpModule);
 
         useUrlService = urlServicePath != null;
         if (useUrlService) {
@@ -67,6 +77,32 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
         }
     }
 
+    public boolean isReportDownloadProgress() {
+        return reportDownloadProgress;
+    }
+
+    /**
+     * binary downloads return Observable&lt;HttpEvent&lt;Blob&gt;&gt; which reports download progress
+     */
+    public void setReportDownloadProgress(boolean reportDownloadProgress) {
+        this.reportDownloadProgress = reportDownloadProgress;
+    }
+
+    public boolean isReportUploadProgress() {
+        return reportUploadProgress;
+    }
+
+    /**
+     * multipart uploads return Observable&lt;HttpEvent&lt;T&gt;&gt; which reports upload progress
+     */
+    public void setReportUploadProgress(boolean reportUploadProgress) {
+        this.reportUploadProgress = reportUploadProgress;
+    }
+
+    protected boolean isObservingEvents(TSMethod method) {
+        return reportDownloadProgress && isBinaryDownload(method) || reportUploadProgress && isMultipartRequest(method);
+    }
+
     @Override
     protected String[] getImplementationSpecificFieldNames() {
         return implementationSpecificFieldNames;
@@ -92,17 +128,24 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
             StringBuilder pathStringBuilder = new StringBuilder(tsPath);
             StringBuilder requestBodyBuilder = new StringBuilder();
             StringBuilder requestParamsBuilder = new StringBuilder();
+            StringBuilder formDataBuilder = new StringBuilder();
 
-            assignMethodParameters(method, requestParamsVar, pathStringBuilder, requestBodyBuilder, requestParamsBuilder);
+            assignMethodParameters(
+                    method, requestParamsVar, pathStringBuilder, requestBodyBuilder, requestParamsBuilder, formDataBuilder
+            );
 
             boolean isRequestBodyDefined = !isStringBuilderEmpty(requestBodyBuilder);
             boolean isRequestParamDefined = !isStringBuilderEmpty(requestParamsBuilder);
+            boolean isMultipartRequest = !isStringBuilderEmpty(formDataBuilder);
             writer.write(requestParamsBuilder.toString());
+            writer.write(formDataBuilder.toString());
 
             boolean isJsonParsingRequired = isJsonTransformationRequired(method.getType());
-            String contentTypeHeader = getContentTypeHeaderFromRequestMapping(httpMethod, methodRequestMapping, isRequestBodyDefined);
-            boolean isRequestHeaderDefined = !contentTypeHeader.isEmpty();
-            writeRequestOption(writer, requestHeadersVar, contentTypeHeader, isRequestHeaderDefined);
+            String requestHeaders = getRequestHeaders(
+                    httpMethod, methodRequestMapping, isRequestBodyDefined && !isMultipartRequest, isBinaryResponse(method)
+            );
+            boolean isRequestHeaderDefined = !requestHeaders.isEmpty();
+            writeRequestOption(writer, requestHeadersVar, requestHeaders, isRequestHeaderDefined);
 
             String requestOptions = "";
             String requestBody = requestBodyBuilder.toString();
@@ -114,7 +157,10 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
                     requestBody, isRequestBodyDefined, requestOptions, httpMethod, isJsonSerializationRequired,
                     methodRequestMapping.consumes(), requestBodyParam
             );
-            requestOptions = composeRequestOptions(requestHeadersVar, requestParamsVar, isRequestParamDefined, isRequestHeaderDefined, requestOptions, isJsonParsingRequired);
+            requestOptions = composeRequestOptions(
+                    requestHeadersVar, requestParamsVar, isRequestParamDefined, isRequestHeaderDefined, requestOptions,
+                    getResponseOptions(method, isJsonParsingRequired)
+            );
 
             tsPath = pathStringBuilder.toString();
             writeReturnStatement(writer, httpMethod.toLowerCase(), method, tsPath, requestOptions, isJsonParsingRequired);
@@ -130,6 +176,11 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
     }
 
     protected String getParseResponseFunction(boolean isJsonResponse, TSMethod method) {
+        if (isJsonResponse && isObservingEvents(method)) {
+            String parseFunction = modelSerializerExtension.generateDeserializationCode("event.body", method);
+            return ".pipe(map(event => event.type === HttpEventType.Response ? event.clone({body: " + parseFunction
+                    + "}) : event as HttpEvent<any>))";
+        }
         if (isJsonResponse) {
             String parseFunction = modelSerializerExtension.generateDeserializationCode("res", method);
             return ".pipe(map(res => " + parseFunction + "))";
@@ -138,31 +189,56 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
     }
 
     protected String getGenericType(TSMethod method, boolean isRequestOptionRequired) {
-        return isRequestOptionRequired ? "" : "<" + method.getType().getName() + ">";
+        return isRequestOptionRequired || isBinaryDownload(method) ? "" : "<" + method.getType().getName() + ">";
     }
 
 
-    protected void initializeHttpParams(StringBuilder requestParamsBuilder, String requestParamsVar) {
-        requestParamsBuilder
-                .append("    let ")
-                .append(requestParamsVar)
-                .append(" = new HttpParams();");
+    @Override
+    protected QueryParamsAppender createQueryParamsAppender(String requestParamsVar) {
+        return new QueryParamsAppender() {
+            @Override
+            public String append(String paramNameExpression, String valueExpression) {
+                // HttpParams is immutable, append returns new instance
+                return requestParamsVar + " = " + requestParamsVar + ".append(" + paramNameExpression + ", " + valueExpression + ");";
+            }
+
+            @Override
+            public String appendAll(String paramNameExpression, String valuesExpression) {
+                return "for (const queryParamValue of " + valuesExpression + ") {\n      "
+                        + append(paramNameExpression, "queryParamValue") + "\n    }";
+            }
+        };
     }
 
-    @Override
-    protected void addRequestParameter(StringBuilder requestParamsBuilder, String requestParamsVar, String queryParamVar) {
-        requestParamsBuilder
-                .append("\n      ")
-                .append(requestParamsVar)
-                .append(" = ")
-                .append(requestParamsVar)
-                .append(".append(").append(queryParamVar).append(".name")
-                .append(", ").append(queryParamVar).append(".value")
-                .append(");");
+    protected String concatValues(String... valueExpressions) {
+        return "([] as string[]).concat(" + String.join(", ", valueExpressions) + ")";
     }
 
-    protected boolean isJsonTransformationRequired(TSType type) {
-        return type != TypeMapper.tsNumber && type != TypeMapper.tsBoolean && type != TypeMapper.tsString && type != TypeMapper.tsVoid;
+    @Override
+    protected void writeQueryParams(
+            StringBuilder requestParamsBuilder, String requestParamsVar, List<Map.Entry<String, String>> requiredQueryParams,
+            StringBuilder optionalQueryParamsBuilder
+    ) {
+        // values of repeated param names are accumulated in array, HttpParams sends each of them
+        Map<String, List<String>> requiredQueryParamsValues = new LinkedHashMap<>();
+        for (Map.Entry<String, String> queryParam : requiredQueryParams) {
+            requiredQueryParamsValues.computeIfAbsent(queryParam.getKey(), k -> new ArrayList<>()).add(queryParam.getValue());
+        }
+        List<String> requiredQueryParamsList = new ArrayList<>();
+        for (Map.Entry<String, List<String>> queryParam : requiredQueryParamsValues.entrySet()) {
+            List<String> values = queryParam.getValue();
+            String value = values.size() == 1 ? values.get(0) : concatValues(values.toArray(new String[0]));
+            requiredQueryParamsList.add("'" + queryParam.getKey() + "': " + value);
+        }
+        String queryParamsLiteral = "{" + String.join(", ", requiredQueryParamsList) + "}";
+        if (isStringBuilderEmpty(optionalQueryParamsBuilder)) {
+            requestParamsBuilder.append(String.format("    const %s = new HttpParams({fromObject: %s});\n", requestParamsVar, queryParamsLiteral));
+        } else {
+            requestParamsBuilder
+                    .append(String.format("    let %s = new HttpParams({fromObject: %s});", requestParamsVar, queryParamsLiteral))
+                    .append(optionalQueryParamsBuilder)
+                    .append("\n");
+        }
     }
 
     protected void writeRequestOption(
@@ -180,7 +256,7 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
     ) {
         if (bodyIsAllowedInRequest(httpMethod)) {
             if (isRequestBodyDefined) {
-                requestOptions = appendRequestBodyPart(requestBody, requestOptions, isJsonParsingRequired, consumes, requestBodyParam.get());
+                requestOptions = appendRequestBodyPart(requestBody, requestOptions, isJsonParsingRequired, consumes, requestBodyParam.orElse(null));
             } else {
                 requestOptions += ", null ";
             }
@@ -199,11 +275,25 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
         return requestOptions;
     }
 
+    protected List<String> getResponseOptions(TSMethod method, boolean isJsonParsingRequired) {
+        List<String> responseOptions = new ArrayList<>();
+        if (isJsonParsingRequired) {
+            responseOptions.add(modelSerializerExtension.isBinary() ? "responseType: 'arraybuffer'" : "responseType: 'text'");
+        } else if (isBinaryDownload(method)) {
+            responseOptions.add("responseType: 'blob'");
+        }
+        if (isObservingEvents(method)) {
+            responseOptions.add("observe: 'events'");
+            responseOptions.add("reportProgress: true");
+        }
+        return responseOptions;
+    }
+
     protected String composeRequestOptions(
             String requestHeadersVar, String requestParamsVar, boolean isRequestParamDefined,
-            boolean isRequestHeaderDefined, String requestOptions, boolean isJsonParsingRequired
+            boolean isRequestHeaderDefined, String requestOptions, List<String> responseOptions
     ) {
-        if (isRequestHeaderDefined || isRequestParamDefined || isJsonParsingRequired) {
+        if (isRequestHeaderDefined || isRequestParamDefined || !responseOptions.isEmpty()) {
             List<String> requestOptionsList = new ArrayList<>();
             if (isRequestHeaderDefined) {
                 requestOptionsList.add(requestHeadersVar);
@@ -211,9 +301,7 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
             if (isRequestParamDefined) {
                 requestOptionsList.add(requestParamsVar);
             }
-            if (isJsonParsingRequired) {
-                requestOptionsList.add("responseType: 'text'");
-            }
+            requestOptionsList.addAll(responseOptions);
             requestOptions += ", {";
             requestOptions += String.join(", ", requestOptionsList);
             requestOptions += "}";
@@ -221,19 +309,29 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
         return requestOptions;
     }
 
-    protected String getContentTypeHeaderFromRequestMapping(
-            String httpMethod, RequestMapping requestMapping, boolean isRequestBodyDefined
+    protected String getRequestHeaders(
+            String httpMethod, RequestMapping requestMapping, boolean isRequestBodyDefined, boolean isBinaryResponse
     ) {
+        StringBuilder headersBuilder = new StringBuilder();
         if (bodyIsAllowedInRequest(httpMethod) && isRequestBodyDefined) {
             String contentType = getContentType(requestMapping.consumes());
-            return "new HttpHeaders().set('Content-type'," + " '" + contentType + "');";
+            headersBuilder.append(".set('Content-type', '").append(contentType).append("')");
         }
-        return "";
+        if (isBinaryResponse) {
+            headersBuilder.append(".set('Accept', '").append(modelSerializerExtension.getMediaType()).append("')");
+        }
+        if (isStringBuilderEmpty(headersBuilder)) {
+            return "";
+        }
+        return "new HttpHeaders()" + headersBuilder + ";";
     }
 
     @Override
     public TSType mapReturnType(TSMethod tsMethod, TSType tsType) {
         if (isRestClass(tsMethod.getOwner())) {
+            if (isObservingEvents(tsMethod)) {
+                return new TSClassReference(observableClass, new TSInterfaceReference(httpEventInterface, tsType));
+            }
             return new TSClassReference(observableClass, tsType);
         }
         return tsType;
@@ -273,6 +371,12 @@ public class Angular4ImplementationGenerator extends BaseImplementationGenerator
         tsClass.addScopedTypeUsage(httpHeadersClass);
         tsClass.addScopedTypeUsage(injectableDecorator.getTsFunction());
         tsClass.addScopedTypeUsage(mapOperatorClass);
+        if (tsClass.getTsMethods().stream().anyMatch(this::isObservingEvents)) {
+            tsClass.addScopedTypeUsage(httpEventInterface);
+        }
+        if (tsClass.getTsMethods().stream().anyMatch(m -> isObservingEvents(m) && isJsonTransformationRequired(m.getType()))) {
+            tsClass.addScopedTypeUsage(httpEventTypeEnum);
+        }
         if (useUrlService) {
             tsClass.addScopedTypeUsage(urlServiceClass);
         }
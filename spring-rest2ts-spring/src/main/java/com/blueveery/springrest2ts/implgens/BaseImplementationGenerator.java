@@ -3,25 +3,32 @@ package com.blueveery.springrest2ts.implgens;
 import com.blueveery.springrest2ts.converters.TypeMapper;
 import com.blueveery.springrest2ts.extensions.ConversionExtension;
 import com.blueveery.springrest2ts.extensions.ModelSerializerExtension;
+import com.blueveery.springrest2ts.extensions.QueryParamsAppender;
 import com.blueveery.springrest2ts.extensions.RestConversionExtension;
 import com.blueveery.springrest2ts.extensions.StandardJsonSerializerExtension;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSParameter;
+import com.blueveery.springrest2ts.tsmodel.TSType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public abstract class BaseImplementationGenerator implements ImplementationGenerator {
+    protected static final String FORM_DATA_VAR = "formData";
 
-    protected static final String JSON_CONTENT_TYPE = "application/json";
     protected List<? extends ConversionExtension> extensionSet;
 
     protected ModelSerializerExtension modelSerializerExtension = new StandardJsonSerializerExtension();
@@ -37,9 +44,16 @@ public abstract class BaseImplementationGenerator implements ImplementationGener
                 .collect(Collectors.toList());
     }
 
-    protected abstract void initializeHttpParams(StringBuilder requestParamsBuilder, String requestParamsVar);
+    protected abstract QueryParamsAppender createQueryParamsAppender(String requestParamsVar);
 
-    protected abstract void addRequestParameter(StringBuilder requestParamsBuilder, String requestParamsVar, String queryParamVar);
+    /**
+     * required query params are passed as (name, value) pairs in declaration order, the same name could occur
+     * more than once and all its values have to be sent
+     */
+    protected abstract void writeQueryParams(
+            StringBuilder requestParamsBuilder, String requestParamsVar, List<Map.Entry<String, String>> requiredQueryParams,
+            StringBuilder optionalQueryParamsBuilder
+    );
 
     protected abstract String[] getImplementationSpecificFieldNames();
 
@@ -114,12 +128,28 @@ public abstract class BaseImplementationGenerator implements ImplementationGener
             TSMethod method, String requestParamsVar, StringBuilder pathStringBuilder,
             StringBuilder requestBodyBuilder, StringBuilder requestParamsBuilder
     ) {
-        StringBuilder queryParamsListBuilder = new StringBuilder();
-        String queryParamsListVar = "queryParamsList";
+        assignMethodParameters(method, requestParamsVar, pathStringBuilder, requestBodyBuilder, requestParamsBuilder, new StringBuilder());
+    }
+
+    protected void assignMethodParameters(
+            TSMethod method, String requestParamsVar, StringBuilder pathStringBuilder,
+            StringBuilder requestBodyBuilder, StringBuilder requestParamsBuilder, StringBuilder formDataBuilder
+    ) {
+        List<Map.Entry<String, String>> requiredQueryParams = new ArrayList<>();
+        StringBuilder optionalQueryParamsBuilder = new StringBuilder();
+        QueryParamsAppender queryParamsAppender = createQueryParamsAppender(requestParamsVar);
 
         for (TSParameter tsParameter : method.getParameterList()) {
             String tsParameterName = tsParameter.getName();
 
+            if (isMultipartParameter(tsParameter)) {
+                if (isStringBuilderEmpty(formDataBuilder)) {
+                    formDataBuilder.append("    const ").append(FORM_DATA_VAR).append(" = new FormData();\n");
+                    requestBodyBuilder.append(FORM_DATA_VAR);
+                }
+                appendFormDataPart(formDataBuilder, tsParameter);
+                continue;
+            }
             if (tsParameter.findAnnotation(RequestBody.class) != null) {
                 requestBodyBuilder.append(tsParameterName);
                 continue;
@@ -134,39 +164,96 @@ public abstract class BaseImplementationGenerator implements ImplementationGener
                 String requestParamName = getRequestParamName(tsParameter, requestParam);
                 boolean isNullableType = tsParameter.isNullable();
                 if (tsParameter.isOptional() || isNullableType) {
-                    queryParamsListBuilder
+                    optionalQueryParamsBuilder
                             .append("\n")
                             .append("    if (")
                             .append(tsParameterName)
                             .append(" !== undefined && ")
                             .append(tsParameterName)
-                            .append(" !== null) {\n");
-                    queryParamsListBuilder.append(String.format("      %s.push({name: '%s', value: %s});\n", queryParamsListVar, requestParamName, callToStringOnParameterIfRequired(tsParameter)));
-                    queryParamsListBuilder.append("    }\n");
+                            .append(" !== null) {\n      ")
+                            .append(queryParamsAppender.append("'" + requestParamName + "'", callToStringOnParameterIfRequired(tsParameter)))
+                            .append("\n    }");
                 } else {
-                    queryParamsListBuilder.append(String.format("\n    %s.push({name: '%s', value: %s});\n  ", queryParamsListVar, requestParamName, callToStringOnParameterIfRequired(tsParameter)));
+                    requiredQueryParams.add(new AbstractMap.SimpleEntry<>(requestParamName, callToStringOnParameterIfRequired(tsParameter)));
                 }
             }
             for (ConversionExtension conversionExtension : extensionSet) {
                 RestConversionExtension restConversionExtension = (RestConversionExtension) conversionExtension;
                 if (restConversionExtension.isMappedRestParam(tsParameter)) {
-                    queryParamsListBuilder.append(restConversionExtension.generateImplementation(tsParameter, "pathParamsList", queryParamsListVar, "headerParamsList"));
+                    optionalQueryParamsBuilder.append(restConversionExtension.generateImplementation(tsParameter, queryParamsAppender));
                 }
             }
         }
-        if (!isStringBuilderEmpty(queryParamsListBuilder)) {
-            fillUpRequestParamsBuilder(requestParamsVar, requestParamsBuilder, queryParamsListBuilder, queryParamsListVar);
+        if (!requiredQueryParams.isEmpty() || !isStringBuilderEmpty(optionalQueryParamsBuilder)) {
+            writeQueryParams(requestParamsBuilder, requestParamsVar, requiredQueryParams, optionalQueryParamsBuilder);
+        }
+    }
+
+    protected boolean isMultipartParameter(TSParameter tsParameter) {
+        if (tsParameter.findAnnotation(RequestPart.class) != null) {
+            return true;
+        }
+        if (tsParameter.findAnnotation(RequestBody.class) != null || tsParameter.findAnnotation(PathVariable.class) != null) {
+            return false;
+        }
+        TSType tsType = tsParameter.getType();
+        return TypeMapper.isBlob(tsType) || tsType instanceof TSArray && TypeMapper.isBlob(((TSArray) tsType).getElementType());
+    }
+
+    protected boolean isMultipartRequest(TSMethod method) {
+        return method.getParameterList().stream().anyMatch(this::isMultipartParameter);
+    }
+
+    protected String getPartName(TSParameter tsParameter) {
+        RequestPart requestPart = tsParameter.findAnnotation(RequestPart.class);
+        if (requestPart != null) {
+            String partName = "".equals(requestPart.value()) ? requestPart.name() : requestPart.value();
+            return "".equals(partName) ? tsParameter.getName() : partName;
+        }
+        RequestParam requestParam = tsParameter.findAnnotation(RequestParam.class);
+        if (requestParam != null) {
+            return getRequestParamName(tsParameter, requestParam);
         }
+        return tsParameter.getName();
     }
 
-    private void fillUpRequestParamsBuilder(String requestParamsVar, StringBuilder requestParamsBuilder, StringBuilder queryParamsListBuilder, String queryParamsListVar) {
-        queryParamsListBuilder.insert(0, "    const " + queryParamsListVar + ": { name: string, value: string }[] = [];");
-        requestParamsBuilder.append(queryParamsListBuilder);
-        initializeHttpParams(requestParamsBuilder, requestParamsVar);
-        String queryParamVar = "queryParam";
-        requestParamsBuilder.append(String.format("\n    for (const %s of %s) {", queryParamVar, queryParamsListVar));
-        addRequestParameter(requestParamsBuilder, requestParamsVar, queryParamVar);
-        requestParamsBuilder.append("\n    }\n");
+    /**
+     * Blobs and files are appended to FormData as they are, so they are not copied, other values are sent
+     * as parts with content type of model serializer
+     */
+    protected void appendFormDataPart(StringBuilder formDataBuilder, TSParameter tsParameter) {
+        String partName = "'" + getPartName(tsParameter) + "'";
+        String tsParameterName = tsParameter.getName();
+        TSType tsType = tsParameter.getType();
+        String appendPart;
+        if (tsType instanceof TSArray && TypeMapper.isBlob(((TSArray) tsType).getElementType())) {
+            appendPart = "for (const part of " + tsParameterName + ") {\n      "
+                    + FORM_DATA_VAR + ".append(" + partName + ", part);\n    }";
+        } else {
+            appendPart = FORM_DATA_VAR + ".append(" + partName + ", " + getPartValue(tsParameter) + ");";
+        }
+        if (tsParameter.isOptional() || tsParameter.isNullable()) {
+            formDataBuilder
+                    .append("    if (").append(tsParameterName).append(" !== undefined && ")
+                    .append(tsParameterName).append(" !== null) {\n      ")
+                    .append(appendPart.replace("\n", "\n  "))
+                    .append("\n    }\n");
+        } else {
+            formDataBuilder.append("    ").append(appendPart).append("\n");
+        }
+    }
+
+    protected String getPartValue(TSParameter tsParameter) {
+        TSType tsType = tsParameter.getType();
+        String tsParameterName = tsParameter.getName();
+        if (TypeMapper.isBlob(tsType) || tsType == TypeMapper.tsString) {
+            return tsParameterName;
+        }
+        if (tsType == TypeMapper.tsNumber || tsType == TypeMapper.tsBoolean) {
+            return tsParameterName + ".toString()";
+        }
+        String serializedPart = modelSerializerExtension.generateSerializationCode(tsParameterName, tsParameter);
+        return "new Blob([" + serializedPart + "], {type: '" + modelSerializerExtension.getMediaType() + "'})";
     }
 
     private String getRequestParamName(TSParameter tsParameter, RequestParam requestParam) {
@@ -199,10 +286,23 @@ public abstract class BaseImplementationGenerator implements ImplementationGener
         if (contentTypes.length > 0) {
             return contentTypes[0];
         } else {
-            return JSON_CONTENT_TYPE;
+            return modelSerializerExtension.getMediaType();
         }
     }
 
+    protected boolean isJsonTransformationRequired(TSType type) {
+        return type != TypeMapper.tsNumber && type != TypeMapper.tsBoolean && type != TypeMapper.tsString && type != TypeMapper.tsVoid
+                && !TypeMapper.isBlob(type);
+    }
+
+    protected boolean isBinaryDownload(TSMethod method) {
+        return TypeMapper.isBlob(method.getType());
+    }
+
+    protected boolean isBinaryResponse(TSMethod method) {
+        return modelSerializerExtension.isBinary() && isJsonTransformationRequired(method.getType());
+    }
+
     protected boolean isRestClass(TSComplexElement tsComplexType) {
         return tsComplexType.findAnnotation(RequestMapping.class) != null;
     }
@@ -2,6 +2,7 @@ package com.blueveery.springrest2ts.implgens;
 
 import com.blueveery.springrest2ts.converters.TypeMapper;
 import com.blueveery.springrest2ts.extensions.ModelSerializerExtension;
+import com.blueveery.springrest2ts.extensions.QueryParamsAppender;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSComplexElement;
 import com.blueveery.springrest2ts.tsmodel.TSDecorator;
@@ -18,6 +19,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.blueveery.springrest2ts.spring.RequestMappingUtility.getRequestMapping;
@@ -25,11 +27,15 @@ import static com.blueveery.springrest2ts.spring.RequestMappingUtility.getReques
 public class FetchBasedImplementationGenerator extends BaseImplementationGenerator {
 
     protected boolean useAsync;
+    protected boolean useResponseJson;
+    protected boolean streamBinaryResponses;
     protected final String baseURLFieldName = "baseURL";
     protected final String[] implementationSpecificFieldsSet = {baseURLFieldName};
     protected final TSInterface baseUrlTsFieldType = new TSInterface("URL", TypeMapper.systemModule);
     protected final TSInterface promiseInterface = new TSInterface("Promise", TypeMapper.systemModule);
     protected final TSInterface responseInterface = new TSInterface("Response", TypeMapper.systemModule);
+    protected final TSInterface readableStreamInterface = new TSInterface("ReadableStream", TypeMapper.systemModule);
+    protected final TSInterface uint8ArrayInterface = new TSInterface("Uint8Array", TypeMapper.systemModule);
 
     public FetchBasedImplementationGenerator() {
     }
@@ -38,6 +44,26 @@ public class FetchBasedImplementationGenerator extends BaseImplementationGenerat
         this.useAsync = useAsync;
     }
 
+    public boolean isUseResponseJson() {
+        return useResponseJson;
+    }
+
+    public void setUseResponseJson(boolean useResponseJson) {
+        this.useResponseJson = useResponseJson;
+    }
+
+    public boolean isStreamBinaryResponses() {
+        return streamBinaryResponses;
+    }
+
+    /**
+     * binary downloads are returned as ReadableStream&lt;Uint8Array&gt; instead of Blob,
+     * so they could be written to disk without buffering whole response in memory
+     */
+    public void setStreamBinaryResponses(boolean streamBinaryResponses) {
+        this.streamBinaryResponses = streamBinaryResponses;
+    }
+
     @Override
     protected String[] getImplementationSpecificFieldNames() {
         return implementationSpecificFieldsSet;
@@ -62,8 +88,11 @@ public class FetchBasedImplementationGenerator extends BaseImplementationGenerat
             StringBuilder pathStringBuilder = new StringBuilder(tsPath);
             StringBuilder requestBodyBuilder = new StringBuilder();
             StringBuilder requestParamsBuilder = new StringBuilder();
+            StringBuilder formDataBuilder = new StringBuilder();
 
-            assignMethodParameters(method, requestParamsVar, pathStringBuilder, requestBodyBuilder, requestParamsBuilder);
+            assignMethodParameters(
+                    method, requestParamsVar, pathStringBuilder, requestBodyBuilder, requestParamsBuilder, formDataBuilder
+            );
             writeRequestUrl(writer, requestUrlVar, pathStringBuilder);
 
             boolean isRequestBodyDefined = !isStringBuilderEmpty(requestBodyBuilder);
@@ -73,10 +102,12 @@ public class FetchBasedImplementationGenerator extends BaseImplementationGenerat
 
             writer.write(requestParamsBuilder.toString());
             writer.newLine();
+            writer.write(formDataBuilder.toString());
             List<TSParameter> requestBodyParams = findRequestBodyParam(method);
             Optional<TSParameter> requestBodyParam = requestBodyParams.stream().findFirst();
             String requestOptions = composeRequestOptions(
-                    requestBodyVar, isRequestBodyDefined, httpMethod, methodRequestMapping.consumes(), requestBodyParam
+                    requestBodyVar, isRequestBodyDefined, httpMethod, methodRequestMapping.consumes(), requestBodyParam,
+                    isBinaryResponse(method)
             );
 
             writer.write(
@@ -109,49 +140,95 @@ public class FetchBasedImplementationGenerator extends BaseImplementationGenerat
             parseFunction = "res.text()";
         } else if (actualType == TypeMapper.tsVoid) {
             return "";
+        } else if (TypeMapper.isBlob(actualType)) {
+            if (streamBinaryResponses) {
+                return ".then(res => res.body as ReadableStream<Uint8Array>)";
+            }
+            return ".then(res => res.blob())";
         } else {
             ModelSerializerExtension modelSerializerExtension = this.modelSerializerExtension;
+            if (modelSerializerExtension.isBinary()) {
+                parseFunction = modelSerializerExtension.generateDeserializationCode("res", method);
+                return ".then(res => res.arrayBuffer()).then(res =>  " + parseFunction + ")";
+            }
+            if (useResponseJson && modelSerializerExtension.isParsedObjectDeserializationSupported()) {
+                return getParsedContentFromResponseFunction(method);
+            }
             parseFunction = modelSerializerExtension.generateDeserializationCode("res", method);
             return ".then(res => res.text()).then(res =>  " + parseFunction + ")";
         }
         return ".then(res =>  " + parseFunction + ")";
     }
 
-    protected void initializeHttpParams(StringBuilder requestParamsBuilder, String requestParamsVar) {
+    protected String getParsedContentFromResponseFunction(TSMethod method) {
+        String mappingFunction = modelSerializerExtension.generateDeserializationCodeFromParsedObject("res", method);
+        if ("res".equals(mappingFunction)) {
+            return ".then(res => res.json())";
+        }
+        return ".then(res => res.json()).then(res =>  " + mappingFunction + ")";
+    }
+
+    @Override
+    protected QueryParamsAppender createQueryParamsAppender(String requestParamsVar) {
+        return new QueryParamsAppender() {
+            @Override
+            public String append(String paramNameExpression, String valueExpression) {
+                return requestParamsVar + ".append(" + paramNameExpression + ", " + valueExpression + ");";
+            }
 
+            @Override
+            public String appendAll(String paramNameExpression, String valuesExpression) {
+                return "for (const queryParamValue of " + valuesExpression + ") {\n      "
+                        + append(paramNameExpression, "queryParamValue") + "\n    }";
+            }
+        };
     }
 
     @Override
-    protected void addRequestParameter(StringBuilder requestParamsBuilder, String requestParamsVar, String queryParamVar) {
-        requestParamsBuilder
-                .append("\n")
-                .append(requestParamsVar)
-                .append(".append(").append(queryParamVar).append(".name")
-                .append(",").append(queryParamVar).append(".value")
-                .append(");");
+    protected void writeQueryParams(
+            StringBuilder requestParamsBuilder, String requestParamsVar, List<Map.Entry<String, String>> requiredQueryParams,
+            StringBuilder optionalQueryParamsBuilder
+    ) {
+        QueryParamsAppender queryParamsAppender = createQueryParamsAppender(requestParamsVar);
+        for (Map.Entry<String, String> queryParam : requiredQueryParams) {
+            requestParamsBuilder
+                    .append("\n    ")
+                    .append(queryParamsAppender.append("'" + queryParam.getKey() + "'", queryParam.getValue()));
+        }
+        requestParamsBuilder.append(optionalQueryParamsBuilder);
     }
 
     protected String composeRequestOptions(
             String requestBodyVar, boolean isRequestBodyDefined, String httpMethod, String[] consumesContentType,
-            Optional<TSParameter> inputParam
+            Optional<TSParameter> inputParam, boolean isBinaryResponse
     ) {
         String requestOptions = "";
         List<String> requestOptionsList = new ArrayList<>();
-        if ((bodyIsAllowedInRequest(httpMethod)) && isRequestBodyDefined) {
-            addContentTypeHeader(consumesContentType, requestOptionsList);
-            requestOptionsList.add("body: " + modelSerializerExtension.generateSerializationCode(requestBodyVar, inputParam.get()));
+        List<String> headersList = new ArrayList<>();
+        boolean isBodySent = bodyIsAllowedInRequest(httpMethod) && isRequestBodyDefined;
+        if (isBodySent && inputParam.isPresent()) {
+            addContentTypeHeader(consumesContentType, headersList);
+        }
+        if (isBinaryResponse) {
+            headersList.add("'Accept': '" + modelSerializerExtension.getMediaType() + "'");
+        }
+        if (!headersList.isEmpty()) {
+            requestOptionsList.add("headers: {" + String.join(", ", headersList) + "}");
+        }
+        if (isBodySent) {
+            // multipart FormData is sent as it is, browser sets content type with parts boundary
+            String requestBody = inputParam.isPresent()
+                    ? modelSerializerExtension.generateSerializationCode(requestBodyVar, inputParam.get()) : requestBodyVar;
+            requestOptionsList.add("body: " + requestBody);
         }
 
         requestOptions += String.join(", ", requestOptionsList);
         return requestOptions;
     }
 
-    protected void addContentTypeHeader(String[] consumesContentType, List<String> requestOptionsList) {
+    protected void addContentTypeHeader(String[] consumesContentType, List<String> headersList) {
         String contentType = getContentType(consumesContentType);
-        String headers = "headers: {";
-        headers += "'Content-Type': '" + contentType + "'";
-        headers += "}";
-        requestOptionsList.add(headers);
+        headersList.add("'Content-Type': '" + contentType + "'");
     }
 
     @Override
@@ -167,6 +244,10 @@ public class FetchBasedImplementationGenerator extends BaseImplementationGenerat
             if (tsType == TypeMapper.tsVoid) {
                 return new TSInterfaceReference(promiseInterface, responseInterface);
             }
+            if (TypeMapper.isBlob(tsType) && streamBinaryResponses) {
+                TSInterfaceReference readableStream = new TSInterfaceReference(readableStreamInterface, uint8ArrayInterface);
+                return new TSInterfaceReference(promiseInterface, readableStream);
+            }
             return new TSInterfaceReference(promiseInterface, tsType);
         }
         return tsType;
@@ -0,0 +1,38 @@
+package com.blueveery.springrest2ts.spring;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.UnwrappingMappingAction;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * Registers mappings which unwrap asynchronous return types of Spring MVC and JAX-RS methods
+ * (and ResponseEntity nested in them) to their payload types
+ */
+public class AsyncReturnTypesConfigurator {
+    public static void configure(Rest2tsGenerator tsGenerator) {
+        configureJdkTypes(tsGenerator);
+        register(tsGenerator, DeferredResult.class);
+        register(tsGenerator, WebAsyncTask.class);
+        register(tsGenerator, ResponseEntity.class);
+        register(tsGenerator, HttpEntity.class);
+    }
+
+    public static void configureJdkTypes(Rest2tsGenerator tsGenerator) {
+        register(tsGenerator, CompletableFuture.class);
+        register(tsGenerator, CompletionStage.class);
+        register(tsGenerator, Future.class);
+        register(tsGenerator, Callable.class);
+    }
+
+    private static void register(Rest2tsGenerator tsGenerator, Class wrapperClass) {
+        tsGenerator.getCustomTypeMappingActions().put(wrapperClass, new UnwrappingMappingAction(wrapperClass));
+    }
+}
@@ -0,0 +1,26 @@
+package com.blueveery.springrest2ts.spring;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * Registers mappings of binary response types (Resource, StreamingResponseBody, DataBuffer) to Blob,
+ * for such methods implementation generators read response as Blob or stream instead of parsing it
+ */
+public class BinaryResponseTypesConfigurator {
+    private static final String STREAMING_RESPONSE_BODY_CLASS_NAME =
+            "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody";
+
+    public static void configure(Rest2tsGenerator tsGenerator) {
+        tsGenerator.getCustomTypeMappingForClassHierarchy().put(Resource.class, TypeMapper.tsBlob);
+        tsGenerator.getCustomTypeMappingForClassHierarchy().put(DataBuffer.class, TypeMapper.tsBlob);
+        try {
+            Class<?> streamingResponseBodyClass = Class.forName(STREAMING_RESPONSE_BODY_CLASS_NAME);
+            tsGenerator.getCustomTypeMappingForClassHierarchy().put(streamingResponseBodyClass, TypeMapper.tsBlob);
+        } catch (ClassNotFoundException e) {
+            // spring-webmvc is not on the classpath
+        }
+    }
+}
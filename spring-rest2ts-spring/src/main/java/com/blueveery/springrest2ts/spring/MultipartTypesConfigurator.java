@@ -0,0 +1,27 @@
+package com.blueveery.springrest2ts.spring;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Registers mappings of uploaded file types (MultipartFile, servlet Part, reactive FilePart) to Blob,
+ * parameters of such types and parameters marked with @RequestPart are sent by implementation generators as FormData
+ */
+public class MultipartTypesConfigurator {
+    private static final String[] SERVLET_PART_CLASS_NAMES = {"javax.servlet.http.Part", "jakarta.servlet.http.Part"};
+
+    public static void configure(Rest2tsGenerator tsGenerator) {
+        tsGenerator.getCustomTypeMappingForClassHierarchy().put(MultipartFile.class, TypeMapper.tsBlob);
+        tsGenerator.getCustomTypeMappingForClassHierarchy().put(FilePart.class, TypeMapper.tsBlob);
+        for (String servletPartClassName : SERVLET_PART_CLASS_NAMES) {
+            try {
+                Class<?> servletPartClass = Class.forName(servletPartClassName);
+                tsGenerator.getCustomTypeMappingForClassHierarchy().put(servletPartClass, TypeMapper.tsBlob);
+            } catch (ClassNotFoundException e) {
+                // servlet API is not on the classpath
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.blueveery.springrest2ts.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.views.ctrls.ArticleController;
+import com.blueveery.springrest2ts.converters.views.model.Article;
+import com.blueveery.springrest2ts.converters.views.model.ArticleDraft;
+import com.blueveery.springrest2ts.converters.views.model.Comment;
+import com.blueveery.springrest2ts.converters.views.model.Entity;
+import com.blueveery.springrest2ts.extensions.JsonDecodersSerializerExtension;
+import com.blueveery.springrest2ts.extensions.StandardJsonSerializerExtension;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonViewRestConversionExtensionTest {
+  protected Rest2tsGenerator tsGenerator;
+  protected JsonViewRestConversionExtension jsonViewExtension;
+  protected FetchBasedImplementationGenerator implementationGenerator;
+
+  @Before
+  public void setUp() {
+    tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Article.class, ArticleDraft.class, Comment.class, Entity.class));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(ArticleController.class));
+    JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+    objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+    implementationGenerator = new FetchBasedImplementationGenerator();
+    SpringRestToTsConverter restClassesConverter = new SpringRestToTsConverter(implementationGenerator);
+    jsonViewExtension = new JsonViewRestConversionExtension();
+    restClassesConverter.getConversionExtensionList().add(jsonViewExtension);
+    tsGenerator.setRestClassesConverter(restClassesConverter);
+  }
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String writeModule(SortedSet<TSModule> tsModules, String moduleNamePart) throws IOException {
+    TSModule tsModule = tsModules
+        .stream()
+        .filter(m -> m.getName().contains(moduleNamePart))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void viewAliasesPickPropertiesOfView() throws IOException {
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String modelModule = writeModule(tsModules, "model");
+    assertThat(modelModule).contains("export type ArticleSummaryView = Pick<Article, 'title' | 'id'>;");
+    assertThat(modelModule).contains("export type ArticleDetailsView = Pick<Article, 'content' | 'title' | 'id'>;");
+  }
+
+  @Test
+  public void methodsUseViewAliases() throws IOException {
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String ctrlsModule = writeModule(tsModules, "ctrls");
+    assertThat(ctrlsModule).contains("ArticleDetailsView");
+    assertThat(ctrlsModule).contains("getArticles(): Promise<ArticleSummaryView[]>");
+    assertThat(ctrlsModule).contains("getArticle(id: string): Promise<ArticleDetailsView>");
+    assertThat(ctrlsModule).contains("createArticle(article: ArticleSummaryView): Promise<Article>");
+  }
+
+  @Test
+  public void defaultViewInclusionAddsPropertiesWithoutView() throws IOException {
+    jsonViewExtension.setDefaultViewInclusion(true);
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String modelModule = writeModule(tsModules, "model");
+    assertThat(modelModule).contains("export type ArticleSummaryView = Pick<Article, 'internalNote' | 'title' | 'id'>;");
+  }
+
+  @Test
+  public void defaultViewIsTakenFromNarrowedClass() throws IOException {
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String modelModule = writeModule(tsModules, "model");
+    assertThat(modelModule).contains(
+        "export type ArticleDraftDetailsView = Pick<ArticleDraft, '@type' | 'reviewer' | 'content' | 'internalNote' | 'title' | 'id'>;"
+    );
+  }
+
+  @Test
+  public void typeIdIsPickedInEveryView() throws IOException {
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String modelModule = writeModule(tsModules, "model");
+    assertThat(modelModule).contains("export type ArticleDraftSummaryView = Pick<ArticleDraft, '@type' | 'title' | 'id'>;");
+  }
+
+  @Test
+  public void fullClassIsKeptForSerializersWithoutAliasSupport() throws IOException {
+    implementationGenerator.setSerializationExtension(new StandardJsonSerializerExtension() {
+      @Override
+      public boolean isModelTypeAliasSupported() {
+        return false;
+      }
+    });
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String ctrlsModule = writeModule(tsModules, "ctrls");
+    assertThat(ctrlsModule).contains("getArticles(): Promise<Article[]>");
+    assertThat(ctrlsModule).contains("createArticle(article: Article): Promise<Article>");
+    assertThat(ctrlsModule).doesNotContain("View");
+  }
+
+  @Test
+  public void viewAliasesKeepDecodingOfPickedElement() throws IOException {
+    implementationGenerator.setSerializationExtension(new JsonDecodersSerializerExtension());
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.converters.views"));
+    String modelModule = writeModule(tsModules, "model");
+    String ctrlsModule = writeModule(tsModules, "ctrls");
+    assertThat(modelModule).contains("export type CommentSummaryView = Pick<Comment, 'createdAt' | 'text' | 'id'>;");
+    assertThat(modelModule).contains("json.createdAt = new Date(json.createdAt);");
+    assertThat(ctrlsModule).contains("getComments(id: string): Promise<CommentSummaryView[]>");
+    assertThat(ctrlsModule).contains("getComments:(json: any) => json.map((e0: any) => decodeComment(e0))");
+  }
+}
@@ -0,0 +1,88 @@
+package com.blueveery.springrest2ts.converters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.extensions.model.Customer;
+import com.blueveery.springrest2ts.extensions.model.Envelope;
+import com.blueveery.springrest2ts.extensions.model.Order;
+import com.blueveery.springrest2ts.extensions.model.OrderLine;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeGuardsConversionListenerTest {
+  protected Rest2tsGenerator tsGenerator;
+  protected SortedSet<TSModule> tsModules;
+
+  @Before
+  public void setUp() throws IOException {
+    tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Order.class, OrderLine.class, Customer.class, Envelope.class));
+    tsGenerator.setRestClassesCondition(new RejectJavaTypeFilter());
+    JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+    objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+    ModelClassesToTsInterfacesConverter modelClassesConverter = new ModelClassesToTsInterfacesConverter(objectMapper);
+    JavaEnumToTsEnumConverter enumConverter = new JavaEnumToTsEnumConverter();
+    TypeGuardsConversionListener typeGuardsConversionListener = new TypeGuardsConversionListener();
+    modelClassesConverter.getConversionListener().getConversionListenerSet().add(typeGuardsConversionListener);
+    enumConverter.getConversionListener().getConversionListenerSet().add(typeGuardsConversionListener);
+    tsGenerator.setModelClassesConverter(modelClassesConverter);
+    tsGenerator.setEnumConverter(enumConverter);
+    tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.extensions"));
+  }
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String writeModule(String moduleNamePart) throws IOException {
+    TSModule tsModule = tsModules
+        .stream()
+        .filter(m -> m.getName().contains(moduleNamePart))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void typeGuardsAreGeneratedForModelClasses() throws IOException {
+    String modelModule = writeModule("model");
+    assertThat(modelModule).contains("export function isOrder(value: any): value is Order {");
+    assertThat(modelModule).contains("typeof value.name === 'string'");
+    assertThat(modelModule).contains("(value.createdAt instanceof Date || typeof value.createdAt === 'string')");
+    assertThat(modelModule).contains("(Array.isArray(value.lines) && value.lines.every((e0: any) => isOrderLine(e0)))");
+    assertThat(modelModule).contains("isCustomer(value.customer)");
+    assertThat(modelModule).contains("export function isCustomer(value: any): value is Customer {");
+  }
+
+  @Test
+  public void typeGuardsAreGeneratedForEnums() throws IOException {
+    String modelModule = writeModule("model");
+    assertThat(modelModule).contains("export function isOrderStatus(value: any): value is OrderStatus {");
+    assertThat(modelModule).contains("Object.keys(OrderStatus).some(key => isNaN(Number(key)) && (OrderStatus as any)[key] === value)");
+    assertThat(modelModule).doesNotContain("hasOwnProperty");
+    assertThat(modelModule).contains("isOrderStatus(value.status)");
+  }
+
+  @Test
+  public void genericTypeGuardsAcceptTypeParameterGuards() throws IOException {
+    String modelModule = writeModule("model");
+    assertThat(modelModule).contains("export function isEnvelope<T>(value: any, isT?: (value: any) => boolean): value is Envelope<T> {");
+    assertThat(modelModule).contains("(!isT || isT(value.content))");
+  }
+}
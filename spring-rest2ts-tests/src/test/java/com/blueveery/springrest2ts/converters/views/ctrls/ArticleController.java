@@ -0,0 +1,55 @@
+package com.blueveery.springrest2ts.converters.views.ctrls;
+
+import com.blueveery.springrest2ts.converters.views.model.Article;
+import com.blueveery.springrest2ts.converters.views.model.ArticleDraft;
+import com.blueveery.springrest2ts.converters.views.model.Comment;
+import com.blueveery.springrest2ts.converters.views.model.Views;
+import com.fasterxml.jackson.annotation.JsonView;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/article")
+public class ArticleController {
+
+    @GetMapping
+    @JsonView(Views.Summary.class)
+    public List<Article> getArticles() {
+        return null;
+    }
+
+    @GetMapping("{id}")
+    @JsonView(Views.Details.class)
+    public Article getArticle(@PathVariable String id) {
+        return null;
+    }
+
+    @PostMapping
+    public Article createArticle(@RequestBody @JsonView(Views.Summary.class) Article article) {
+        return null;
+    }
+
+    @GetMapping("draft/{id}")
+    @JsonView(Views.Summary.class)
+    public ArticleDraft getDraftSummary(@PathVariable String id) {
+        return null;
+    }
+
+    @GetMapping("draft/{id}/details")
+    @JsonView(Views.Details.class)
+    public ArticleDraft getDraft(@PathVariable String id) {
+        return null;
+    }
+
+    @GetMapping("{id}/comments")
+    @JsonView(Views.Summary.class)
+    public List<Comment> getComments(@PathVariable String id) {
+        return null;
+    }
+}
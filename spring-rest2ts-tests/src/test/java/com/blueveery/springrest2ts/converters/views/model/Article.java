@@ -0,0 +1,11 @@
+package com.blueveery.springrest2ts.converters.views.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+public class Article extends Entity {
+    @JsonView(Views.Summary.class)
+    String title;
+    @JsonView(Views.Details.class)
+    String content;
+    String internalNote;
+}
@@ -0,0 +1,10 @@
+package com.blueveery.springrest2ts.converters.views.model;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonView;
+
+@JsonView(Views.Details.class)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "@type")
+public class ArticleDraft extends Article {
+    String reviewer;
+}
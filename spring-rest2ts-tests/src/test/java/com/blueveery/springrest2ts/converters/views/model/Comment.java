@@ -0,0 +1,14 @@
+package com.blueveery.springrest2ts.converters.views.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import java.util.Date;
+
+public class Comment extends Entity {
+    @JsonView(Views.Summary.class)
+    String text;
+    @JsonView(Views.Summary.class)
+    Date createdAt;
+    @JsonView(Views.Details.class)
+    Date editedAt;
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.converters.views.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+public class Entity {
+    @JsonView(Views.Summary.class)
+    String id;
+}
@@ -0,0 +1,9 @@
+package com.blueveery.springrest2ts.converters.views.model;
+
+public class Views {
+    public interface Summary {
+    }
+
+    public interface Details extends Summary {
+    }
+}
@@ -0,0 +1,86 @@
+package com.blueveery.springrest2ts.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.extensions.ctrls.OrderController;
+import com.blueveery.springrest2ts.extensions.model.Customer;
+import com.blueveery.springrest2ts.extensions.model.Envelope;
+import com.blueveery.springrest2ts.extensions.model.Order;
+import com.blueveery.springrest2ts.extensions.model.OrderLine;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonDecodersSerializerExtensionTest {
+  protected Rest2tsGenerator tsGenerator;
+  protected SortedSet<TSModule> tsModules;
+
+  @Before
+  public void setUp() throws IOException {
+    tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Order.class, OrderLine.class, Customer.class, Envelope.class));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(OrderController.class));
+    JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+    objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+    FetchBasedImplementationGenerator implementationGenerator = new FetchBasedImplementationGenerator();
+    implementationGenerator.setSerializationExtension(new JsonDecodersSerializerExtension());
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.extensions"));
+  }
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String writeModule(String moduleNamePart) throws IOException {
+    TSModule tsModule = tsModules
+        .stream()
+        .filter(m -> m.getName().contains(moduleNamePart))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void decodersAreGeneratedOnlyForTypesWhichRequireDecoding() throws IOException {
+    String modelModule = writeModule("model");
+    assertThat(modelModule).contains("export function decodeOrder(json: any): Order {");
+    assertThat(modelModule).contains("json.createdAt = new Date(json.createdAt);");
+    assertThat(modelModule).contains("json.lines = json.lines.map((e0: any) => decodeOrderLine(e0));");
+    assertThat(modelModule).contains("export function decodeOrderLine(json: any): OrderLine {");
+    assertThat(modelModule).contains("export function decodeEnvelope<T>(json: any, decodeT?: (json: any) => T): Envelope<T> {");
+    assertThat(modelModule).doesNotContain("decodeCustomer");
+    assertThat(modelModule).doesNotContain("json.customer =");
+  }
+
+  @Test
+  public void responsesAreDecodedWithDecodersTable() throws IOException {
+    String ctrlsModule = writeModule("ctrls");
+    assertThat(ctrlsModule).contains("decodeEnvelope, decodeOrder");
+    assertThat(ctrlsModule).contains("getOrder:(json: any) => decodeOrder(json)");
+    assertThat(ctrlsModule).contains("getOrders:(json: any) => json.map((e0: any) => decodeOrder(e0))");
+    assertThat(ctrlsModule).contains("getEnvelope:(json: any) => decodeEnvelope(json, (e0: any) => decodeOrder(e0))");
+    assertThat(ctrlsModule).contains("OrderControllerDecoders.getOrder(JSON.parse(res))");
+    assertThat(ctrlsModule).doesNotContain("getCustomer:");
+  }
+}
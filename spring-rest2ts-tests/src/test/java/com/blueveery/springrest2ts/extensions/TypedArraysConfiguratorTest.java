@@ -0,0 +1,90 @@
+package com.blueveery.springrest2ts.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.converters.TypedArraysConfigurator;
+import com.blueveery.springrest2ts.extensions.ctrls.TimeSeriesController;
+import com.blueveery.springrest2ts.extensions.model.TimeSeries;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Test;
+
+public class TypedArraysConfiguratorTest {
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected SortedSet<TSModule> convert(boolean byteArraysAsUint8Array) throws IOException {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(TimeSeries.class));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(TimeSeriesController.class));
+    JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+    objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+    FetchBasedImplementationGenerator implementationGenerator = new FetchBasedImplementationGenerator();
+    implementationGenerator.setSerializationExtension(new JsonDecodersSerializerExtension());
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    TypedArraysConfigurator.configure(tsGenerator, byteArraysAsUint8Array);
+    return tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.extensions"));
+  }
+
+  protected String writeModule(SortedSet<TSModule> tsModules, String moduleNamePart) throws IOException {
+    TSModule tsModule = tsModules
+        .stream()
+        .filter(m -> m.getName().contains(moduleNamePart))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void primitiveArraysAreDecodedIntoTypedArrays() throws IOException {
+    String modelModule = writeModule(convert(true), "model");
+    assertThat(modelModule).contains("values: Float64Array;");
+    assertThat(modelModule).contains("counts: Int32Array;");
+    assertThat(modelModule).contains("checksum: Uint8Array;");
+    assertThat(modelModule).contains("json.values = new Float64Array(json.values);");
+    assertThat(modelModule).contains("json.counts = new Int32Array(json.counts);");
+    assertThat(modelModule).contains("json.checksum = Uint8Array.from(atob(json.checksum), (c: string) => c.charCodeAt(0));");
+  }
+
+  @Test
+  public void typedArraysAreEncodedInRequests() throws IOException {
+    String ctrlsModule = writeModule(convert(true), "ctrls");
+    assertThat(ctrlsModule).contains("getTimeSeries:(json: any) => decodeTimeSeries(json)");
+    assertThat(ctrlsModule).contains("body: JSON.stringify(timeSeries, (key: string, value: any) => value instanceof Uint8Array");
+  }
+
+  @Test
+  public void byteArrayIsMappedToBase64String() throws IOException {
+    String modelModule = writeModule(convert(false), "model");
+    assertThat(modelModule).contains("checksum: string;");
+    assertThat(modelModule).doesNotContain("json.checksum =");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void configurationFailsWithoutDecodersSerializer() {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new FetchBasedImplementationGenerator()));
+    TypedArraysConfigurator.configure(tsGenerator, true);
+  }
+}
@@ -0,0 +1,35 @@
+package com.blueveery.springrest2ts.extensions.ctrls;
+
+import com.blueveery.springrest2ts.extensions.model.Customer;
+import com.blueveery.springrest2ts.extensions.model.Envelope;
+import com.blueveery.springrest2ts.extensions.model.Order;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/order")
+public class OrderController {
+
+    @RequestMapping(value = "{id}", method = RequestMethod.GET)
+    public Order getOrder(String id) {
+        return new Order();
+    }
+
+    @RequestMapping(method = RequestMethod.GET)
+    public List<Order> getOrders() {
+        return null;
+    }
+
+    @RequestMapping(value = "customer", method = RequestMethod.GET)
+    public Customer getCustomer() {
+        return new Customer();
+    }
+
+    @RequestMapping(value = "envelope", method = RequestMethod.GET)
+    public Envelope<Order> getEnvelope() {
+        return new Envelope<>();
+    }
+}
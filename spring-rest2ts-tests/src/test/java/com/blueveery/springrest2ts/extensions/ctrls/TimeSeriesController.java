@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.extensions.ctrls;
+
+import com.blueveery.springrest2ts.extensions.model.TimeSeries;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/time-series")
+public class TimeSeriesController {
+
+    @RequestMapping(value = "{id}", method = RequestMethod.GET)
+    public TimeSeries getTimeSeries(String id) {
+        return new TimeSeries();
+    }
+
+    @RequestMapping(method = RequestMethod.POST)
+    public void saveTimeSeries(@RequestBody TimeSeries timeSeries) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.blueveery.springrest2ts.extensions.model;
+
+public class Envelope<T> {
+    T content;
+}
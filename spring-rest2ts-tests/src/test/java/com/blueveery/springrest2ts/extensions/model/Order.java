@@ -0,0 +1,12 @@
+package com.blueveery.springrest2ts.extensions.model;
+
+import java.util.Date;
+import java.util.List;
+
+public class Order {
+    String name;
+    Date createdAt;
+    List<OrderLine> lines;
+    Customer customer;
+    OrderStatus status;
+}
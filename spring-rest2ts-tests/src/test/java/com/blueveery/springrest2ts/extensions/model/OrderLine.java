@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.extensions.model;
+
+import java.util.Date;
+
+public class OrderLine {
+    int quantity;
+    Date shippedAt;
+}
@@ -0,0 +1,8 @@
+package com.blueveery.springrest2ts.extensions.model;
+
+public class TimeSeries {
+    String name;
+    double[] values;
+    int[] counts;
+    byte[] checksum;
+}
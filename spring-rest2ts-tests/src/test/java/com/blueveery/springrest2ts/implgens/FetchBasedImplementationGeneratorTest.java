@@ -0,0 +1,85 @@
+package com.blueveery.springrest2ts.implgens;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.converters.ctrls.ProductController;
+import com.blueveery.springrest2ts.extensions.CborModelSerializerExtension;
+import com.blueveery.springrest2ts.converters.enums.ProductType;
+import com.blueveery.springrest2ts.converters.enums.SingleResult;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FetchBasedImplementationGeneratorTest {
+  protected Rest2tsGenerator tsGenerator;
+  protected FetchBasedImplementationGenerator implementationGenerator;
+  protected Set<String> javaPackageSet;
+
+  @Before
+  public void setUp() {
+    tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(ProductType.class, SingleResult.class));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(ProductController.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    implementationGenerator = new FetchBasedImplementationGenerator();
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    javaPackageSet = new HashSet<>();
+    javaPackageSet.add("com.blueveery.springrest2ts.converters.enums");
+    javaPackageSet.add("com.blueveery.springrest2ts.converters.ctrls");
+  }
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String generateControllersModule() throws IOException {
+    SortedSet<TSModule> tsModules = tsGenerator.convert(javaPackageSet);
+    TSModule tsCtrlsModule = tsModules
+        .stream()
+        .filter(m -> m.getName().contains("ctrls"))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsCtrlsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void responseIsReadAsTextByDefault() throws IOException {
+    String moduleContent = generateControllersModule();
+    assertThat(moduleContent).contains(".then(res => res.text()).then(res =>  JSON.parse(res))");
+  }
+
+  @Test
+  public void responseIsReadAsJsonWhenEnabled() throws IOException {
+    implementationGenerator.setUseResponseJson(true);
+    String moduleContent = generateControllersModule();
+    assertThat(moduleContent).contains(".then(res => res.json());");
+    assertThat(moduleContent).doesNotContain("res.text()");
+  }
+
+  @Test
+  public void binarySerializerReadsResponseAsArrayBuffer() throws IOException {
+    implementationGenerator.setSerializationExtension(new CborModelSerializerExtension());
+    String moduleContent = generateControllersModule();
+    assertThat(moduleContent).contains("import {decode, encode} from 'cbor-x';");
+    assertThat(moduleContent).contains("headers: {'Accept': 'application/cbor'}");
+    assertThat(moduleContent).contains(".then(res => res.arrayBuffer()).then(res =>  decode(new Uint8Array(res)))");
+  }
+}
@@ -0,0 +1,71 @@
+package com.blueveery.springrest2ts.implgens;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+import com.blueveery.springrest2ts.implgens.ctrls.SearchController;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.SortedSet;
+import org.junit.After;
+import org.junit.Test;
+
+public class QueryParamsGenerationTest {
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String generateControllersModule(ImplementationGenerator implementationGenerator) throws IOException {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new RejectJavaTypeFilter());
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(SearchController.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    SortedSet<TSModule> tsModules = tsGenerator.convert(Collections.singleton("com.blueveery.springrest2ts.implgens.ctrls"));
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModules.first().write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void fetchQueryParamsAreAppendedDirectly() throws IOException {
+    String moduleContent = generateControllersModule(new FetchBasedImplementationGenerator());
+    assertThat(moduleContent).contains("url.searchParams.append('q', query);");
+    assertThat(moduleContent).contains("url.searchParams.append('page', page.toString());");
+    assertThat(moduleContent).contains("if (limit !== undefined && limit !== null) {\n      url.searchParams.append('limit', limit.toString());");
+    assertThat(moduleContent).doesNotContain("queryParamsList");
+  }
+
+  @Test
+  public void angularHttpParamsAreCreatedOnceFromObject() throws IOException {
+    String moduleContent = generateControllersModule(new Angular4ImplementationGenerator());
+    assertThat(moduleContent).contains("let params = new HttpParams({fromObject: {'q': query, 'page': page.toString()}});");
+    assertThat(moduleContent).contains("if (limit !== undefined && limit !== null) {\n      params = params.append('limit', limit.toString());");
+    assertThat(moduleContent).doesNotContain("queryParams[");
+  }
+
+  @Test
+  public void fetchRepeatedQueryParamNamesKeepAllValues() throws IOException {
+    String moduleContent = generateControllersModule(new FetchBasedImplementationGenerator());
+    assertThat(moduleContent).contains("url.searchParams.append('tag', firstTag);\n    url.searchParams.append('tag', secondTag);");
+  }
+
+  @Test
+  public void angularRepeatedQueryParamNamesKeepAllValues() throws IOException {
+    String moduleContent = generateControllersModule(new Angular4ImplementationGenerator());
+    assertThat(moduleContent).contains("new HttpParams({fromObject: {'tag': ([] as string[]).concat(firstTag, secondTag)}});");
+  }
+}
@@ -0,0 +1,21 @@
+package com.blueveery.springrest2ts.implgens.ctrls;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController()
+@RequestMapping("/search")
+public class SearchController {
+
+  @RequestMapping(method = RequestMethod.GET)
+  public String search(@RequestParam("q") String query, @RequestParam int page, @RequestParam(required = false) Integer limit) {
+    return "";
+  }
+
+  @RequestMapping(path = "/tags", method = RequestMethod.GET)
+  public String searchByTags(@RequestParam("tag") String firstTag, @RequestParam("tag") String secondTag) {
+    return "";
+  }
+}
@@ -0,0 +1,85 @@
+package com.blueveery.springrest2ts.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.spring.UploadController;
+import com.blueveery.springrest2ts.tests.model.Product;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GenerationReportTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  private Rest2tsGenerator createGenerator() {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Product.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(UploadController.class));
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new FetchBasedImplementationGenerator()));
+    return tsGenerator;
+  }
+
+  private Set<String> javaPackageSet() {
+    Set<String> javaPackageSet = new HashSet<>();
+    javaPackageSet.add(Product.class.getPackage().getName());
+    javaPackageSet.add(UploadController.class.getPackage().getName());
+    return javaPackageSet;
+  }
+
+  @Test
+  public void conversionPhasesAndCountersAreReported() throws IOException {
+    Rest2tsGenerator tsGenerator = createGenerator();
+    tsGenerator.convert(javaPackageSet());
+
+    GenerationReport report = tsGenerator.getGenerationReport();
+    assertThat(report.getPhases()).extracting(GenerationPhase::getName).startsWith(
+        "extensionsSetup", "classLoading", "filtering", "typeMappingSetup", "exploration",
+        "modulesMapping",
+        "preConverted:enum", "convertInheritance:enum", "convert:enum"
+    );
+    assertThat(report.getPhase("convert:rest")).isNotNull();
+    assertThat(report.getPhase("convert:rest").getWallTimeNanos()).isGreaterThanOrEqualTo(0);
+    assertThat(report.getPhase("convert:rest").getAllocatedBytes()).isGreaterThan(0);
+    assertThat(report.getCounter(GenerationReport.MODEL_CLASSES_ACCEPTED)).isEqualTo(1);
+    assertThat(report.getCounter(GenerationReport.REST_CLASSES_ACCEPTED)).isEqualTo(1);
+    assertThat(report.getCounter(GenerationReport.CLASSES_SCANNED)).isGreaterThan(2);
+    assertThat(report.getCounter(GenerationReport.TYPES_CREATED)).isGreaterThanOrEqualTo(2);
+    assertThat(report.getCounter(GenerationReport.METHODS_CREATED)).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  public void reportIsWrittenNextToGeneratedModules() throws IOException {
+    Rest2tsGenerator tsGenerator = createGenerator();
+    tsGenerator.setGenerationReportFileName("generation-report.json");
+    Path outputDir = temporaryFolder.getRoot().toPath();
+    tsGenerator.generate(javaPackageSet(), outputDir);
+
+    GenerationReport report = tsGenerator.getGenerationReport();
+    assertThat(report.getPhases()).extracting(GenerationPhase::getName).contains("write:springrest2ts-spring", "write:tests-model");
+    String json = new String(Files.readAllBytes(outputDir.resolve("generation-report.json")), StandardCharsets.UTF_8);
+    assertThat(json).contains("{\"name\": \"convert:model\", \"wallTimeNanos\": ");
+    assertThat(json).contains("\"restClassesAccepted\": 1");
+  }
+}
@@ -0,0 +1,54 @@
+package com.blueveery.springrest2ts.spring;
+
+import com.blueveery.springrest2ts.tests.model.Product;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+@RestController
+@RequestMapping("/async-product")
+public class AsyncProductController {
+
+    @RequestMapping(value = "future", method = RequestMethod.GET)
+    public CompletableFuture<Product> getFuture() {
+        return null;
+    }
+
+    @RequestMapping(value = "stage", method = RequestMethod.GET)
+    public CompletionStage<List<Product>> getStage() {
+        return null;
+    }
+
+    @RequestMapping(value = "deferred", method = RequestMethod.GET)
+    public DeferredResult<ResponseEntity<Product>> getDeferred() {
+        return null;
+    }
+
+    @RequestMapping(value = "callable", method = RequestMethod.GET)
+    public Callable<Product> getCallable() {
+        return null;
+    }
+
+    @RequestMapping(value = "task", method = RequestMethod.GET)
+    public WebAsyncTask<Product> getTask() {
+        return null;
+    }
+
+    @RequestMapping(value = "entity", method = RequestMethod.GET)
+    public ResponseEntity<CompletableFuture<Product>> getEntity() {
+        return null;
+    }
+
+    @RequestMapping(value = "void", method = RequestMethod.GET)
+    public CompletableFuture<Void> getVoid() {
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.blueveery.springrest2ts.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.tests.ComplexElementFinder;
+import com.blueveery.springrest2ts.tests.model.Product;
+import com.blueveery.springrest2ts.tsmodel.TSArray;
+import com.blueveery.springrest2ts.tsmodel.TSClass;
+import com.blueveery.springrest2ts.tsmodel.TSMethod;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncReturnTypesConfiguratorTest implements ComplexElementFinder {
+  protected Rest2tsGenerator tsGenerator;
+  protected Set<String> javaPackageSet;
+  protected TSClass controllerClass;
+
+  @Before
+  public void setUp() throws IOException {
+    tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Product.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(AsyncProductController.class));
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(new FetchBasedImplementationGenerator()));
+    AsyncReturnTypesConfigurator.configure(tsGenerator);
+    javaPackageSet = new HashSet<>();
+    javaPackageSet.add(Product.class.getPackage().getName());
+    javaPackageSet.add(AsyncProductController.class.getPackage().getName());
+    TSModule tsModule = tsGenerator
+        .convert(javaPackageSet)
+        .stream()
+        .filter(m -> m.getName().endsWith("spring"))
+        .findFirst()
+        .get();
+    controllerClass = (TSClass) findTSComplexElement(tsModule, AsyncProductController.class.getSimpleName());
+  }
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+    Rest2tsGenerator.getCustomTypeMappingActions().clear();
+  }
+
+  private TSMethod findMethod(String name) {
+    return controllerClass.getTsMethods().stream().filter(m -> name.equals(m.getName())).findFirst().get();
+  }
+
+  @Test
+  public void futuresAreUnwrapped() {
+    assertThat(findMethod("getFuture").getType()).isEqualTo(TypeMapper.map(Product.class));
+    assertThat(findMethod("getStage").getType()).isEqualTo(new TSArray(TypeMapper.map(Product.class)));
+    assertThat(findMethod("getCallable").getType()).isEqualTo(TypeMapper.map(Product.class));
+    assertThat(findMethod("getVoid").getType()).isEqualTo(TypeMapper.tsVoid);
+  }
+
+  @Test
+  public void springAsyncTypesAreUnwrapped() {
+    assertThat(findMethod("getDeferred").getType()).isEqualTo(TypeMapper.map(Product.class));
+    assertThat(findMethod("getTask").getType()).isEqualTo(TypeMapper.map(Product.class));
+    assertThat(findMethod("getEntity").getType()).isEqualTo(TypeMapper.map(Product.class));
+  }
+}
@@ -0,0 +1,87 @@
+package com.blueveery.springrest2ts.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.filters.RejectJavaTypeFilter;
+import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Test;
+
+public class BinaryResponseTypesConfiguratorTest {
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String generateControllerModule(ImplementationGenerator implementationGenerator) throws IOException {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new RejectJavaTypeFilter());
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(DownloadController.class));
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    BinaryResponseTypesConfigurator.configure(tsGenerator);
+    TSModule tsModule = tsGenerator
+        .convert(Collections.singleton(DownloadController.class.getPackage().getName()))
+        .stream()
+        .filter(m -> m.getName().endsWith("spring"))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void fetchReadsBinaryResponsesAsBlob() throws IOException {
+    String moduleContent = generateControllerModule(new FetchBasedImplementationGenerator());
+    assertThat(moduleContent).contains("getExport(): Promise<Blob>");
+    assertThat(moduleContent).contains("getReport(): Promise<Blob>");
+    assertThat(moduleContent).contains("getPdf(): Promise<Blob>");
+    assertThat(moduleContent).contains("getChecksum(): Promise<number[]>");
+    assertThat(moduleContent).contains("{method: 'GET'}).then(res => res.blob());");
+  }
+
+  @Test
+  public void fetchStreamsBinaryResponsesWhenEnabled() throws IOException {
+    FetchBasedImplementationGenerator implementationGenerator = new FetchBasedImplementationGenerator();
+    implementationGenerator.setStreamBinaryResponses(true);
+    String moduleContent = generateControllerModule(implementationGenerator);
+    assertThat(moduleContent).contains("getExport(): Promise<ReadableStream<Uint8Array> >");
+    assertThat(moduleContent).contains(".then(res => res.body as ReadableStream<Uint8Array>);");
+    assertThat(moduleContent).doesNotContain("res.blob()");
+  }
+
+  @Test
+  public void angularRequestsBlobResponseType() throws IOException {
+    String moduleContent = generateControllerModule(new Angular4ImplementationGenerator());
+    assertThat(moduleContent).contains("getReport(): Observable<Blob>");
+    assertThat(moduleContent).contains("return this.httpService.get('/download/report', {responseType: 'blob'});");
+    assertThat(moduleContent).doesNotContain("HttpEvent");
+  }
+
+  @Test
+  public void angularReportsDownloadProgressWhenEnabled() throws IOException {
+    Angular4ImplementationGenerator implementationGenerator = new Angular4ImplementationGenerator();
+    implementationGenerator.setReportDownloadProgress(true);
+    String moduleContent = generateControllerModule(implementationGenerator);
+    assertThat(moduleContent).contains("HttpEvent");
+    assertThat(moduleContent).contains("getReport(): Observable<HttpEvent<Blob> >");
+    assertThat(moduleContent).contains("{responseType: 'blob', observe: 'events', reportProgress: true}");
+  }
+}
@@ -0,0 +1,33 @@
+package com.blueveery.springrest2ts.spring;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/download")
+public class DownloadController {
+
+    @GetMapping("export")
+    public ResponseEntity<InputStreamResource> getExport() {
+        return null;
+    }
+
+    @GetMapping("report")
+    public Resource getReport() {
+        return null;
+    }
+
+    @GetMapping(value = "pdf", produces = "application/pdf")
+    public byte[] getPdf() {
+        return null;
+    }
+
+    @GetMapping(value = "checksum", produces = "application/json")
+    public byte[] getChecksum() {
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.blueveery.springrest2ts.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
+import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.FetchBasedImplementationGenerator;
+import com.blueveery.springrest2ts.implgens.ImplementationGenerator;
+import com.blueveery.springrest2ts.tests.model.Product;
+import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Test;
+
+public class MultipartTypesConfiguratorTest {
+
+  @After
+  public void cleanUp() {
+    TypeMapper.resetTypeMapping();
+  }
+
+  protected String generateControllerModule(ImplementationGenerator implementationGenerator) throws IOException {
+    Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+    tsGenerator.setModelClassesCondition(new JavaTypeSetFilter(Product.class));
+    tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(new JacksonObjectMapper()));
+    tsGenerator.setRestClassesCondition(new JavaTypeSetFilter(UploadController.class));
+    tsGenerator.setRestClassesConverter(new SpringRestToTsConverter(implementationGenerator));
+    MultipartTypesConfigurator.configure(tsGenerator);
+    Set<String> javaPackageSet = new HashSet<>();
+    javaPackageSet.add(Product.class.getPackage().getName());
+    javaPackageSet.add(UploadController.class.getPackage().getName());
+    TSModule tsModule = tsGenerator
+        .convert(javaPackageSet)
+        .stream()
+        .filter(m -> m.getName().endsWith("spring"))
+        .findFirst()
+        .get();
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter writer = new BufferedWriter(stringWriter);
+    tsModule.write(writer);
+    writer.flush();
+    return stringWriter.toString();
+  }
+
+  @Test
+  public void fetchSendsPartsAsFormData() throws IOException {
+    String moduleContent = generateControllerModule(new FetchBasedImplementationGenerator());
+    assertThat(moduleContent).contains("uploadProduct(image: Blob, product: Product): Promise<Product>");
+    assertThat(moduleContent).contains("const formData = new FormData();");
+    assertThat(moduleContent).contains("formData.append('image', image);");
+    assertThat(moduleContent).contains("formData.append('product', new Blob([JSON.stringify(product)], {type: 'application/json'}));");
+    assertThat(moduleContent).contains("{method: 'POST',body: formData})");
+    assertThat(moduleContent).doesNotContain("'Content-Type'");
+  }
+
+  @Test
+  public void fileArraysAndOptionalPartsAreAppended() throws IOException {
+    String moduleContent = generateControllerModule(new FetchBasedImplementationGenerator());
+    assertThat(moduleContent).contains("uploadFiles(files: Blob[], comment?: string)");
+    assertThat(moduleContent).contains("for (const part of files) {\n      formData.append('files', part);\n    }");
+    assertThat(moduleContent).contains("if (comment !== undefined && comment !== null) {\n      formData.append('comment', comment);\n    }");
+  }
+
+  @Test
+  public void angularReportsUploadProgressWhenEnabled() throws IOException {
+    Angular4ImplementationGenerator implementationGenerator = new Angular4ImplementationGenerator();
+    implementationGenerator.setReportUploadProgress(true);
+    String moduleContent = generateControllerModule(implementationGenerator);
+    assertThat(moduleContent).contains("import {HttpClient, HttpEvent, HttpEventType, HttpHeaders, HttpParams} from '@angular/common/http';");
+    assertThat(moduleContent).contains("uploadProduct(image: Blob, product: Product): Observable<HttpEvent<Product> >");
+    assertThat(moduleContent).contains(
+        "this.httpService.post('/upload/product', formData , {responseType: 'text', observe: 'events', reportProgress: true})"
+            + ".pipe(map(event => event.type === HttpEventType.Response ? event.clone({body: JSON.parse(event.body)}) : event as HttpEvent<any>));"
+    );
+    assertThat(moduleContent).contains("this.httpService.post<void>('/upload/files', formData , {observe: 'events', reportProgress: true});");
+  }
+}
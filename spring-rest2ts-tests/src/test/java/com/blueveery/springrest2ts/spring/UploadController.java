@@ -0,0 +1,25 @@
+package com.blueveery.springrest2ts.spring;
+
+import com.blueveery.springrest2ts.tests.model.Product;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/upload")
+public class UploadController {
+
+    @PostMapping("product")
+    public Product uploadProduct(@RequestPart("image") MultipartFile image, @RequestPart("product") Product product) {
+        return null;
+    }
+
+    @PostMapping("files")
+    public void uploadFiles(@RequestParam("files") List<MultipartFile> files, @RequestPart(required = false) String comment) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.blueveery.springrest2ts.watch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.blueveery.springrest2ts.Rest2tsGenerator;
+import com.blueveery.springrest2ts.converters.JacksonObjectMapper;
+import com.blueveery.springrest2ts.converters.ModelClassesToTsInterfacesConverter;
+import com.blueveery.springrest2ts.converters.TypeMapper;
+import com.blueveery.springrest2ts.filters.RegexpJavaTypeFilter;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class Rest2tsWatcherTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path sourcesDir;
+  private Path classesDir;
+  private Path outputDir;
+  private Rest2tsWatcher watcher;
+
+  @Before
+  public void setUp() throws IOException {
+    sourcesDir = temporaryFolder.newFolder("src").toPath();
+    classesDir = temporaryFolder.newFolder("classes").toPath();
+    outputDir = temporaryFolder.newFolder("ts").toPath();
+    compile("watch.model.Product", "public class Product { public String name; }");
+    compile("watch.shop.Store", "public class Store { public watch.model.Product product; }");
+    compile("watch.other.Note", "public class Note { public String text; }");
+
+    watcher = new Rest2tsWatcher(classLoader -> {
+      JacksonObjectMapper objectMapper = new JacksonObjectMapper();
+      objectMapper.setFieldsVisibility(JsonAutoDetect.Visibility.ANY);
+      Rest2tsGenerator tsGenerator = new Rest2tsGenerator();
+      tsGenerator.setModelClassesCondition(new RegexpJavaTypeFilter(".*"));
+      tsGenerator.setModelClassesConverter(new ModelClassesToTsInterfacesConverter(objectMapper));
+      return tsGenerator;
+    }, Collections.singleton("watch"), outputDir, Collections.singletonList(classesDir));
+  }
+
+  @After
+  public void cleanUp() throws IOException {
+    watcher.close();
+    TypeMapper.resetTypeMapping();
+  }
+
+  @Test
+  public void allModulesAreConvertedByDefault() throws IOException {
+    assertThat(watcher.isIncremental()).isFalse();
+    assertThat(watcher.generate(null)).hasSize(3);
+
+    compile("watch.model.Product", "public class Product { public String name; public int price; }");
+    List<Path> writtenFiles = watcher.generate(Collections.singleton("watch.model.Product"));
+
+    assertThat(watcher.getLastConvertedModules()).containsExactlyInAnyOrder("watch-model", "watch-shop", "watch-other");
+    assertThat(writtenFiles).containsExactly(outputDir.resolve("watch-model.ts"));
+    assertThat(read("watch-model.ts")).contains("price: number");
+  }
+
+  @Test
+  public void changedModulesAndTheirDependentsAreConverted() throws IOException {
+    watcher.setIncremental(true);
+    assertThat(watcher.generate(null)).hasSize(3);
+
+    compile("watch.model.Product", "public class Product { public String name; public int price; }");
+    List<Path> writtenFiles = watcher.generate(Collections.singleton("watch.model.Product"));
+
+    assertThat(watcher.getLastConvertedModules()).containsExactlyInAnyOrder("watch-model", "watch-shop");
+    assertThat(writtenFiles).containsExactly(outputDir.resolve("watch-model.ts"));
+    assertThat(read("watch-model.ts")).contains("price: number");
+  }
+
+  @Test
+  public void newClassesCauseFullConversionAndRemovedModulesAreDeleted() throws IOException {
+    watcher.setIncremental(true);
+    watcher.generate(null);
+
+    compile("watch.other.Extra", "public class Extra { public String value; }");
+    List<Path> writtenFiles = watcher.generate(Collections.singleton("watch.other.Extra"));
+    assertThat(watcher.getLastConvertedModules()).containsExactlyInAnyOrder("watch-model", "watch-shop", "watch-other");
+    assertThat(writtenFiles).containsExactly(outputDir.resolve("watch-other.ts"));
+    assertThat(read("watch-other.ts")).contains("Extra");
+
+    Files.delete(classesDir.resolve("watch/other/Extra.class"));
+    Files.delete(classesDir.resolve("watch/other/Note.class"));
+    watcher.generate(new HashSet<>(Arrays.asList("watch.other.Extra", "watch.other.Note")));
+    assertThat(outputDir.resolve("watch-other.ts")).doesNotExist();
+    assertThat(outputDir.resolve("watch-model.ts")).exists();
+  }
+
+  @Test
+  public void codeIsRegeneratedAfterClassFileChange() throws Exception {
+    watcher.setQuietPeriodMillis(100);
+    Thread watchThread = new Thread(() -> {
+      try {
+        watcher.watch();
+      } catch (IOException | InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    watchThread.start();
+    waitFor("watch-model.ts", "name: string");
+
+    compile("watch.model.Product", "public class Product { public String name; public String code; }");
+    waitFor("watch-model.ts", "code: string");
+
+    watcher.close();
+    watchThread.join(5000);
+    assertThat(watchThread.isAlive()).isFalse();
+  }
+
+  private void compile(String className, String classBody) throws IOException {
+    String packageName = className.substring(0, className.lastIndexOf('.'));
+    Path sourceFile = sourcesDir.resolve(className.replace('.', '/') + ".java");
+    Files.createDirectories(sourceFile.getParent());
+    Files.write(sourceFile, ("package " + packageName + "; " + classBody).getBytes(StandardCharsets.UTF_8));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int result = compiler.run(null, null, null, "-d", classesDir.toString(), "-sourcepath", sourcesDir.toString(), sourceFile.toString());
+    assertThat(result).isZero();
+  }
+
+  private String read(String moduleFileName) throws IOException {
+    return new String(Files.readAllBytes(outputDir.resolve(moduleFileName)), StandardCharsets.UTF_8);
+  }
+
+  private void waitFor(String moduleFileName, String content) throws Exception {
+    long deadline = System.currentTimeMillis() + 20000;
+    while (System.currentTimeMillis() < deadline) {
+      if (Files.exists(outputDir.resolve(moduleFileName)) && read(moduleFileName).contains(content)) {
+        return;
+      }
+      Thread.sleep(50);
+    }
+    throw new AssertionError(moduleFileName + " does not contain " + content);
+  }
+}
@@ -18,7 +18,11 @@ public class FluxMappingAction implements MappingAction {
     Type[] typeParameters = parameterizedType.getActualTypeArguments();
 
     if (typeParameters.length > 0) {
-      return new TSArray(TypeMapper.map(typeParameters[0]));
+      TSType itemType = TypeMapper.map(typeParameters[0]);
+      if (TypeMapper.isBlob(itemType)) {
+        return itemType;
+      }
+      return new TSArray(itemType);
     } else {
       return new TSArray(TypeMapper.tsObject);
     }
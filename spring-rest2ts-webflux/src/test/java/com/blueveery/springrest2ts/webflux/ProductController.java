@@ -1,6 +1,8 @@
 package com.blueveery.springrest2ts.webflux;
 
 import com.blueveery.springrest2ts.tests.model.Product;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,4 +22,9 @@ public class ProductController {
   public Flux<Product> getAll() {
     return Flux.just(new Product());
   }
-}
\ No newline at end of file
+
+  @RequestMapping(value = "{id}/image", method = RequestMethod.GET, produces = "application/octet-stream")
+  public Flux<DataBuffer> getImage(@PathVariable String id) {
+    return Flux.empty();
+  }
+}
@@ -9,13 +9,16 @@ import com.blueveery.springrest2ts.converters.SpringRestToTsConverter;
 import com.blueveery.springrest2ts.converters.TypeMapper;
 import com.blueveery.springrest2ts.filters.JavaTypeSetFilter;
 import com.blueveery.springrest2ts.implgens.Angular4ImplementationGenerator;
+import com.blueveery.springrest2ts.spring.BinaryResponseTypesConfigurator;
 import com.blueveery.springrest2ts.tests.ComplexElementFinder;
 import com.blueveery.springrest2ts.tests.model.Product;
 import com.blueveery.springrest2ts.tsmodel.TSArray;
 import com.blueveery.springrest2ts.tsmodel.TSClass;
 import com.blueveery.springrest2ts.tsmodel.TSMethod;
 import com.blueveery.springrest2ts.tsmodel.TSModule;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashSet;
 import java.util.Set;
 import org.junit.After;
@@ -90,4 +93,32 @@ public class WebFluxControllersMappingTest implements ComplexElementFinder {
         assertThat(getAllMethod.getType()).isEqualTo(new TSArray(TypeMapper.map(Product.class)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void fluxOfDataBuffersShouldBeReadAsBlob() throws IOException {
+        BinaryResponseTypesConfigurator.configure(tsGenerator);
+        TSModule tsModule = tsGenerator
+            .convert(javaPackageSet)
+            .stream()
+            .filter(m -> "springrest2ts-webflux".equals(m.getName()))
+            .findFirst()
+            .get();
+        TSClass controllerClass = (TSClass) findTSComplexElement(
+            tsModule,
+            ProductController.class.getSimpleName()
+        );
+
+        TSMethod getImageMethod = controllerClass
+            .getTsMethods()
+            .stream()
+            .filter(m -> "getImage".equals(m.getName()))
+            .findFirst()
+            .get();
+        assertThat(getImageMethod.getType()).isEqualTo(TypeMapper.tsBlob);
+
+        StringWriter stringWriter = new StringWriter();
+        BufferedWriter writer = new BufferedWriter(stringWriter);
+        tsModule.write(writer);
+        writer.flush();
+        assertThat(stringWriter.toString()).contains("getImage(id: string): Observable<Blob>").contains("responseType: 'blob'");
+    }
+}